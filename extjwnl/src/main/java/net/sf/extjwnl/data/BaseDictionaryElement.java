@@ -39,6 +39,6 @@ public abstract class BaseDictionaryElement implements DictionaryElement {
 
     private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        dictionary = Dictionary.getRestoreDictionary();
+        dictionary = Dictionary.getRestoreDictionary(in);
     }
 }
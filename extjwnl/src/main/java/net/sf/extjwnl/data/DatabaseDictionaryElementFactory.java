@@ -44,6 +44,24 @@ public interface DatabaseDictionaryElementFactory extends DictionaryElementFacto
             POS pos, long offset, ResultSet synset, ResultSet words, ResultSet pointers, ResultSet verbFrames)
             throws SQLException, JWNLException;
 
+    /**
+     * Create Synsets from rows in the database, for synsets at several offsets. Each result set is ordered by
+     * offset, which comes in its last column.
+     *
+     * @param pos        part of speech
+     * @param offsets    sorted distinct synset offsets
+     * @param synsets    synsets result set
+     * @param words      words result set
+     * @param pointers   pointers result set
+     * @param verbFrames verb frames result set
+     * @return synsets at the offsets, null where no synset exists
+     * @throws SQLException  SQLException
+     * @throws JWNLException JWNLException
+     */
+    Synset[] createSynsets(
+            POS pos, long[] offsets, ResultSet synsets, ResultSet words, ResultSet pointers, ResultSet verbFrames)
+            throws SQLException, JWNLException;
+
 
     /**
      * Create an Exc from a row in the database.
@@ -9,6 +9,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * An <code>IndexWord</code> represents a line of the <b>pos</b><code>.index</code> file.
@@ -34,13 +37,23 @@ public class IndexWord extends BaseDictionaryElement {
     /**
      * senses are initially stored as offsets, and paged in on demand.
      */
-    private volatile AtomicLongArray[] synsetOffsets;
+    private volatile long[] synsetOffsets;
     /**
      * This is null until getSenses has been called.
      */
     private transient SynsetList synsets = null;
 
+    /**
+     * Senses are loaded one by one by {@link #get(int)} and {@link #iterator()}, and all together by the other
+     * methods, which need all of them.
+     */
     private class SynsetList extends ArrayList<Synset> {
+
+        /**
+         * Senses loaded one by one, by position in synsetOffsets, until all senses are loaded.
+         */
+        private Synset[] loadedSynsets;
+
         private SynsetList() {
             super();
         }
@@ -50,6 +63,7 @@ public class IndexWord extends BaseDictionaryElement {
         }
 
         private void replaceSenses(Collection<Synset> senses) {
+            loadAllSynsets();
             super.clear();
             super.addAll(senses);
         }
@@ -110,6 +124,12 @@ public class IndexWord extends BaseDictionaryElement {
 
         @Override
         public Synset get(int index) {
+            if (null != synsetOffsets) {
+                Synset synset = loadSynset(index);
+                if (null != synset) {
+                    return synset;
+                }
+            }
             loadAllSynsets();
             return super.get(index);
         }
@@ -258,10 +278,48 @@ public class IndexWord extends BaseDictionaryElement {
 
         @Override
         public Iterator<Synset> iterator() {
-            loadAllSynsets();
+            if (null != synsetOffsets) {
+                return new SynsetIterator();
+            }
             return super.iterator();
         }
 
+        @Override
+        public void forEach(Consumer<? super Synset> action) {
+            loadAllSynsets();
+            super.forEach(action);
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Synset> filter) {
+            loadAllSynsets();
+            return super.removeIf(filter);
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<Synset> operator) {
+            loadAllSynsets();
+            super.replaceAll(operator);
+        }
+
+        @Override
+        public void sort(Comparator<? super Synset> c) {
+            loadAllSynsets();
+            super.sort(c);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            loadAllSynsets();
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            loadAllSynsets();
+            return super.hashCode();
+        }
+
         @Override
         public ListIterator<Synset> listIterator() {
             loadAllSynsets();
@@ -390,13 +448,75 @@ public class IndexWord extends BaseDictionaryElement {
             }
         }
 
+        /**
+         * Iterates over the senses by position, loading them one by one.
+         */
+        private class SynsetIterator implements Iterator<Synset> {
+
+            private int cursor;
+            private int lastReturned = -1;
+
+            @Override
+            public boolean hasNext() {
+                // senses without synsets are dropped by loading all senses
+                if (null != synsetOffsets && cursor < synsetOffsets.length && null == loadSynset(cursor)) {
+                    loadAllSynsets();
+                }
+                return cursor < size();
+            }
+
+            @Override
+            public Synset next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = cursor;
+                cursor++;
+                return get(lastReturned);
+            }
+
+            @Override
+            public void remove() {
+                if (-1 == lastReturned) {
+                    throw new IllegalStateException();
+                }
+                SynsetList.this.remove(lastReturned);
+                cursor = lastReturned;
+                lastReturned = -1;
+            }
+        }
+
+        /**
+         * Returns the sense at <var>index</var>, loading it if needed, or null, if there is no synset
+         * at its offset or if all senses are loaded.
+         */
+        private synchronized Synset loadSynset(int index) {
+            if (null == synsetOffsets) {
+                return null;
+            }
+            if (null == loadedSynsets) {
+                loadedSynsets = new Synset[synsetOffsets.length];
+            }
+            if (null == loadedSynsets[index]) {
+                try {
+                    loadedSynsets[index] = null == dictionary ? null : dictionary.getSynsetAt(pos, synsetOffsets[index]);
+                } catch (JWNLException e) {
+                    throw new JWNLRuntimeException(e);
+                }
+            }
+            return loadedSynsets[index];
+        }
+
         private void loadAllSynsets() {
             if (null != synsetOffsets) {
                 synchronized (this) {
                     if (null != synsetOffsets) {
                         super.ensureCapacity(synsetOffsets.length);
-                        for (long synsetOffset : synsetOffsets) {
-                            Synset synset = loadSynset(synsetOffset);
+                        Synset[] synsets = null == loadedSynsets ? new Synset[synsetOffsets.length] : loadedSynsets;
+                        loadSynsets(synsetOffsets, synsets);
+                        for (int i = 0; i < synsetOffsets.length; i++) {
+                            long synsetOffset = synsetOffsets[i];
+                            Synset synset = synsets[i];
                             if (null != synset) {
                                 super.add(synset);
                             } else {
@@ -408,14 +528,34 @@ public class IndexWord extends BaseDictionaryElement {
                             }
                         }
                         synsetOffsets = null;
+                        loadedSynsets = null;
                     }
                 }
             }
         }
 
-        private Synset loadSynset(long offset) {
+        /**
+         * Loads the senses missing from <var>synsets</var> together.
+         */
+        private void loadSynsets(long[] offsets, Synset[] synsets) {
+            if (null == dictionary) {
+                return;
+            }
+            int count = 0;
+            long[] missing = new long[offsets.length];
+            for (int i = 0; i < offsets.length; i++) {
+                if (null == synsets[i]) {
+                    missing[count++] = offsets[i];
+                }
+            }
             try {
-                return null == dictionary ? null : dictionary.getSynsetAt(pos, offset);
+                List<Synset> loaded = dictionary.getSynsetsAt(pos, Arrays.copyOf(missing, count));
+                count = 0;
+                for (int i = 0; i < offsets.length; i++) {
+                    if (null == synsets[i]) {
+                        synsets[i] = loaded.get(count++);
+                    }
+                }
             } catch (JWNLException e) {
                 throw new JWNLRuntimeException(e);
             }
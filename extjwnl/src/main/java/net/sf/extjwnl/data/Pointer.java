@@ -6,7 +6,7 @@ import net.sf.extjwnl.util.ResourceBundleSet;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * A <code>Pointer</code> encodes a lexical or semantic relationship between WordNet entities.  A lexical
@@ -148,15 +148,49 @@ public class Pointer implements Serializable {
      */
     public PointerTarget getTarget() throws JWNLException {
         if (null == target && null != source.getDictionary()) {
-            Synset syn = source.getDictionary().getSynsetAt(targetIndex.pos, targetIndex.offset);
-            target = (targetIndex.index == 0) ? syn : (null == syn ? null : syn.getWords().get(targetIndex.index - 1));
-            if (null != target && source.getDictionary().isEditable()) {
-                targetIndex = null;
-            }
+            resolveTarget(source.getDictionary().getSynsetAt(targetIndex.pos, targetIndex.offset));
         }
         return target;
     }
 
+    /**
+     * Resolves the targets of <var>pointers</var>, reading the target synsets of each part of speech together.
+     *
+     * @param pointers pointers
+     * @throws JWNLException JWNLException
+     */
+    static void resolveTargets(List<Pointer> pointers) throws JWNLException {
+        Map<POS, List<Pointer>> unresolved = null;
+        for (Pointer pointer : pointers) {
+            if (null == pointer.target && null != pointer.targetIndex && null != pointer.source.getDictionary()) {
+                if (null == unresolved) {
+                    unresolved = new EnumMap<>(POS.class);
+                }
+                unresolved.computeIfAbsent(pointer.targetIndex.pos, k -> new ArrayList<>()).add(pointer);
+            }
+        }
+        if (null != unresolved) {
+            for (Map.Entry<POS, List<Pointer>> entry : unresolved.entrySet()) {
+                List<Pointer> posPointers = entry.getValue();
+                long[] offsets = new long[posPointers.size()];
+                for (int i = 0; i < offsets.length; i++) {
+                    offsets[i] = posPointers.get(i).targetIndex.offset;
+                }
+                List<Synset> synsets = posPointers.get(0).source.getDictionary().getSynsetsAt(entry.getKey(), offsets);
+                for (int i = 0; i < offsets.length; i++) {
+                    posPointers.get(i).resolveTarget(synsets.get(i));
+                }
+            }
+        }
+    }
+
+    private void resolveTarget(Synset syn) {
+        target = (targetIndex.index == 0) ? syn : (null == syn ? null : syn.getWords().get(targetIndex.index - 1));
+        if (null != target && source.getDictionary().isEditable()) {
+            targetIndex = null;
+        }
+    }
+
     /**
      * Sets the actual target of this pointer.
      *
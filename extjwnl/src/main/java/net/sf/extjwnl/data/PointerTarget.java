@@ -88,6 +88,7 @@ public abstract class PointerTarget implements Serializable, Owned {
 	 * @throws JWNLException JWNLException
 	 */
 	private List<PointerTarget> collectTargets(List<Pointer> pointers) throws JWNLException {
+		Pointer.resolveTargets(pointers);
 		List<PointerTarget> targets = new ArrayList<>(pointers.size());
 		for (Pointer pointer : pointers) {
 			targets.add(pointer.getTarget());
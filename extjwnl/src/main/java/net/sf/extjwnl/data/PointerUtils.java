@@ -61,6 +61,17 @@ public abstract class PointerUtils {
 		return new PointerTargetTree(synset, makePointerTargetTreeList(synset, PointerType.HYPERNYM, depth));
 	}
 
+	/**
+	 * Returns a lazy depth-first traversal of the ancestors of <code>synset</code>, which produces the nodes
+	 * of {@link #getHypernymTree(Synset)} one at a time.
+	 *
+	 * @param synset synset
+	 * @return a traversal of the ancestors of <code>synset</code>
+	 */
+	public static PointerTargetTraversal getHypernymTraversal(Synset synset) {
+		return new PointerTargetTraversal(synset, PointerType.HYPERNYM);
+	}
+
 	/**
 	 * Returns the immediate children of <code>synset</code>.
 	 *
@@ -95,6 +106,17 @@ public abstract class PointerUtils {
 		return new PointerTargetTree(synset, makePointerTargetTreeList(synset, PointerType.HYPONYM, depth));
 	}
 
+	/**
+	 * Returns a lazy depth-first traversal of the children of <code>synset</code>, which produces the nodes
+	 * of {@link #getHyponymTree(Synset)} one at a time.
+	 *
+	 * @param synset synset
+	 * @return a traversal of the children of <code>synset</code>
+	 */
+	public static PointerTargetTraversal getHyponymTraversal(Synset synset) {
+		return new PointerTargetTraversal(synset, PointerType.HYPONYM);
+	}
+
 	/**
 	 * Returns <code>synset</code>'s siblings (the hyponyms of its hypernyms).
 	 *
@@ -103,6 +125,14 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetNodeList getCoordinateTerms(Synset synset) throws JWNLException {
+		PointerUtilsCache cache = getCache(synset);
+		if (null != cache) {
+			return cache.getNodeList(new PointerUtilsCache.Key("getCoordinateTerms", synset), () -> makeCoordinateTerms(synset));
+		}
+		return makeCoordinateTerms(synset);
+	}
+
+	private static PointerTargetNodeList makeCoordinateTerms(Synset synset) throws JWNLException {
 		PointerTargetNodeList list = new PointerTargetNodeList();
 		for (PointerTargetNode o : getDirectHypernyms(synset)) {
 			list.addAll(getPointerTargets(o.getSynset(), PointerType.HYPONYM));
@@ -141,6 +171,14 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetTree getExtendedAntonyms(Synset synset, int depth) throws JWNLException {
+		PointerUtilsCache cache = getCache(synset);
+		if (null != cache) {
+			return cache.getTree(new PointerUtilsCache.Key("getExtendedAntonyms", synset, depth), () -> makeExtendedAntonyms(synset, depth));
+		}
+		return makeExtendedAntonyms(synset, depth);
+	}
+
+	private static PointerTargetTree makeExtendedAntonyms(Synset synset, int depth) throws JWNLException {
 		PointerTargetTreeNodeList list = new PointerTargetTreeNodeList();
 		if (synset.getPOS() == POS.ADJECTIVE) {
 			PointerTargetNodeList antonyms = getAntonyms(synset);
@@ -169,6 +207,14 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetTree getIndirectAntonyms(Synset synset, int depth) throws JWNLException {
+		PointerUtilsCache cache = getCache(synset);
+		if (null != cache) {
+			return cache.getTree(new PointerUtilsCache.Key("getIndirectAntonyms", synset, depth), () -> makeIndirectAntonyms(synset, depth));
+		}
+		return makeIndirectAntonyms(synset, depth);
+	}
+
+	private static PointerTargetTree makeIndirectAntonyms(Synset synset, int depth) throws JWNLException {
 		PointerTargetTreeNodeList list = new PointerTargetTreeNodeList();
 		if (synset.getPOS() == POS.ADJECTIVE) {
 			PointerTargetNodeList synonyms = getSynonyms(synset);
@@ -282,11 +328,29 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetTree getInheritedMeronyms(Synset synset, int pointerDepth, int ancestorDepth) throws JWNLException {
+		return getInheritedMeronyms(synset, pointerDepth, ancestorDepth, false);
+	}
+
+	/**
+	 * Returns meronyms of each synset, to depth <code>pointerDepth</code> starting at
+	 * <code>synset</code> and going for all of <code>synset</code>'s ancestors to depth
+	 * <code>ancestorDepth</code>.
+	 * If <var>visitOnce</var> is true, each synset is visited once, see
+	 * {@link #makeInheritedTree(Synset, PointerType[], PointerType, int, int, boolean, boolean)}.
+	 *
+	 * @param synset        synset
+	 * @param ancestorDepth ancestor depth
+	 * @param pointerDepth  pointer depth
+	 * @param visitOnce     if true, each synset is visited once
+	 * @return meronyms
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTree getInheritedMeronyms(Synset synset, int pointerDepth, int ancestorDepth, boolean visitOnce) throws JWNLException {
 		PointerType[] types = new PointerType[3];
 		types[0] = PointerType.PART_MERONYM;
 		types[1] = PointerType.MEMBER_MERONYM;
 		types[2] = PointerType.SUBSTANCE_MERONYM;
-		return makeInheritedTree(synset, types, null, pointerDepth, ancestorDepth, false);
+		return makeInheritedTree(synset, types, null, pointerDepth, ancestorDepth, false, visitOnce);
 	}
 
 	/**
@@ -312,7 +376,25 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetTree getInheritedPartMeronyms(Synset synset, int pointerDepth, int ancestorDepth) throws JWNLException {
-		return makeInheritedTree(synset, PointerType.PART_MERONYM, null, pointerDepth, ancestorDepth);
+		return getInheritedPartMeronyms(synset, pointerDepth, ancestorDepth, false);
+	}
+
+	/**
+	 * Returns part meronyms of each synset, to depth <code>pointerDepth</code>, starting at
+	 * <code>synset</code> and going for all of <code>synset</code>'s ancestors to depth
+	 * <code>ancestorDepth</code>.
+	 * If <var>visitOnce</var> is true, each synset is visited once, see
+	 * {@link #makeInheritedTree(Synset, PointerType[], PointerType, int, int, boolean, boolean)}.
+	 *
+	 * @param synset        synset
+	 * @param ancestorDepth ancestor depth
+	 * @param pointerDepth  pointer depth
+	 * @param visitOnce     if true, each synset is visited once
+	 * @return part meronyms
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTree getInheritedPartMeronyms(Synset synset, int pointerDepth, int ancestorDepth, boolean visitOnce) throws JWNLException {
+		return makeInheritedTree(synset, PointerType.PART_MERONYM, null, pointerDepth, ancestorDepth, true, visitOnce);
 	}
 
 	/**
@@ -338,7 +420,25 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetTree getInheritedMemberMeronyms(Synset synset, int pointerDepth, int ancestorDepth) throws JWNLException {
-		return makeInheritedTree(synset, PointerType.MEMBER_MERONYM, null, pointerDepth, ancestorDepth);
+		return getInheritedMemberMeronyms(synset, pointerDepth, ancestorDepth, false);
+	}
+
+	/**
+	 * Returns member meronyms of each synset, to depth <code>pointerDepth</code>, starting at
+	 * <code>synset</code> and going for all of <code>synset</code>'s ancestors to depth
+	 * <code>ancestorDepth</code>.
+	 * If <var>visitOnce</var> is true, each synset is visited once, see
+	 * {@link #makeInheritedTree(Synset, PointerType[], PointerType, int, int, boolean, boolean)}.
+	 *
+	 * @param synset        synset
+	 * @param ancestorDepth ancestor depth
+	 * @param pointerDepth  pointer depth
+	 * @param visitOnce     if true, each synset is visited once
+	 * @return member meronyms
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTree getInheritedMemberMeronyms(Synset synset, int pointerDepth, int ancestorDepth, boolean visitOnce) throws JWNLException {
+		return makeInheritedTree(synset, PointerType.MEMBER_MERONYM, null, pointerDepth, ancestorDepth, true, visitOnce);
 	}
 
 	/**
@@ -364,7 +464,25 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetTree getInheritedSubstanceMeronyms(Synset synset, int pointerDepth, int ancestorDepth) throws JWNLException {
-		return makeInheritedTree(synset, PointerType.SUBSTANCE_MERONYM, null, pointerDepth, ancestorDepth);
+		return getInheritedSubstanceMeronyms(synset, pointerDepth, ancestorDepth, false);
+	}
+
+	/**
+	 * Returns substance meronyms of each synset, to depth <code>pointerDepth</code>, starting at
+	 * <code>synset</code> and going for all of <code>synset</code>'s ancestors to depth
+	 * <code>ancestorDepth</code>.
+	 * If <var>visitOnce</var> is true, each synset is visited once, see
+	 * {@link #makeInheritedTree(Synset, PointerType[], PointerType, int, int, boolean, boolean)}.
+	 *
+	 * @param synset        synset
+	 * @param ancestorDepth ancestor depth
+	 * @param pointerDepth  pointer depth
+	 * @param visitOnce     if true, each synset is visited once
+	 * @return substance meronyms
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTree getInheritedSubstanceMeronyms(Synset synset, int pointerDepth, int ancestorDepth, boolean visitOnce) throws JWNLException {
+		return makeInheritedTree(synset, PointerType.SUBSTANCE_MERONYM, null, pointerDepth, ancestorDepth, true, visitOnce);
 	}
 
 	/**
@@ -437,11 +555,28 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetTree getInheritedHolonyms(Synset synset, int pointerDepth, int ancestorDepth) throws JWNLException {
+		return getInheritedHolonyms(synset, pointerDepth, ancestorDepth, false);
+	}
+
+	/**
+	 * Returns holonyms of each synset, to depth <code>pointerDepth</code>, starting at <code>synset</code>
+	 * and going for all of <code>synset</code>'s ancestors to depth <code>ancestorDepth</code>.
+	 * If <var>visitOnce</var> is true, each synset is visited once, see
+	 * {@link #makeInheritedTree(Synset, PointerType[], PointerType, int, int, boolean, boolean)}.
+	 *
+	 * @param synset        synset
+	 * @param ancestorDepth ancestor depth
+	 * @param pointerDepth  pointer depth
+	 * @param visitOnce     if true, each synset is visited once
+	 * @return holonyms
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTree getInheritedHolonyms(Synset synset, int pointerDepth, int ancestorDepth, boolean visitOnce) throws JWNLException {
 		PointerType[] types = new PointerType[3];
 		types[0] = PointerType.PART_HOLONYM;
 		types[1] = PointerType.MEMBER_HOLONYM;
 		types[2] = PointerType.SUBSTANCE_HOLONYM;
-		return makeInheritedTree(synset, types, null, pointerDepth, ancestorDepth, false);
+		return makeInheritedTree(synset, types, null, pointerDepth, ancestorDepth, false, visitOnce);
 	}
 
 	/**
@@ -466,7 +601,24 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetTree getInheritedPartHolonyms(Synset synset, int pointerDepth, int ancestorDepth) throws JWNLException {
-		return makeInheritedTree(synset, PointerType.PART_HOLONYM, null, pointerDepth, ancestorDepth);
+		return getInheritedPartHolonyms(synset, pointerDepth, ancestorDepth, false);
+	}
+
+	/**
+	 * Returns part holonyms of each synset, to depth <code>pointerDepth</code>, starting at <code>synset</code>
+	 * and going for all of <code>synset</code>'s ancestors to depth <code>ancestorDepth</code>.
+	 * If <var>visitOnce</var> is true, each synset is visited once, see
+	 * {@link #makeInheritedTree(Synset, PointerType[], PointerType, int, int, boolean, boolean)}.
+	 *
+	 * @param synset        synset
+	 * @param pointerDepth  pointer depth
+	 * @param ancestorDepth ancestor depth
+	 * @param visitOnce     if true, each synset is visited once
+	 * @return part holonyms
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTree getInheritedPartHolonyms(Synset synset, int pointerDepth, int ancestorDepth, boolean visitOnce) throws JWNLException {
+		return makeInheritedTree(synset, PointerType.PART_HOLONYM, null, pointerDepth, ancestorDepth, true, visitOnce);
 	}
 
 	/**
@@ -491,7 +643,24 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetTree getInheritedMemberHolonyms(Synset synset, int pointerDepth, int ancestorDepth) throws JWNLException {
-		return makeInheritedTree(synset, PointerType.MEMBER_HOLONYM, null, pointerDepth, ancestorDepth);
+		return getInheritedMemberHolonyms(synset, pointerDepth, ancestorDepth, false);
+	}
+
+	/**
+	 * Returns member holonyms of each synset, to depth <code>pointerDepth</code>, starting at <code>synset</code>
+	 * and going for all of <code>synset</code>'s ancestors to depth <code>ancestorDepth</code>.
+	 * If <var>visitOnce</var> is true, each synset is visited once, see
+	 * {@link #makeInheritedTree(Synset, PointerType[], PointerType, int, int, boolean, boolean)}.
+	 *
+	 * @param synset        synset
+	 * @param pointerDepth  pointer depth
+	 * @param ancestorDepth ancestor depth
+	 * @param visitOnce     if true, each synset is visited once
+	 * @return member holonyms of each synset
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTree getInheritedMemberHolonyms(Synset synset, int pointerDepth, int ancestorDepth, boolean visitOnce) throws JWNLException {
+		return makeInheritedTree(synset, PointerType.MEMBER_HOLONYM, null, pointerDepth, ancestorDepth, true, visitOnce);
 	}
 
 	/**
@@ -516,7 +685,24 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetTree getInheritedSubstanceHolonyms(Synset synset, int pointerDepth, int ancestorDepth) throws JWNLException {
-		return makeInheritedTree(synset, PointerType.SUBSTANCE_HOLONYM, null, pointerDepth, ancestorDepth);
+		return getInheritedSubstanceHolonyms(synset, pointerDepth, ancestorDepth, false);
+	}
+
+	/**
+	 * Returns substance holonyms of each synset, to depth <code>pointerDepth</code>, starting at <code>synset</code>
+	 * and going for all of <code>synset</code>'s ancestors to depth <code>ancestorDepth</code>.
+	 * If <var>visitOnce</var> is true, each synset is visited once, see
+	 * {@link #makeInheritedTree(Synset, PointerType[], PointerType, int, int, boolean, boolean)}.
+	 *
+	 * @param synset        synset
+	 * @param pointerDepth  pointer depth
+	 * @param ancestorDepth ancestor depth
+	 * @param visitOnce     if true, each synset is visited once
+	 * @return substance holonyms
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTree getInheritedSubstanceHolonyms(Synset synset, int pointerDepth, int ancestorDepth, boolean visitOnce) throws JWNLException {
+		return makeInheritedTree(synset, PointerType.SUBSTANCE_HOLONYM, null, pointerDepth, ancestorDepth, true, visitOnce);
 	}
 
 	/**
@@ -595,6 +781,14 @@ public abstract class PointerUtils {
 	 * @throws JWNLException JWNLException
 	 */
 	public static PointerTargetNodeList getVerbGroup(Synset synset) throws JWNLException {
+		PointerUtilsCache cache = getCache(synset);
+		if (null != cache) {
+			return cache.getNodeList(new PointerUtilsCache.Key("getVerbGroup", synset), () -> makeVerbGroup(synset));
+		}
+		return makeVerbGroup(synset);
+	}
+
+	private static PointerTargetNodeList makeVerbGroup(Synset synset) throws JWNLException {
 		// We need to go through all this hassle because
 		// 1. a verb does not always have links to all the verbs in its group
 		// 2. two verbs in the same group sometimes have reciprocal links, and we want
@@ -677,6 +871,13 @@ public abstract class PointerUtils {
 		return new PointerTargetNodeList(synset.getTargets(type), type);
 	}
 
+	/**
+	 * Returns the result cache of the dictionary of <var>synset</var>, or null, if results are not cached.
+	 */
+	private static PointerUtilsCache getCache(Synset synset) {
+		return null == synset.getDictionary() ? null : synset.getDictionary().getPointerUtilsCache();
+	}
+
 	/**
 	 * Makes a nested list of pointer targets to the default depth, starting at <code>synset</code>. Each
 	 * level of the list is related to the previous level by a pointer of type <var>searchType</var>.
@@ -769,7 +970,47 @@ public abstract class PointerUtils {
 	public static PointerTargetTreeNodeList makePointerTargetTreeList(Synset synset, PointerType[] searchTypes,
 																	  PointerType labelType, int depth,
 																	  boolean allowRedundancies) throws JWNLException {
-		return makePointerTargetTreeList(synset, searchTypes, labelType, depth, allowRedundancies, null);
+		return makePointerTargetTreeList(synset, searchTypes, labelType, depth, allowRedundancies, false);
+	}
+
+	/**
+	 * Makes a nested list of pointer targets to depth <var>depth</var>, starting at <code>synset</code>. Each
+	 * level of the list is related to the previous level by one of the pointer types specified by
+	 * <var>searchTypes</var>. If <var>visitOnce</var> is true, the targets of each synset are listed once:
+	 * a synset reached again through another parent or through a cycle is added to the list of that parent,
+	 * but without children, so the list keeps all the links, but does not repeat the subtrees below them.
+	 * With a depth limit, a synset is expanded where it is first reached, which might be below its shortest path.
+	 *
+	 * @param searchTypes       the pointer types to include in the pointer lists
+	 * @param labelType         the type used to label each pointer target in the tree
+	 * @param depth             depth
+	 * @param allowRedundancies if true, duplicate items will be included in the tree
+	 * @param visitOnce         if true, the targets of each synset are listed once
+	 * @param synset            synset
+	 * @return a nested list of pointer targets to depth <var>depth</var>, starting at <code>synset</code>
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTreeNodeList makePointerTargetTreeList(Synset synset, PointerType[] searchTypes,
+																	  PointerType labelType, int depth,
+																	  boolean allowRedundancies, boolean visitOnce) throws JWNLException {
+		PointerUtilsCache cache = getCache(synset);
+		if (null != cache) {
+			return cache.getTreeList(new PointerUtilsCache.Key("makePointerTargetTreeList", synset, searchTypes, labelType,
+																depth, allowRedundancies, visitOnce),
+									 () -> buildPointerTargetTreeList(synset, searchTypes, labelType, depth, allowRedundancies, visitOnce));
+		}
+		return buildPointerTargetTreeList(synset, searchTypes, labelType, depth, allowRedundancies, visitOnce);
+	}
+
+	private static PointerTargetTreeNodeList buildPointerTargetTreeList(Synset synset, PointerType[] searchTypes,
+																		PointerType labelType, int depth,
+																		boolean allowRedundancies, boolean visitOnce) throws JWNLException {
+		Set<Synset> visited = null;
+		if (visitOnce) {
+			visited = new HashSet<>();
+			visited.add(synset);
+		}
+		return makePointerTargetTreeList(synset, searchTypes, labelType, depth, allowRedundancies, null, visited);
 	}
 
 	/**
@@ -821,7 +1062,8 @@ public abstract class PointerUtils {
 	private static PointerTargetTreeNodeList makePointerTargetTreeList(Synset synset, PointerType[] searchTypes,
 																	   PointerType labelType, int depth,
 																	   boolean allowRedundancies,
-																	   PointerTargetTreeNode parent) throws JWNLException {
+																	   PointerTargetTreeNode parent,
+																	   Set<Synset> visited) throws JWNLException {
 		depth--;
 		PointerTargetTreeNodeList list = new PointerTargetTreeNodeList();
 		for (PointerType type : searchTypes) {
@@ -856,9 +1098,10 @@ public abstract class PointerUtils {
 									break;
 								}
 							}
-							if (null == currentParent) {
+							// with visited synsets, each synset is expanded once
+							if (null == currentParent && (null == visited || visited.add(node.getSynset()))) {
 								node.setChildTreeList(makePointerTargetTreeList(node.getSynset(), searchTypes, labelType,
-																				depth, allowRedundancies, node));
+																				depth, allowRedundancies, node, visited));
 							}
 						}
 						list.add(node);
@@ -919,6 +1162,29 @@ public abstract class PointerUtils {
 		return makeInheritedTree(synset, searchTypes, labelType, pointerDepth, ancestorDepth, allowRedundancies);
 	}
 
+	/**
+	 * Creates a hypernym tree starting at <var>synset</var>, and add to each node a nested list pointer targets of type
+	 * <var>searchType</var>, starting at the node's pointer target. If <var>visitOnce</var> is true, each synset is
+	 * visited once, see {@link #makeInheritedTree(Synset, PointerType[], PointerType, int, int, boolean, boolean)}.
+	 *
+	 * @param searchType        pointer type
+	 * @param labelType         the type used to label each pointer target in the tree
+	 * @param pointerDepth      the depth to which to search for each pointer list
+	 * @param ancestorDepth     the depth to which to go to in the hypernym list
+	 * @param allowRedundancies if true, duplicate items are allowed in the list
+	 * @param visitOnce         if true, each synset is visited once
+	 * @param synset            synset
+	 * @return a hypernym tree starting at <var>synset</var>
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTree makeInheritedTree(Synset synset, PointerType searchType, PointerType labelType,
+													  int pointerDepth, int ancestorDepth, boolean allowRedundancies,
+													  boolean visitOnce) throws JWNLException {
+		PointerType[] searchTypes = new PointerType[1];
+		searchTypes[0] = searchType;
+		return makeInheritedTree(synset, searchTypes, labelType, pointerDepth, ancestorDepth, allowRedundancies, visitOnce);
+	}
+
 	/**
 	 * Creates a hypernym tree starting at <var>synset</var>, and add to each node a nested list pointer targets of
 	 * the types specified in <var>searchTypes</var>, starting at the node's pointer target. This method uses the
@@ -965,8 +1231,51 @@ public abstract class PointerUtils {
 	 */
 	public static PointerTargetTree makeInheritedTree(Synset synset, PointerType[] searchTypes, PointerType labelType,
 													  int pointerDepth, int ancestorDepth, boolean allowRedundancies) throws JWNLException {
-		PointerTargetTree hypernyms = getHypernymTree(synset, INFINITY);
-		return makeInheritedTree(hypernyms, searchTypes, labelType, pointerDepth, ancestorDepth, allowRedundancies);
+		return makeInheritedTree(synset, searchTypes, labelType, pointerDepth, ancestorDepth, allowRedundancies, false);
+	}
+
+	/**
+	 * Creates a hypernym tree starting at <var>synset</var>, and add to each node a nested list pointer targets of
+	 * the types specified in <var>searchTypes</var>, starting at the node's pointer target. If <var>visitOnce</var>
+	 * is true, each synset is visited once: an ancestor reached through several hypernyms is added under each of
+	 * them, but its hypernyms and its pointer list are listed once, and the pointer lists share visited synsets,
+	 * see {@link #makePointerTargetTreeList(Synset, PointerType[], PointerType, int, boolean, boolean)}.
+	 *
+	 * @param searchTypes       the pointer types to include in the pointer lists
+	 * @param labelType         the type used to label each pointer target in the tree
+	 * @param pointerDepth      the depth to which to search for each pointer list
+	 * @param ancestorDepth     the depth to which to go to in the hypernym list
+	 * @param allowRedundancies if true, duplicate items are allowed in the list
+	 * @param visitOnce         if true, each synset is visited once
+	 * @param synset            synset
+	 * @return hypernym tree starting at <var>synset</var>
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTree makeInheritedTree(Synset synset, PointerType[] searchTypes, PointerType labelType,
+													  int pointerDepth, int ancestorDepth, boolean allowRedundancies,
+													  boolean visitOnce) throws JWNLException {
+		PointerUtilsCache cache = getCache(synset);
+		if (null != cache) {
+			return cache.getTree(new PointerUtilsCache.Key("makeInheritedTree", synset, searchTypes, labelType, pointerDepth,
+														   ancestorDepth, allowRedundancies, visitOnce),
+								 () -> buildInheritedTree(synset, searchTypes, labelType, pointerDepth, ancestorDepth,
+														  allowRedundancies, visitOnce));
+		}
+		return buildInheritedTree(synset, searchTypes, labelType, pointerDepth, ancestorDepth, allowRedundancies, visitOnce);
+	}
+
+	private static PointerTargetTree buildInheritedTree(Synset synset, PointerType[] searchTypes, PointerType labelType,
+														int pointerDepth, int ancestorDepth, boolean allowRedundancies,
+														boolean visitOnce) throws JWNLException {
+		PointerTargetTree hypernyms;
+		if (visitOnce) {
+			hypernyms = new PointerTargetTree(synset, makePointerTargetTreeList(synset, new PointerType[]{PointerType.HYPERNYM},
+																				null, INFINITY, true, true));
+		}
+		else {
+			hypernyms = getHypernymTree(synset, INFINITY);
+		}
+		return makeInheritedTree(hypernyms, searchTypes, labelType, pointerDepth, ancestorDepth, allowRedundancies, visitOnce);
 	}
 
 	/**
@@ -984,10 +1293,37 @@ public abstract class PointerUtils {
 	public static PointerTargetTree makeInheritedTree(PointerTargetTree tree, PointerType[] searchTypes,
 													  PointerType labelType, int pointerDepth, int ancestorDepth,
 													  boolean allowRedundancies) throws JWNLException {
+		return makeInheritedTree(tree, searchTypes, labelType, pointerDepth, ancestorDepth, allowRedundancies, false);
+	}
+
+	/**
+	 * Turn an existing tree into an inheritance tree. If <var>visitOnce</var> is true, the pointer list of each
+	 * synset in <code>tree</code> is made once, and the pointer lists share visited synsets.
+	 *
+	 * @param tree              the tree to convert
+	 * @param searchTypes       the pointer types to include in the pointer lists
+	 * @param labelType         the type used to label each pointer target in the tree
+	 * @param pointerDepth      the depth to which to search for each pointer list
+	 * @param ancestorDepth     the depth to which to go to in <code>tree</code>
+	 * @param allowRedundancies if true, duplicate items are allowed in the list
+	 * @param visitOnce         if true, each synset is visited once
+	 * @return inheritance tree
+	 * @throws JWNLException JWNLException
+	 */
+	public static PointerTargetTree makeInheritedTree(PointerTargetTree tree, PointerType[] searchTypes,
+													  PointerType labelType, int pointerDepth, int ancestorDepth,
+													  boolean allowRedundancies, boolean visitOnce) throws JWNLException {
+		Set<Synset> ancestors = null;
+		Set<Synset> visited = null;
+		if (visitOnce) {
+			ancestors = new HashSet<>();
+			visited = new HashSet<>();
+		}
 		PointerTargetTreeNode root = tree.getRootNode();
-		root.setPointerTreeList(makePointerTargetTreeList(root.getSynset(), searchTypes, labelType, pointerDepth, allowRedundancies));
+		root.setPointerTreeList(makeInheritedPointerList(root.getSynset(), searchTypes, labelType, pointerDepth,
+														 allowRedundancies, ancestors, visited));
 		root.setChildTreeList(makeInheritedTreeList(root.getChildTreeList(), searchTypes, labelType, pointerDepth,
-													ancestorDepth, allowRedundancies));
+													ancestorDepth, allowRedundancies, ancestors, visited));
 		return new PointerTargetTree(root);
 	}
 
@@ -1007,6 +1343,15 @@ public abstract class PointerUtils {
 																  PointerType[] searchTypes, PointerType labelType,
 																  int pointerDepth, int ancestorDepth,
 																  boolean allowRedundancies) throws JWNLException {
+		return makeInheritedTreeList(list, searchTypes, labelType, pointerDepth, ancestorDepth, allowRedundancies, null, null);
+	}
+
+	private static PointerTargetTreeNodeList makeInheritedTreeList(PointerTargetTreeNodeList list,
+																   PointerType[] searchTypes, PointerType labelType,
+																   int pointerDepth, int ancestorDepth,
+																   boolean allowRedundancies,
+																   Set<Synset> ancestors,
+																   Set<Synset> visited) throws JWNLException {
 		ancestorDepth--;
 		PointerTargetTreeNodeList inherited = new PointerTargetTreeNodeList();
 		// AA: cycle with "period"...
@@ -1016,14 +1361,16 @@ public abstract class PointerUtils {
 					if (ancestorDepth == 0) {
 						inherited.add(node.getPointerTarget(),
 									  null,
-									  makePointerTargetTreeList(node.getSynset(), searchTypes, labelType, pointerDepth, allowRedundancies),
+									  makeInheritedPointerList(node.getSynset(), searchTypes, labelType, pointerDepth,
+															   allowRedundancies, ancestors, visited),
 									  PointerType.HYPERNYM);
 					}
 					else {
 						inherited.add(node.getPointerTarget(),
 									  makeInheritedTreeList(node.getChildTreeList(), searchTypes, labelType,
-															pointerDepth, ancestorDepth, allowRedundancies),
-									  makePointerTargetTreeList(node.getSynset(), searchTypes, labelType, pointerDepth, allowRedundancies),
+															pointerDepth, ancestorDepth, allowRedundancies, ancestors, visited),
+									  makeInheritedPointerList(node.getSynset(), searchTypes, labelType, pointerDepth,
+															   allowRedundancies, ancestors, visited),
 									  PointerType.HYPERNYM);
 					}
 				}
@@ -1031,4 +1378,18 @@ public abstract class PointerUtils {
 		}
 		return inherited;
 	}
+
+	/**
+	 * Makes the pointer list of an ancestor, or returns null, if the pointer list of the ancestor is already made.
+	 */
+	private static PointerTargetTreeNodeList makeInheritedPointerList(Synset synset, PointerType[] searchTypes,
+																	  PointerType labelType, int pointerDepth,
+																	  boolean allowRedundancies,
+																	  Set<Synset> ancestors,
+																	  Set<Synset> visited) throws JWNLException {
+		if (null != ancestors && !ancestors.add(synset)) {
+			return null;
+		}
+		return makePointerTargetTreeList(synset, searchTypes, labelType, pointerDepth, allowRedundancies, null, visited);
+	}
 }
\ No newline at end of file
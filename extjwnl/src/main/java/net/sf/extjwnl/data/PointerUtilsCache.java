@@ -0,0 +1,371 @@
+package net.sf.extjwnl.data;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.list.PointerTargetNode;
+import net.sf.extjwnl.data.list.PointerTargetNodeList;
+import net.sf.extjwnl.data.list.PointerTargetTree;
+import net.sf.extjwnl.data.list.PointerTargetTreeNode;
+import net.sf.extjwnl.data.list.PointerTargetTreeNodeList;
+import net.sf.extjwnl.util.cache.LRUCache;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of {@link PointerUtils} results, such as hypernym trees, inherited meronyms and holonyms and
+ * coordinate terms, keyed by operation, synset and operation arguments. A dictionary keeps a cache if the
+ * <var>pointer_utils_cache_size</var> parameter is set, see {@link net.sf.extjwnl.dictionary.Dictionary#getPointerUtilsCache()}.
+ * <p>
+ * Results are kept as immutable arrays of targets, types and links between nodes and lists, and each hit builds
+ * new lists and nodes, so callers can change the results they get. The least recently used results are
+ * removed once the cache is full.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class PointerUtilsCache {
+
+    /**
+     * Computes a result on a cache miss.
+     *
+     * @param <T> result type
+     */
+    public interface Operation<T> {
+
+        /**
+         * Computes the result.
+         *
+         * @return result
+         * @throws JWNLException JWNLException
+         */
+        T execute() throws JWNLException;
+    }
+
+    /**
+     * Operation, synset and arguments of a cached result.
+     */
+    public static final class Key {
+
+        private final String operation;
+        private final Synset synset;
+        private final Object[] arguments;
+        private final int hashCode;
+
+        /**
+         * Creates a key. Array arguments are copied, so that callers can reuse them.
+         *
+         * @param operation operation name
+         * @param synset    synset the operation starts at
+         * @param arguments other arguments of the operation, such as pointer types and depths
+         */
+        public Key(String operation, Synset synset, Object... arguments) {
+            this.operation = operation;
+            this.synset = synset;
+            this.arguments = (Object[]) copy(arguments);
+            this.hashCode = 31 * (31 * operation.hashCode() + synset.hashCode()) + Arrays.deepHashCode(this.arguments);
+        }
+
+        private static Object copy(Object argument) {
+            if (argument instanceof Object[]) {
+                Object[] result = ((Object[]) argument).clone();
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = copy(result[i]);
+                }
+                return result;
+            } else if (null != argument && argument.getClass().isArray()) {
+                int length = Array.getLength(argument);
+                Object result = Array.newInstance(argument.getClass().getComponentType(), length);
+                System.arraycopy(argument, 0, result, 0, length);
+                return result;
+            }
+            return argument;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hashCode == key.hashCode && operation.equals(key.operation) && synset.equals(key.synset)
+                    && Arrays.deepEquals(arguments, key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private final LRUCache<Key, Result> results;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a cache which holds at most <var>capacity</var> results.
+     *
+     * @param capacity the maximum number of results
+     */
+    public PointerUtilsCache(int capacity) {
+        results = new LRUCache<>(capacity);
+    }
+
+    /**
+     * Returns the list for <var>key</var>, executing <var>operation</var> if the list is not cached.
+     *
+     * @param key       key
+     * @param operation operation making the list
+     * @return a new copy of the list
+     * @throws JWNLException JWNLException
+     */
+    public PointerTargetNodeList getNodeList(Key key, Operation<PointerTargetNodeList> operation) throws JWNLException {
+        Result result = results.get(key);
+        if (null != result) {
+            hits.incrementAndGet();
+            return result.toNodeList();
+        }
+        misses.incrementAndGet();
+        PointerTargetNodeList list = operation.execute();
+        results.put(key, new Result(list));
+        return list;
+    }
+
+    /**
+     * Returns the tree list for <var>key</var>, executing <var>operation</var> if the list is not cached.
+     *
+     * @param key       key
+     * @param operation operation making the tree list
+     * @return a new copy of the tree list
+     * @throws JWNLException JWNLException
+     */
+    public PointerTargetTreeNodeList getTreeList(Key key, Operation<PointerTargetTreeNodeList> operation) throws JWNLException {
+        Result result = results.get(key);
+        if (null != result) {
+            hits.incrementAndGet();
+            return result.toTreeList();
+        }
+        misses.incrementAndGet();
+        PointerTargetTreeNodeList list = operation.execute();
+        results.put(key, new Result(null, list));
+        return list;
+    }
+
+    /**
+     * Returns the tree for <var>key</var>, executing <var>operation</var> if the tree is not cached.
+     *
+     * @param key       key
+     * @param operation operation making the tree
+     * @return a new copy of the tree
+     * @throws JWNLException JWNLException
+     */
+    public PointerTargetTree getTree(Key key, Operation<PointerTargetTree> operation) throws JWNLException {
+        Result result = results.get(key);
+        if (null != result) {
+            hits.incrementAndGet();
+            return result.toTree();
+        }
+        misses.incrementAndGet();
+        PointerTargetTree tree = operation.execute();
+        results.put(key, new Result(tree.getRootNode(), null));
+        return tree;
+    }
+
+    /**
+     * Returns the number of results found in the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of results computed because they were not in the cache.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the share of requests answered from the cache, 0 if there were no requests.
+     *
+     * @return hit rate
+     */
+    public double getHitRate() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return 0 == total ? 0 : (double) h / total;
+    }
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return the number of cached results
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Returns the maximum number of cached results.
+     *
+     * @return the maximum number of cached results
+     */
+    public long getCapacity() {
+        return results.getCapacity();
+    }
+
+    /**
+     * Removes all results and resets the statistics.
+     */
+    public void clear() {
+        results.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Immutable copy of a node list, a tree list or a tree. Each node has a target, a type, and indexes of
+     * its parent, child list and pointer list, -1 for none. Lists are ranges of node indexes. Nodes and lists
+     * which occur several times in the original are copied once, so copies share them in the same way.
+     */
+    private static final class Result {
+
+        private final PointerTarget[] targets;
+        private final PointerType[] types;
+        private final int[] parents;
+        private final int[] childLists;
+        private final int[] pointerLists;
+        private final int[] listStarts;
+        private final int[] listNodes;
+        // root node of a tree, or root list of a tree list, -1 for a node list
+        private final int root;
+
+        private Result(PointerTargetNodeList list) {
+            targets = new PointerTarget[list.size()];
+            types = new PointerType[list.size()];
+            int i = 0;
+            for (PointerTargetNode node : list) {
+                targets[i] = node.getPointerTarget();
+                types[i] = node.getType();
+                i++;
+            }
+            parents = null;
+            childLists = null;
+            pointerLists = null;
+            listStarts = null;
+            listNodes = null;
+            root = -1;
+        }
+
+        private Result(PointerTargetTreeNode rootNode, PointerTargetTreeNodeList rootList) {
+            Map<PointerTargetTreeNode, Integer> nodeIds = new IdentityHashMap<>();
+            List<PointerTargetTreeNode> nodes = new ArrayList<>();
+            Map<PointerTargetTreeNodeList, Integer> listIds = new IdentityHashMap<>();
+            List<PointerTargetTreeNodeList> lists = new ArrayList<>();
+            root = null == rootNode ? id(rootList, listIds, lists) : id(rootNode, nodeIds, nodes);
+            int nodeCount = 0;
+            int listCount = 0;
+            while (nodeCount < nodes.size() || listCount < lists.size()) {
+                for (; nodeCount < nodes.size(); nodeCount++) {
+                    PointerTargetTreeNode node = nodes.get(nodeCount);
+                    id(node.getParent(), nodeIds, nodes);
+                    id(node.getChildTreeList(), listIds, lists);
+                    id(node.getPointerTreeList(), listIds, lists);
+                }
+                for (; listCount < lists.size(); listCount++) {
+                    for (PointerTargetTreeNode node : lists.get(listCount)) {
+                        id(node, nodeIds, nodes);
+                    }
+                }
+            }
+
+            targets = new PointerTarget[nodes.size()];
+            types = new PointerType[nodes.size()];
+            parents = new int[nodes.size()];
+            childLists = new int[nodes.size()];
+            pointerLists = new int[nodes.size()];
+            for (int i = 0; i < nodes.size(); i++) {
+                PointerTargetTreeNode node = nodes.get(i);
+                targets[i] = node.getPointerTarget();
+                types[i] = node.getType();
+                parents[i] = id(node.getParent(), nodeIds, nodes);
+                childLists[i] = id(node.getChildTreeList(), listIds, lists);
+                pointerLists[i] = id(node.getPointerTreeList(), listIds, lists);
+            }
+            listStarts = new int[lists.size() + 1];
+            for (int i = 0; i < lists.size(); i++) {
+                listStarts[i + 1] = listStarts[i] + lists.get(i).size();
+            }
+            listNodes = new int[listStarts[lists.size()]];
+            int n = 0;
+            for (PointerTargetTreeNodeList list : lists) {
+                for (PointerTargetTreeNode node : list) {
+                    listNodes[n++] = nodeIds.get(node);
+                }
+            }
+        }
+
+        private static <E> int id(E element, Map<E, Integer> ids, List<E> elements) {
+            if (null == element) {
+                return -1;
+            }
+            Integer result = ids.get(element);
+            if (null == result) {
+                result = elements.size();
+                ids.put(element, result);
+                elements.add(element);
+            }
+            return result;
+        }
+
+        private PointerTargetNodeList toNodeList() {
+            PointerTargetNodeList result = new PointerTargetNodeList();
+            for (int i = 0; i < targets.length; i++) {
+                result.add(new PointerTargetNode(targets[i], types[i]));
+            }
+            return result;
+        }
+
+        private PointerTargetTreeNodeList[] toTreeLists(PointerTargetTreeNode[] nodes) {
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = new PointerTargetTreeNode(targets[i], types[i]);
+            }
+            PointerTargetTreeNodeList[] lists = new PointerTargetTreeNodeList[listStarts.length - 1];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = new PointerTargetTreeNodeList();
+                for (int n = listStarts[i]; n < listStarts[i + 1]; n++) {
+                    lists[i].add(nodes[listNodes[n]]);
+                }
+            }
+            for (int i = 0; i < nodes.length; i++) {
+                if (-1 != parents[i]) {
+                    nodes[i].setParent(nodes[parents[i]]);
+                }
+                if (-1 != childLists[i]) {
+                    nodes[i].setChildTreeList(lists[childLists[i]]);
+                }
+                if (-1 != pointerLists[i]) {
+                    nodes[i].setPointerTreeList(lists[pointerLists[i]]);
+                }
+            }
+            return lists;
+        }
+
+        private PointerTargetTreeNodeList toTreeList() {
+            return toTreeLists(new PointerTargetTreeNode[targets.length])[root];
+        }
+
+        private PointerTargetTree toTree() {
+            PointerTargetTreeNode[] nodes = new PointerTargetTreeNode[targets.length];
+            toTreeLists(nodes);
+            return new PointerTargetTree(nodes[root]);
+        }
+    }
+}
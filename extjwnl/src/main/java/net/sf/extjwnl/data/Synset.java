@@ -56,6 +56,11 @@ public class Synset extends PointerTarget implements DictionaryElement {
      */
     private long lexFileNum;
 
+    /**
+     * Pointers grouped by type and by source word, rebuilt after pointers or words change.
+     */
+    private transient volatile PointerSlices slices;
+
     //for access control and updates
     private class PointerList extends ArrayList<Pointer> {
 
@@ -63,6 +68,9 @@ public class Synset extends PointerTarget implements DictionaryElement {
 
         private volatile boolean checkingPointers = false;
 
+        // counts replacements, which do not change modCount
+        private transient int replaced;
+
         private PointerList() {
         }
 
@@ -126,6 +134,8 @@ public class Synset extends PointerTarget implements DictionaryElement {
             Pointer old = get(index);
 
             Pointer result = super.set(index, pointer);
+            replaced++;
+            changed();
 
             // check symmetries and update if necessary
             if (null != dictionary && dictionary.isEditable() && dictionary.getManageSymmetricPointers()) {
@@ -141,6 +151,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
         public boolean add(Pointer pointer) {
             checkPointerIsNotNull(pointer);
             boolean result = super.add(pointer);
+            changed();
 
             if (null != dictionary && dictionary.isEditable() && dictionary.getManageSymmetricPointers()) {
                 addSymmetricPointerToTarget(pointer);
@@ -153,6 +164,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
         public void add(int index, Pointer pointer) {
             checkPointerIsNotNull(pointer);
             super.add(index, pointer);
+            changed();
 
             if (null != dictionary && dictionary.isEditable() && dictionary.getManageSymmetricPointers()) {
                 addSymmetricPointerToTarget(pointer);
@@ -184,6 +196,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
         @Override
         public Pointer remove(int index) {
             Pointer result = super.remove(index);
+            changed();
             if (null != dictionary && dictionary.isEditable() && dictionary.getManageSymmetricPointers()) {
                 deleteSymmetricPointerFromTarget(result);
             }
@@ -193,6 +206,9 @@ public class Synset extends PointerTarget implements DictionaryElement {
         @Override
         public boolean remove(Object o) {
             boolean result = super.remove(o);
+            if (result) {
+                changed();
+            }
             if (result && null != dictionary && dictionary.isEditable() && dictionary.getManageSymmetricPointers() && o instanceof Pointer) {
                 Pointer pointer = (Pointer) o;
                 deleteSymmetricPointerFromTarget(pointer);
@@ -205,6 +221,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
             if (null != dictionary && dictionary.isEditable()) {
                 List<Pointer> copy = new ArrayList<>(this);
                 super.clear();
+                changed();
                 if (dictionary.getManageSymmetricPointers()) {
                     for (Pointer pointer : copy) {
                         deleteSymmetricPointerFromTarget(pointer);
@@ -220,6 +237,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
             if (null != dictionary && dictionary.isEditable()) {
                 List<Pointer> copy = new ArrayList<>(super.subList(fromIndex, toIndex));
                 super.removeRange(fromIndex, toIndex);
+                changed();
                 for (Pointer pointer : copy) {
                     deleteSymmetricPointerFromTarget(pointer);
                 }
@@ -263,6 +281,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
             if (dictionary != null && dictionary.isEditable()) {
                 List<Pointer> copy = new ArrayList<>(this);
                 boolean result = super.removeAll(c);
+                changed();
                 deleteSymmetricPointersFromTarget(c, copy);
                 return result;
             } else {
@@ -286,6 +305,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
             if (null != dictionary && dictionary.isEditable()) {
                 List<Pointer> copy = new ArrayList<>(this);
                 boolean result = super.retainAll(c);
+                changed();
                 if (dictionary.getManageSymmetricPointers()) {
                     for (Pointer pointer : copy) {
                         if (!c.contains(pointer)) {
@@ -377,12 +397,19 @@ public class Synset extends PointerTarget implements DictionaryElement {
                 }
             }
         }
+
+        private int getVersion() {
+            return modCount + replaced;
+        }
     }
 
     private class WordList extends ArrayList<Word> {
 
         private static final long serialVersionUID = 5L;
 
+        // counts replacements, which do not change modCount
+        private transient int replaced;
+
         private WordList() {
         }
 
@@ -392,13 +419,17 @@ public class Synset extends PointerTarget implements DictionaryElement {
             if (null != dictionary && dictionary.isEditable()) {
                 checkDictionaryIsOurs(word);
                 Word result = super.set(index, word);
+                replaced++;
+                changed();
                 if (null != result) {
                     removeThisSynsetFromIndexWords(result);
                 }
                 addToIndexWords(word);
                 return result;
             } else {
-                return super.set(index, word);
+                Word result = super.set(index, word);
+                replaced++;
+                return result;
             }
         }
 
@@ -419,6 +450,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
             if (null != dictionary && dictionary.isEditable()) {
                 checkDictionaryIsOurs(word);
                 super.add(index, word);
+                changed();
                 addToIndexWords(word);
             } else {
                 super.add(index, word);
@@ -465,6 +497,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
         public Word remove(int index) {
             if (null != dictionary && dictionary.isEditable()) {
                 Word result = super.remove(index);
+                changed();
                 removeThisSynsetFromIndexWords(result);
                 return result;
             } else {
@@ -477,6 +510,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
             if (null != dictionary && dictionary.isEditable()) {
                 boolean result = super.remove(o);
                 if (result && o instanceof Word) {
+                    changed();
                     removeThisSynsetFromIndexWords((Word) o);
                 }
                 return result;
@@ -490,6 +524,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
             if (null != dictionary && dictionary.isEditable()) {
                 List<Word> copy = new ArrayList<>(this);
                 super.clear();
+                changed();
                 for (Word word : copy) {
                     removeThisSynsetFromIndexWords(word);
                 }
@@ -503,6 +538,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
             if (null != dictionary && dictionary.isEditable()) {
                 List<Word> copy = new ArrayList<>(subList(fromIndex, toIndex));
                 super.removeRange(fromIndex, toIndex);
+                changed();
                 for (Word word : copy) {
                     removeThisSynsetFromIndexWords(word);
                 }
@@ -556,6 +592,125 @@ public class Synset extends PointerTarget implements DictionaryElement {
                 }
             }
         }
+
+        private int getVersion() {
+            return modCount + replaced;
+        }
+    }
+
+    /**
+     * Read-only view of a range of a pointer array.
+     */
+    private static class PointerSlice extends AbstractList<Pointer> implements RandomAccess {
+
+        private final Pointer[] pointers;
+        private final int from;
+        private final int to;
+
+        private PointerSlice(Pointer[] pointers, int from, int to) {
+            this.pointers = pointers;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Pointer get(int index) {
+            if (index < 0 || from + index >= to) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return pointers[from + index];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    /**
+     * Pointers of a synset grouped by type and by source word, keeping their order within a group.
+     * Hypernym and hyponym groups include instance hypernyms and instance hyponyms,
+     * as in {@link PointerTarget#getPointers(PointerType)}.
+     */
+    private static class PointerSlices {
+
+        private static final PointerType[] TYPES = PointerType.values();
+
+        private final int pointerVersion;
+        private final int wordVersion;
+
+        // views of pointers of type t and of pointers from the word n (1-based), null for empty ones
+        private final List<Pointer>[] byType;
+        private final List<Pointer>[] byWord;
+
+        @SuppressWarnings("unchecked")
+        private PointerSlices(PointerList pointers, WordList words) {
+            pointerVersion = pointers.getVersion();
+            wordVersion = words.getVersion();
+
+            int[] typeStarts = new int[TYPES.length + 1];
+            int[] wordStarts = new int[words.size() + 2];
+            int[] sources = new int[pointers.size()];
+            for (int i = 0; i < pointers.size(); i++) {
+                Pointer pointer = pointers.get(i);
+                typeStarts[pointer.getType().ordinal() + 1]++;
+                if (PointerType.INSTANCE_HYPERNYM == pointer.getType()) {
+                    typeStarts[PointerType.HYPERNYM.ordinal() + 1]++;
+                } else if (PointerType.INSTANCES_HYPONYM == pointer.getType()) {
+                    typeStarts[PointerType.HYPONYM.ordinal() + 1]++;
+                }
+                sources[i] = pointer.getSource() instanceof Word ? words.indexOf(pointer.getSource()) + 1 : 0;
+                wordStarts[sources[i] + 1]++;
+            }
+            for (int i = 1; i < typeStarts.length; i++) {
+                typeStarts[i] = typeStarts[i] + typeStarts[i - 1];
+            }
+            for (int i = 1; i < wordStarts.length; i++) {
+                wordStarts[i] = wordStarts[i] + wordStarts[i - 1];
+            }
+
+            Pointer[] typed = new Pointer[typeStarts[TYPES.length]];
+            Pointer[] sourced = new Pointer[pointers.size()];
+            int[] nextType = Arrays.copyOf(typeStarts, typeStarts.length);
+            int[] nextWord = Arrays.copyOf(wordStarts, wordStarts.length);
+            for (int i = 0; i < pointers.size(); i++) {
+                Pointer pointer = pointers.get(i);
+                typed[nextType[pointer.getType().ordinal()]++] = pointer;
+                if (PointerType.INSTANCE_HYPERNYM == pointer.getType()) {
+                    typed[nextType[PointerType.HYPERNYM.ordinal()]++] = pointer;
+                } else if (PointerType.INSTANCES_HYPONYM == pointer.getType()) {
+                    typed[nextType[PointerType.HYPONYM.ordinal()]++] = pointer;
+                }
+                sourced[nextWord[sources[i]]++] = pointer;
+            }
+
+            byType = new List[TYPES.length];
+            for (int i = 0; i < byType.length; i++) {
+                if (typeStarts[i] < typeStarts[i + 1]) {
+                    byType[i] = new PointerSlice(typed, typeStarts[i], typeStarts[i + 1]);
+                }
+            }
+            byWord = new List[wordStarts.length - 1];
+            for (int i = 1; i < byWord.length; i++) {
+                if (wordStarts[i] < wordStarts[i + 1]) {
+                    byWord[i] = new PointerSlice(sourced, wordStarts[i], wordStarts[i + 1]);
+                }
+            }
+        }
+
+        private boolean isCurrent(PointerList pointers, WordList words) {
+            return pointerVersion == pointers.getVersion() && wordVersion == words.getVersion();
+        }
+
+        private List<Pointer> getPointers(PointerType type) {
+            List<Pointer> result = byType[type.ordinal()];
+            return null == result ? Collections.<Pointer>emptyList() : result;
+        }
+
+        private List<Pointer> getPointers(int wordIndex) {
+            List<Pointer> result = 0 < wordIndex && wordIndex < byWord.length ? byWord[wordIndex] : null;
+            return null == result ? Collections.<Pointer>emptyList() : result;
+        }
     }
 
     public Synset(Dictionary dictionary, POS pos) throws JWNLException {
@@ -637,6 +792,67 @@ public class Synset extends PointerTarget implements DictionaryElement {
         return pointers;
     }
 
+    /**
+     * Returns all pointers of type <var>type</var> as a read-only view. Pointers are grouped
+     * by type once and regrouped only after the pointers or words of this synset change.
+     * The view is shared and does not follow later changes, copy it to change it or to keep it across edits,
+     * and change pointers through {@link #getPointers()}.
+     *
+     * @param type pointer type
+     * @return all pointers of type <var>type</var>
+     */
+    @Override
+    public List<Pointer> getPointers(PointerType type) {
+        return getPointerSlices().getPointers(type);
+    }
+
+    /**
+     * Returns the pointers whose source is <var>word</var> as a read-only view,
+     * shared in the same way as {@link #getPointers(PointerType)}.
+     *
+     * @param word word of this synset
+     * @return the pointers whose source is <var>word</var>
+     */
+    public List<Pointer> getPointers(Word word) {
+        int index = words.indexOf(word);
+        if (-1 == index) {
+            List<Pointer> result = new ArrayList<>(0);
+            for (Pointer pointer : pointers) {
+                if (word.equals(pointer.getSource())) {
+                    result.add(pointer);
+                }
+            }
+            return result;
+        }
+        return getPointerSlices().getPointers(index + 1);
+    }
+
+    private PointerSlices getPointerSlices() {
+        // drop alien pointers before grouping, this changes the list
+        pointers.checkPointers();
+        PointerSlices result = slices;
+        if (null == result || !result.isCurrent(pointers, words)) {
+            result = new PointerSlices(pointers, words);
+            slices = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns pointers of type <var>type</var> from other synsets or their words to this synset or its words.
+     * Pointers are found using the incoming pointer index of the dictionary, built on first use.
+     *
+     * @param type pointer type
+     * @return pointers of type <var>type</var> to this synset or its words
+     * @throws JWNLException JWNLException
+     */
+    public List<Pointer> getIncomingPointers(PointerType type) throws JWNLException {
+        if (null == dictionary) {
+            return Collections.emptyList();
+        }
+        return dictionary.getIncomingPointers(this, type);
+    }
+
     public String getGloss() {
         if (null == gloss) {
             return "";
@@ -654,6 +870,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
             }
         }
         this.gloss = gloss;
+        changed();
     }
 
     public List<Word> getWords() {
@@ -680,7 +897,38 @@ public class Synset extends PointerTarget implements DictionaryElement {
             } else {
                 this.offset = offset;
             }
+            changed();
+        }
+    }
+
+    /**
+     * Returns the dense ordinal of this synset, from 0 to {@link Dictionary#getSynsetCount()} - 1,
+     * for use as an index into arrays and bit sets. Ordinals are built by the dictionary on first use
+     * and, in edit mode, built again after synsets are added, removed or change their offsets.
+     *
+     * @return the ordinal of this synset, or -1, if the synset is not in a dictionary
+     * @throws JWNLException JWNLException
+     */
+    public int getOrdinal() throws JWNLException {
+        if (null == dictionary) {
+            return -1;
         }
+        return dictionary.getSynsetOrdinals().getOrdinal(pos, offset);
+    }
+
+    /**
+     * Returns the information content of this synset, computed from word use counts by the dictionary,
+     * see {@link Dictionary#getInformationContent()}.
+     *
+     * @return the information content of this synset, or NaN, if the synset is not in a dictionary
+     * @throws JWNLException JWNLException
+     */
+    public double getInformationContent() throws JWNLException {
+        int ordinal = getOrdinal();
+        if (-1 == ordinal) {
+            return Double.NaN;
+        }
+        return dictionary.getInformationContent().get(ordinal);
     }
 
     public boolean isAdjectiveCluster() {
@@ -760,6 +1008,7 @@ public class Synset extends PointerTarget implements DictionaryElement {
      */
     public void setLexFileNum(long lexFileNum) {
         this.lexFileNum = lexFileNum;
+        changed();
     }
 
     /**
@@ -786,6 +1035,13 @@ public class Synset extends PointerTarget implements DictionaryElement {
         }
     }
 
+    // drops the indexes the dictionary keeps over synsets in edit mode
+    private void changed() {
+        if (null != dictionary) {
+            dictionary.synsetChanged(this);
+        }
+    }
+
     private void checkPOSIsNotNull(Dictionary dictionary, POS pos) {
         if (null == pos) {
             if (null != dictionary) {
@@ -808,6 +1064,6 @@ public class Synset extends PointerTarget implements DictionaryElement {
 
     private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        dictionary = Dictionary.getRestoreDictionary();
+        dictionary = Dictionary.getRestoreDictionary(in);
     }
 }
\ No newline at end of file
@@ -5,7 +5,6 @@ import net.sf.extjwnl.dictionary.Dictionary;
 import net.sf.extjwnl.util.ResourceBundleSet;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -178,19 +177,17 @@ public class Word extends PointerTarget {
      */
     public void setUseCount(int useCount) {
         this.useCount = useCount;
+        if (null != dictionary) {
+            dictionary.synsetChanged(getSynset());
+        }
     }
 
     /**
-     * Returns all the pointers of the synset that contains this word whose source is this word.
+     * Returns all the pointers of the synset that contains this word whose source is this word, as a read-only view,
+     * see {@link Synset#getPointers(Word)}.
      */
     public List<Pointer> getPointers() {
-        List<Pointer> result = new ArrayList<>(0);
-        for (Pointer pointer : getSynset().getPointers()) {
-            if (this.equals(pointer.getSource())) {
-                result.add(pointer);
-            }
-        }
-        return result;
+        return getSynset().getPointers(this);
     }
 
     /**
@@ -307,6 +304,6 @@ public class Word extends PointerTarget {
 
     private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        dictionary = Dictionary.getRestoreDictionary();
+        dictionary = Dictionary.getRestoreDictionary(in);
     }
 }
@@ -87,6 +87,23 @@ public class PointerTargetNodeList extends LinkedList<PointerTargetNode> impleme
         return clone;
     }
 
+    /**
+     * Returns the nodes whose synsets belong to the lexicographer file <var>lexFileNum</var>,
+     * keeping their order.
+     *
+     * @param lexFileNum lexicographer file number
+     * @return nodes from the lexicographer file
+     */
+    public PointerTargetNodeList getNodesInLexFile(long lexFileNum) {
+        PointerTargetNodeList result = new PointerTargetNodeList();
+        for (PointerTargetNode node : this) {
+            if (node.getSynset().getLexFileNum() == lexFileNum) {
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
     @Override
     public PointerTargetNodeList clone() {
         return (PointerTargetNodeList) super.clone();
@@ -0,0 +1,237 @@
+package net.sf.extjwnl.data.list;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.JWNLRuntimeException;
+import net.sf.extjwnl.data.Pointer;
+import net.sf.extjwnl.data.PointerType;
+import net.sf.extjwnl.data.PointerUtils;
+import net.sf.extjwnl.data.Synset;
+
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy traversal of pointer targets, starting at a synset. Each step follows a pointer of one of the search types
+ * from the previous synset, as in {@link PointerUtils#makePointerTargetTreeList(Synset, PointerType[], int)}, but
+ * nodes are produced one at a time, while iterating, instead of building the whole tree first. Callers can stop
+ * at any node, and only the synsets up to that node are read.
+ * <p>
+ * Depth-first traversal produces nodes in the order of a pre-order walk of the tree, breadth-first traversal
+ * produces all nodes at one depth before the next. Each node is a {@link PointerTargetTreeNode} without child
+ * lists, linked to the node it was reached from, see {@link PointerTargetTreeNode#getPath()}. The start synset
+ * is not produced, and nodes reached from it have no parent. Nodes which already occur on their own path
+ * are produced, but not followed, so the traversal ends on cycles even without a depth limit.
+ * </p>
+ * <p>
+ * In a graph with multiple inheritance, such as hypernyms, a synset reached through several parents is followed
+ * once for each path to it. A traversal which visits each synset once follows each synset only the first time
+ * it is reached: a node is still produced for each link to the synset, so all parents of the synset are reported,
+ * but the synsets below it are produced once. With a depth limit, depth-first traversal follows a synset where
+ * it is first reached, which might be below its shortest path, so breadth-first traversal suits such queries better.
+ * </p>
+ * <p>
+ * The traversal does not keep the nodes it produced: depth-first traversal keeps the pointers still to follow
+ * on the current path, breadth-first traversal keeps the current and the next depth.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class PointerTargetTraversal implements Iterable<PointerTargetTreeNode> {
+
+    private final Synset synset;
+    private final PointerType[] searchTypes;
+    private PointerType labelType;
+    private int depth = PointerUtils.INFINITY;
+    private boolean breadthFirst;
+    private boolean visitOnce;
+
+    /**
+     * Creates a depth-first traversal from <var>synset</var> over pointers of <var>searchTypes</var>,
+     * without a depth limit.
+     *
+     * @param synset      start synset
+     * @param searchTypes the pointer types to follow
+     */
+    public PointerTargetTraversal(Synset synset, PointerType... searchTypes) {
+        this.synset = synset;
+        this.searchTypes = searchTypes.clone();
+    }
+
+    /**
+     * Sets the maximum number of pointers followed from the start synset, 1 for direct targets only.
+     *
+     * @param depth depth
+     * @return this traversal
+     */
+    public PointerTargetTraversal setDepth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * Sets the type used to label the nodes, instead of the type of the pointer followed.
+     *
+     * @param labelType the type used to label the nodes
+     * @return this traversal
+     */
+    public PointerTargetTraversal setLabelType(PointerType labelType) {
+        this.labelType = labelType;
+        return this;
+    }
+
+    /**
+     * Sets whether to produce the nodes breadth-first, default false.
+     *
+     * @param breadthFirst whether to traverse breadth-first
+     * @return this traversal
+     */
+    public PointerTargetTraversal setBreadthFirst(boolean breadthFirst) {
+        this.breadthFirst = breadthFirst;
+        return this;
+    }
+
+    /**
+     * Sets whether to follow each synset once, default false.
+     *
+     * @param visitOnce whether to follow each synset once
+     * @return this traversal
+     */
+    public PointerTargetTraversal setVisitOnce(boolean visitOnce) {
+        this.visitOnce = visitOnce;
+        return this;
+    }
+
+    /**
+     * Returns an iterator over the nodes. Exceptions reading synsets are rethrown as {@link JWNLRuntimeException}.
+     *
+     * @return an iterator over the nodes
+     */
+    @Override
+    public Iterator<PointerTargetTreeNode> iterator() {
+        return new TraversalIterator();
+    }
+
+    @Override
+    public Spliterator<PointerTargetTreeNode> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream of the nodes.
+     *
+     * @return a stream of the nodes
+     */
+    public Stream<PointerTargetTreeNode> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Pointers of a synset still to follow.
+     */
+    private class Frame {
+
+        private final Synset source;
+        private final PointerTargetTreeNode node;
+        private final int depth;
+        private int typeIndex = -1;
+        private List<Pointer> pointers = Collections.emptyList();
+        private int pointerIndex;
+
+        private Frame(Synset source, PointerTargetTreeNode node, int depth) {
+            this.source = source;
+            this.node = node;
+            this.depth = depth;
+        }
+
+        private Pointer next() {
+            while (pointerIndex == pointers.size()) {
+                typeIndex++;
+                if (typeIndex == searchTypes.length) {
+                    return null;
+                }
+                pointers = source.getPointers(searchTypes[typeIndex]);
+                pointerIndex = 0;
+            }
+            return pointers.get(pointerIndex++);
+        }
+    }
+
+    private class TraversalIterator implements Iterator<PointerTargetTreeNode> {
+
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        // synsets already followed, if each synset is followed once
+        private final Set<Synset> visited;
+        private PointerTargetTreeNode next;
+
+        private TraversalIterator() {
+            if (visitOnce) {
+                visited = new HashSet<>();
+                visited.add(synset);
+            } else {
+                visited = null;
+            }
+            if (0 < depth) {
+                frames.add(new Frame(synset, null, 0));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null == next) {
+                next = advance();
+            }
+            return null != next;
+        }
+
+        @Override
+        public PointerTargetTreeNode next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            PointerTargetTreeNode result = next;
+            next = null;
+            return result;
+        }
+
+        private PointerTargetTreeNode advance() {
+            try {
+                while (!frames.isEmpty()) {
+                    Frame frame = breadthFirst ? frames.peekFirst() : frames.peekLast();
+                    Pointer pointer = frame.next();
+                    if (null == pointer) {
+                        if (breadthFirst) {
+                            frames.removeFirst();
+                        } else {
+                            frames.removeLast();
+                        }
+                        continue;
+                    }
+                    PointerType type = searchTypes[frame.typeIndex];
+                    PointerTargetTreeNode node = new PointerTargetTreeNode(pointer.getTarget(),
+                            null == labelType ? type : labelType, frame.node);
+                    Synset target = node.getSynset();
+                    if (frame.depth + 1 < depth && (null == visited ? !isOnPath(target, frame) : visited.add(target))) {
+                        frames.addLast(new Frame(target, node, frame.depth + 1));
+                    }
+                    return node;
+                }
+                return null;
+            } catch (JWNLException e) {
+                throw new JWNLRuntimeException(e);
+            }
+        }
+
+        private boolean isOnPath(Synset target, Frame frame) {
+            if (target.equals(synset)) {
+                return true;
+            }
+            for (PointerTargetTreeNode node = frame.node; null != node; node = node.getParent()) {
+                if (target.equals(node.getSynset())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
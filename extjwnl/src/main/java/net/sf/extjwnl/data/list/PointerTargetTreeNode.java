@@ -5,6 +5,7 @@ import net.sf.extjwnl.data.PointerType;
 import net.sf.extjwnl.util.ResourceBundleSet;
 
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -137,6 +138,19 @@ public class PointerTargetTreeNode extends PointerTargetNode {
         return (getParent() != null);
     }
 
+    /**
+     * Returns the path to this node: the nodes from the topmost parent to this node, following parents.
+     *
+     * @return the path to this node
+     */
+    public PointerTargetNodeList getPath() {
+        LinkedList<PointerTargetNode> path = new LinkedList<>();
+        for (PointerTargetTreeNode node = this; null != node; node = node.getParent()) {
+            path.addFirst(new PointerTargetNode(node.getPointerTarget(), node.getType()));
+        }
+        return new PointerTargetNodeList(path);
+    }
+
     /**
      * Convert this node into a list of PointerTargetNodeLists's, each representing a unique branch through the tree
      *
@@ -211,6 +211,24 @@ public class PointerTargetTreeNodeList extends LinkedList<PointerTargetTreeNode>
         }
     }
 
+    /**
+     * Operation that is used for finding the node(s) in a tree whose synsets belong to the specified lexicographer file.
+     */
+    public static class FindLexFileOperation implements Operation {
+        private final long lexFileNum;
+
+        public FindLexFileOperation(long lexFileNum) {
+            this.lexFileNum = lexFileNum;
+        }
+
+        public PointerTargetTreeNode execute(PointerTargetTreeNode node) {
+            if (node.getSynset().getLexFileNum() == lexFileNum) {
+                return node;
+            }
+            return null;
+        }
+    }
+
     protected void print() {
         getNodePrinter().print(listIterator());
     }
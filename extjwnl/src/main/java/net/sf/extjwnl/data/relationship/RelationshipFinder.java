@@ -2,11 +2,16 @@ package net.sf.extjwnl.data.relationship;
 
 import net.sf.extjwnl.JWNLException;
 import net.sf.extjwnl.data.IndexWord;
+import net.sf.extjwnl.data.Pointer;
 import net.sf.extjwnl.data.PointerType;
 import net.sf.extjwnl.data.PointerUtils;
 import net.sf.extjwnl.data.Synset;
 import net.sf.extjwnl.data.list.*;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.search.HypernymClosure;
+import net.sf.extjwnl.dictionary.search.SynsetOrdinals;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -95,9 +100,36 @@ public abstract class RelationshipFinder {
         return findAsymmetricRelationships(sourceSynset, targetSynset, type, DEFAULT_ASYMMETRIC_SEARCH_DEPTH);
     }
 
+    /**
+     * Finds the lowest common subsumers of <var>sourceSynset</var> and <var>targetSynset</var>: synsets which
+     * are the same as or hypernyms of both synsets and are not hypernyms of another such synset.
+     * Uses the hypernym closure of the dictionary, see {@link Dictionary#getHypernymClosure()}.
+     *
+     * @param sourceSynset source synset
+     * @param targetSynset target synset
+     * @return the lowest common subsumers, deepest first, empty, if the synsets have no common subsumer
+     * @throws JWNLException JWNLException
+     */
+    public static List<Synset> findLowestCommonSubsumers(Synset sourceSynset, Synset targetSynset) throws JWNLException {
+        Dictionary dictionary = sourceSynset.getDictionary();
+        SynsetOrdinals ordinals = dictionary.getSynsetOrdinals();
+        HypernymClosure closure = dictionary.getHypernymClosure();
+        int source = ordinals.getOrdinal(sourceSynset.getPOS(), sourceSynset.getOffset());
+        int target = ordinals.getOrdinal(targetSynset.getPOS(), targetSynset.getOffset());
+        List<Synset> result = new ArrayList<>();
+        if (-1 != source && -1 != target) {
+            for (int subsumer : closure.getLowestCommonSubsumers(source, target)) {
+                result.add(dictionary.getSynsetAt(ordinals.getPOS(subsumer), ordinals.getOffset(subsumer)));
+            }
+        }
+        return result;
+    }
+
     /**
      * Finds the asymmetric relationship(s) between two words. A relationship is
      * asymmetric if its type is asymmetric (i.e. it's not its own inverse).
+     * Searches all pairs of paths from both synsets, see {@link #findHypernymRelationships(Synset, Synset)}
+     * for a faster search of hypernym relationships.
      *
      * @param sourceSynset source synset
      * @param targetSynset target synset
@@ -132,6 +164,81 @@ public abstract class RelationshipFinder {
         return relationships;
     }
 
+    /**
+     * Finds hypernym relationships between <var>sourceSynset</var> and <var>targetSynset</var>: one relationship
+     * for each lowest common subsumer, see {@link #findLowestCommonSubsumers(Synset, Synset)}, along the shortest
+     * path through it. Unlike {@link #findRelationships(Synset, Synset, PointerType)}, which returns one
+     * relationship for each pair of hypernym paths, this uses the hypernym closure of the dictionary and
+     * searches only the ancestors of both synsets. Relationships have the same form: hypernym nodes from
+     * the source up to the subsumer, then hyponym nodes down to the target.
+     *
+     * @param sourceSynset source synset
+     * @param targetSynset target synset
+     * @return one relationship for each lowest common subsumer
+     * @throws JWNLException JWNLException
+     */
+    public static RelationshipList findHypernymRelationships(Synset sourceSynset, Synset targetSynset) throws JWNLException {
+        return findHypernymRelationships(sourceSynset, targetSynset, DEFAULT_ASYMMETRIC_SEARCH_DEPTH);
+    }
+
+    /**
+     * Finds hypernym relationships through the lowest common subsumers of both synsets,
+     * within <var>depth</var> hypernym links of each synset, see {@link #findHypernymRelationships(Synset, Synset)}.
+     *
+     * @param sourceSynset source synset
+     * @param targetSynset target synset
+     * @param depth        depth
+     * @return one relationship for each lowest common subsumer
+     * @throws JWNLException JWNLException
+     */
+    public static RelationshipList findHypernymRelationships(
+            Synset sourceSynset, Synset targetSynset, int depth) throws JWNLException {
+
+        Dictionary dictionary = sourceSynset.getDictionary();
+        SynsetOrdinals ordinals = dictionary.getSynsetOrdinals();
+        HypernymClosure closure = dictionary.getHypernymClosure();
+        int source = ordinals.getOrdinal(sourceSynset.getPOS(), sourceSynset.getOffset());
+        int target = ordinals.getOrdinal(targetSynset.getPOS(), targetSynset.getOffset());
+        RelationshipList relationships = new RelationshipList();
+        if (-1 == source || -1 == target) {
+            return relationships;
+        }
+        for (int subsumer : closure.getLowestCommonSubsumers(source, target, depth)) {
+            int[] path = closure.getPath(source, target, subsumer);
+            int commonParentIndex = 0;
+            while (subsumer != path[commonParentIndex]) {
+                commonParentIndex++;
+            }
+            // pointers keep their targets, so synsets on the path are resolved from both ends
+            Synset[] synsets = new Synset[path.length];
+            synsets[0] = sourceSynset;
+            synsets[path.length - 1] = targetSynset;
+            for (int i = 1; i <= commonParentIndex; i++) {
+                synsets[i] = getHypernym(synsets[i - 1], path[i], ordinals);
+            }
+            for (int i = path.length - 2; i >= commonParentIndex && null == synsets[i]; i--) {
+                synsets[i] = getHypernym(synsets[i + 1], path[i], ordinals);
+            }
+            PointerTargetNodeList nodes = new PointerTargetNodeList();
+            for (int i = 0; i < synsets.length; i++) {
+                // up from the source to the subsumer, then down to the target, as in findAsymmetricRelationship
+                nodes.add(new PointerTargetNode(synsets[i],
+                        i < commonParentIndex ? PointerType.HYPERNYM : PointerType.HYPERNYM.getSymmetricType()));
+            }
+            relationships.add(new AsymmetricRelationship(PointerType.HYPERNYM, nodes, commonParentIndex, sourceSynset, targetSynset));
+        }
+        return relationships;
+    }
+
+    private static Synset getHypernym(Synset synset, int ordinal, SynsetOrdinals ordinals) throws JWNLException {
+        for (Pointer pointer : synset.getPointers(PointerType.HYPERNYM)) {
+            if (ordinal == ordinals.getOrdinal(pointer.getTargetPOS(), pointer.getTargetOffset())) {
+                return pointer.getTargetSynset();
+            }
+        }
+        return synset.getDictionary().getSynsetAt(ordinals.getPOS(ordinal), ordinals.getOffset(ordinal));
+    }
+
     /**
      * Finds a relationship between two asymmetric lists ordered from deepest
      * to shallowest ancestor. Each node has it's PointerType set to the kind of
@@ -203,6 +310,8 @@ public abstract class RelationshipFinder {
 
     /**
      * A symmetric relationship is one whose type is symmetric (i.e. is it's own inverse).
+     * Finds all shortest relationships of at most <var>depth</var> pointers by a bidirectional
+     * breadth-first search, which visits each synset at most once from each end.
      *
      * @param type         pointer type
      * @param sourceSynset source synset
@@ -213,53 +322,10 @@ public abstract class RelationshipFinder {
     private static RelationshipList findSymmetricRelationships(
             final Synset sourceSynset, final Synset targetSynset, PointerType type, int depth) throws JWNLException {
 
-        PointerTargetTree tree = new PointerTargetTree(
-                sourceSynset, PointerUtils.makePointerTargetTreeList(sourceSynset, type, null, depth, false));
-
-        PointerTargetTreeNodeList.Operation opr = testNode -> {
-            if (targetSynset.equals(testNode.getSynset())) {
-
-                return testNode;
-            }
-            return null;
-        };
-        List l = tree.getAllMatches(opr);
-
         RelationshipList list = new RelationshipList();
-        for (Object aL : l) {
-            PointerTargetNodeList nodes = findSymmetricRelationship((PointerTargetTreeNode) aL, type);
+        for (PointerTargetNodeList nodes : new SymmetricSearch(sourceSynset, targetSynset, type, depth).findShortestPaths()) {
             list.add(new SymmetricRelationship(type, nodes, sourceSynset, targetSynset));
         }
         return list;
     }
-
-    /**
-     * Builds a relationship from <var>node</var> back to it's root ancestor and
-     * then reverse the list.
-     *
-     * @param node node to start with
-     * @param type pointer type
-     * @return list of relationships from root ancestor to the node
-     */
-    private static PointerTargetNodeList findSymmetricRelationship(PointerTargetTreeNode node, PointerType type) {
-        PointerTargetNodeList list = new PointerTargetNodeList();
-        buildSymmetricRelationshipList(list, node);
-        list = list.reverse();
-        // set the root's pointer type
-        list.get(0).setType(type);
-        return list;
-    }
-
-    /**
-     * Builds the symmetric relationship list.
-     *
-     * @param list list to populate
-     * @param node node to start with
-     */
-    private static void buildSymmetricRelationshipList(PointerTargetNodeList list, PointerTargetTreeNode node) {
-        list.add(node.getPointerTarget(), node.getType());
-        if (node.getParent() != null) {
-            buildSymmetricRelationshipList(list, node.getParent());
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,233 @@
+package net.sf.extjwnl.data.relationship;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.Pointer;
+import net.sf.extjwnl.data.PointerTarget;
+import net.sf.extjwnl.data.PointerType;
+import net.sf.extjwnl.data.Synset;
+import net.sf.extjwnl.data.list.PointerTargetNode;
+import net.sf.extjwnl.data.list.PointerTargetNodeList;
+
+import java.util.*;
+
+/**
+ * Bidirectional breadth-first search for the shortest paths between two synsets over pointers of a symmetric type.
+ * <p>
+ * The search grows layers of synsets from both ends, always extending the side with the smaller frontier,
+ * and stops at the first layer which meets the other side. Each side visits a synset once and keeps its layer
+ * and the synsets of the previous layer pointing to it, from which the paths are collected. Since the type
+ * is symmetric, the side of the target follows pointers from the target towards the source.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+class SymmetricSearch {
+
+    private final PointerType type;
+    private final int depth;
+    private final Side source;
+    private final Side target;
+
+    /**
+     * Creates a search between <var>sourceSynset</var> and <var>targetSynset</var>.
+     *
+     * @param sourceSynset source synset
+     * @param targetSynset target synset
+     * @param type         symmetric pointer type
+     * @param depth        maximum length of a path
+     */
+    SymmetricSearch(Synset sourceSynset, Synset targetSynset, PointerType type, int depth) {
+        this.type = type;
+        this.depth = depth;
+        source = new Side(sourceSynset);
+        target = new Side(targetSynset);
+    }
+
+    /**
+     * Finds all shortest paths from the source to the target. Each path is a list of nodes labeled with
+     * the search type, from the first synset after the source to the target. If the source is the target,
+     * the only path is the source itself.
+     *
+     * @return all shortest paths, empty, if there is no path within the depth
+     * @throws JWNLException JWNLException
+     */
+    List<PointerTargetNodeList> findShortestPaths() throws JWNLException {
+        List<PointerTargetNodeList> result = new ArrayList<>();
+        if (source.root().equals(target.root())) {
+            PointerTargetNodeList nodes = new PointerTargetNodeList();
+            nodes.add(new PointerTargetNode(source.root(), type));
+            result.add(nodes);
+            return result;
+        }
+        while (source.depth() + target.depth() < depth) {
+            boolean forward = !source.frontier().isEmpty()
+                    && (target.frontier().isEmpty() || source.frontier().size() <= target.frontier().size());
+            if (!forward && target.frontier().isEmpty()) {
+                break;
+            }
+            Side side = forward ? source : target;
+            Side other = forward ? target : source;
+            List<Node> layer = side.expand();
+
+            int shortest = Integer.MAX_VALUE;
+            List<Synset> meetings = new ArrayList<>();
+            for (Node node : layer) {
+                Node met = other.getNode(node.synset);
+                if (null != met) {
+                    int length = node.layer + met.layer;
+                    if (length < shortest) {
+                        shortest = length;
+                        meetings.clear();
+                    }
+                    if (length == shortest) {
+                        meetings.add(node.synset);
+                    }
+                }
+            }
+            for (Synset meeting : meetings) {
+                List<List<Synset>> heads = getPaths(source.getNode(meeting));
+                List<List<Synset>> tails = getPaths(target.getNode(meeting));
+                for (List<Synset> head : heads) {
+                    for (List<Synset> tail : tails) {
+                        result.add(toNodes(head, tail));
+                    }
+                }
+            }
+            if (!meetings.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Joins the path from the source to the meeting synset and the path from the target to it.
+     */
+    private PointerTargetNodeList toNodes(List<Synset> head, List<Synset> tail) throws JWNLException {
+        PointerTargetNodeList nodes = new PointerTargetNodeList();
+        for (int i = 1; i < head.size(); i++) {
+            nodes.add(new PointerTargetNode(getTarget(head.get(i - 1), head.get(i)), type));
+        }
+        for (int i = tail.size() - 2; i >= 0; i--) {
+            nodes.add(new PointerTargetNode(getTarget(tail.get(i + 1), tail.get(i)), type));
+        }
+        return nodes;
+    }
+
+    /**
+     * Returns the target of the pointer from <var>from</var> to <var>to</var>, a word for lexical pointers,
+     * or <var>to</var>, if <var>from</var> has no such pointer.
+     */
+    private PointerTarget getTarget(Synset from, Synset to) throws JWNLException {
+        for (Pointer pointer : from.getPointers(type)) {
+            if (to.equals(pointer.getTargetSynset())) {
+                return pointer.getTarget();
+            }
+        }
+        return to;
+    }
+
+    private List<Synset> getNeighbours(Synset synset) throws JWNLException {
+        List<Pointer> pointers = synset.getPointers(type);
+        List<Synset> result = new ArrayList<>(pointers.size());
+        for (Pointer pointer : pointers) {
+            Synset neighbour = pointer.getTargetSynset();
+            if (null != neighbour && !result.contains(neighbour)) {
+                result.add(neighbour);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all paths from the root of the side to the synset of <var>node</var>, root first.
+     */
+    private static List<List<Synset>> getPaths(Node node) {
+        List<List<Synset>> result = new ArrayList<>();
+        if (node.predecessors.isEmpty()) {
+            List<Synset> path = new ArrayList<>();
+            path.add(node.synset);
+            result.add(path);
+            return result;
+        }
+        for (Node previous : node.predecessors) {
+            for (List<Synset> path : getPaths(previous)) {
+                path.add(node.synset);
+                result.add(path);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A synset visited by one side, with its layer and the synsets of the previous layer pointing to it.
+     */
+    private static class Node {
+
+        private final Synset synset;
+        private final int layer;
+        private final List<Node> predecessors = new ArrayList<>(1);
+
+        private Node(Synset synset, int layer) {
+            this.synset = synset;
+            this.layer = layer;
+        }
+    }
+
+    /**
+     * Layers of synsets reached from one end of the search.
+     */
+    private class Side {
+
+        private final List<List<Node>> layers = new ArrayList<>();
+        private final Map<Synset, Node> nodes = new HashMap<>();
+
+        private Side(Synset root) {
+            layers.add(Collections.singletonList(add(root, 0)));
+        }
+
+        private Node add(Synset synset, int layer) {
+            Node node = new Node(synset, layer);
+            nodes.put(synset, node);
+            return node;
+        }
+
+        private Synset root() {
+            return layers.get(0).get(0).synset;
+        }
+
+        private List<Node> frontier() {
+            return layers.get(layers.size() - 1);
+        }
+
+        private int depth() {
+            return layers.size() - 1;
+        }
+
+        /**
+         * Returns the node of <var>synset</var>, or null, if this side has not visited it.
+         */
+        private Node getNode(Synset synset) {
+            return nodes.get(synset);
+        }
+
+        private List<Node> expand() throws JWNLException {
+            int depth = layers.size();
+            List<Node> layer = new ArrayList<>();
+            for (Node node : frontier()) {
+                for (Synset neighbour : getNeighbours(node.synset)) {
+                    Node next = nodes.get(neighbour);
+                    if (null == next) {
+                        next = add(neighbour, depth);
+                        layer.add(next);
+                    }
+                    if (depth == next.layer) {
+                        next.predecessors.add(node);
+                    }
+                }
+            }
+            layers.add(layer);
+            return layer;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package net.sf.extjwnl.data.similarity;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Synset;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.search.HypernymClosure;
+import net.sf.extjwnl.dictionary.search.InformationContent;
+import net.sf.extjwnl.dictionary.search.SynsetOrdinals;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Computes semantic similarity of synsets of a dictionary, see {@link SimilarityMeasure}.
+ * <p>
+ * Similarity is computed over the hypernym closure of the dictionary, see {@link Dictionary#getHypernymClosure()},
+ * with depths precomputed by the closure and information content from word use counts, see
+ * {@link Dictionary#getInformationContent()}. For each synset the subsumers, the synset and its ancestors with
+ * their distances, are found once, and the common subsumers of two synsets are found by merging two sorted arrays.
+ * Batch computation finds the subsumers of each synset once for all pairs and computes rows in parallel.
+ * </p>
+ * <p>
+ * Ordinals and the closure are taken from the dictionary on each call, so in edit mode similarities follow the edits.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class Similarity {
+
+    private static final POS[] POSES = POS.values();
+
+    private final Dictionary dictionary;
+    private volatile Taxonomy taxonomy;
+
+    /**
+     * Ordinals and hypernym closure of the dictionary with the maximum depths they give.
+     */
+    private static class Taxonomy {
+
+        private final SynsetOrdinals ordinals;
+        private final HypernymClosure closure;
+        // maximum depth of synsets of each part of speech, by POS ordinal
+        private final int[] maxDepths = new int[POSES.length];
+
+        private Taxonomy(SynsetOrdinals ordinals, HypernymClosure closure) {
+            this.ordinals = ordinals;
+            this.closure = closure;
+            for (int n = 0; n < closure.size(); n++) {
+                int p = ordinals.getPOS(n).ordinal();
+                maxDepths[p] = Math.max(maxDepths[p], closure.getDepth(n));
+            }
+        }
+    }
+
+    /**
+     * Creates similarity for synsets of <var>dictionary</var>.
+     *
+     * @param dictionary dictionary
+     * @throws JWNLException JWNLException
+     */
+    public Similarity(Dictionary dictionary) throws JWNLException {
+        this.dictionary = dictionary;
+        getTaxonomy();
+    }
+
+    /**
+     * Returns the maximum depth of the taxonomy of <var>pos</var>: the number of links on the longest
+     * hypernym path from a synset of <var>pos</var> to a root.
+     *
+     * @param pos part of speech
+     * @return the maximum depth of the taxonomy
+     * @throws JWNLException JWNLException
+     */
+    public int getMaxDepth(POS pos) throws JWNLException {
+        return getTaxonomy().maxDepths[pos.ordinal()];
+    }
+
+    /**
+     * Returns the similarity of <var>first</var> and <var>second</var> by <var>measure</var>.
+     *
+     * @param measure similarity measure
+     * @param first   synset
+     * @param second  synset
+     * @return similarity
+     * @throws JWNLException JWNLException
+     */
+    public double getSimilarity(SimilarityMeasure measure, Synset first, Synset second) throws JWNLException {
+        Taxonomy taxonomy = getTaxonomy();
+        InformationContent informationContent = getInformationContent(measure);
+        return getSimilarity(measure, taxonomy, getSubsumers(taxonomy, first), getSubsumers(taxonomy, second), informationContent);
+    }
+
+    /**
+     * Returns the similarities of each synset in <var>rows</var> to each synset in <var>columns</var>
+     * by <var>measure</var>. Rows are computed in parallel.
+     *
+     * @param measure similarity measure
+     * @param rows    synsets
+     * @param columns synsets
+     * @return similarity matrix, rows.size() x columns.size()
+     * @throws JWNLException JWNLException
+     */
+    public double[][] getSimilarities(SimilarityMeasure measure, List<Synset> rows, List<Synset> columns) throws JWNLException {
+        Taxonomy taxonomy = getTaxonomy();
+        InformationContent informationContent = getInformationContent(measure);
+        HypernymClosure.Subsumers[] rowSubsumers = new HypernymClosure.Subsumers[rows.size()];
+        for (int i = 0; i < rowSubsumers.length; i++) {
+            rowSubsumers[i] = getSubsumers(taxonomy, rows.get(i));
+        }
+        HypernymClosure.Subsumers[] columnSubsumers = new HypernymClosure.Subsumers[columns.size()];
+        for (int j = 0; j < columnSubsumers.length; j++) {
+            columnSubsumers[j] = getSubsumers(taxonomy, columns.get(j));
+        }
+        double[][] result = new double[rowSubsumers.length][columnSubsumers.length];
+        IntStream.range(0, rowSubsumers.length).parallel().forEach(i -> {
+            for (int j = 0; j < columnSubsumers.length; j++) {
+                result[i][j] = getSimilarity(measure, taxonomy, rowSubsumers[i], columnSubsumers[j], informationContent);
+            }
+        });
+        return result;
+    }
+
+    private InformationContent getInformationContent(SimilarityMeasure measure) throws JWNLException {
+        return measure.usesInformationContent() ? dictionary.getInformationContent() : null;
+    }
+
+    private Taxonomy getTaxonomy() throws JWNLException {
+        SynsetOrdinals ordinals = dictionary.getSynsetOrdinals();
+        HypernymClosure closure = dictionary.getHypernymClosure();
+        Taxonomy result = taxonomy;
+        if (null == result || ordinals != result.ordinals || closure != result.closure) {
+            result = new Taxonomy(ordinals, closure);
+            taxonomy = result;
+        }
+        return result;
+    }
+
+    private static HypernymClosure.Subsumers getSubsumers(Taxonomy taxonomy, Synset synset) {
+        int ordinal = taxonomy.ordinals.getOrdinal(synset.getPOS(), synset.getOffset());
+        return -1 == ordinal ? null : taxonomy.closure.getSubsumers(ordinal);
+    }
+
+    private static double getSimilarity(SimilarityMeasure measure, Taxonomy taxonomy,
+                                        HypernymClosure.Subsumers first, HypernymClosure.Subsumers second,
+                                        InformationContent informationContent) {
+        if (null == first || null == second) {
+            return 0;
+        }
+        HypernymClosure closure = taxonomy.closure;
+        int firstSynset = first.getSynset();
+        int secondSynset = second.getSynset();
+
+        int shortest = Integer.MAX_VALUE;
+        int deepest = -1;
+        double informative = Double.NEGATIVE_INFINITY;
+        for (int i = 0, j = 0; i < first.size() && j < second.size(); ) {
+            if (first.get(i) < second.get(j)) {
+                i++;
+            } else if (first.get(i) > second.get(j)) {
+                j++;
+            } else {
+                int subsumer = first.get(i);
+                shortest = Math.min(shortest, first.getDistance(i) + second.getDistance(j));
+                deepest = Math.max(deepest, closure.getDepth(subsumer));
+                if (null != informationContent) {
+                    informative = Math.max(informative, informationContent.get(subsumer));
+                }
+                i++;
+                j++;
+            }
+        }
+        if (-1 == deepest) {
+            return 0;
+        }
+
+        switch (measure) {
+            case PATH: {
+                return 1.0 / (shortest + 1);
+            }
+            case WU_PALMER: {
+                return 2.0 * (deepest + 1) / (closure.getDepth(firstSynset) + closure.getDepth(secondSynset) + 2);
+            }
+            case LEACOCK_CHODOROW: {
+                int maxDepth = taxonomy.maxDepths[taxonomy.ordinals.getPOS(firstSynset).ordinal()] + 1;
+                return -Math.log((shortest + 1) / (2.0 * maxDepth));
+            }
+            case RESNIK: {
+                // no occurrences under the common subsumers
+                return Double.isInfinite(informative) ? 0 : informative;
+            }
+            case LIN: {
+                double sum = informationContent.get(firstSynset) + informationContent.get(secondSynset);
+                if (Double.isInfinite(sum)) {
+                    return 0;
+                }
+                return 0 == sum ? (firstSynset == secondSynset ? 1 : 0) : 2 * informative / sum;
+            }
+            case JIANG_CONRATH: {
+                double sum = informationContent.get(firstSynset) + informationContent.get(secondSynset);
+                if (Double.isInfinite(sum)) {
+                    return 0;
+                }
+                double distance = sum - 2 * informative;
+                return 0 >= distance ? Double.POSITIVE_INFINITY : 1 / distance;
+            }
+            default: {
+                throw new IllegalArgumentException(measure.name());
+            }
+        }
+    }
+}
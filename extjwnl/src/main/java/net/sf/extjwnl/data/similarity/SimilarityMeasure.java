@@ -0,0 +1,58 @@
+package net.sf.extjwnl.data.similarity;
+
+/**
+ * Semantic similarity measures over the hypernym graph, see {@link Similarity}.
+ * All measures are 0 for synsets without a common subsumer.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public enum SimilarityMeasure {
+
+    /**
+     * 1 / (p + 1), where p is the number of links on the shortest hypernym path between the synsets.
+     */
+    PATH(false),
+
+    /**
+     * Wu-Palmer: 2 * depth(lcs) / (depth(s1) + depth(s2)), where the depth is counted in synsets on
+     * the longest hypernym path to a root and lcs is the deepest common subsumer.
+     */
+    WU_PALMER(false),
+
+    /**
+     * Leacock-Chodorow: -log((p + 1) / (2 * d)), where p is the shortest path length and d is the maximum depth
+     * of the taxonomy of the part of speech, counted in synsets.
+     */
+    LEACOCK_CHODOROW(false),
+
+    /**
+     * Resnik: information content of the most informative common subsumer, 0 if it has no occurrences.
+     */
+    RESNIK(true),
+
+    /**
+     * Lin: 2 * ic(lcs) / (ic(s1) + ic(s2)), where lcs is the most informative common subsumer.
+     */
+    LIN(true),
+
+    /**
+     * Jiang-Conrath: 1 / (ic(s1) + ic(s2) - 2 * ic(lcs)), where lcs is the most informative common subsumer,
+     * positive infinity for synsets with the same information content as their subsumer.
+     */
+    JIANG_CONRATH(true);
+
+    private final boolean informationContent;
+
+    SimilarityMeasure(boolean informationContent) {
+        this.informationContent = informationContent;
+    }
+
+    /**
+     * Returns whether the measure uses information content.
+     *
+     * @return true, if the measure uses information content
+     */
+    public boolean usesInformationContent() {
+        return informationContent;
+    }
+}
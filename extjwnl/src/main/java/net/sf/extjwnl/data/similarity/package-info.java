@@ -0,0 +1,6 @@
+/**
+ * Semantic similarity of synsets over the hypernym graph.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+package net.sf.extjwnl.data.similarity;
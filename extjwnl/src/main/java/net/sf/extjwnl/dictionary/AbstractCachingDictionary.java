@@ -199,6 +199,10 @@ public abstract class AbstractCachingDictionary extends Dictionary {
 
     @Override
     public Iterator<IndexWord> getIndexWordIterator(POS pos, String substring) throws JWNLException {
+        Iterator<IndexWord> indexed = getLemmaIndexIterator(pos, substring);
+        if (null != indexed) {
+            return indexed;
+        }
         substring = prepareQueryString(substring);
 
         final Iterator<IndexWord> itr = getIndexWordIterator(pos);
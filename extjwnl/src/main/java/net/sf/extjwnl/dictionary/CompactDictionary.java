@@ -0,0 +1,746 @@
+package net.sf.extjwnl.dictionary;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.JWNLRuntimeException;
+import net.sf.extjwnl.data.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A read-only in-memory <code>Dictionary</code> which keeps the whole lexicon in primitive columnar arrays.
+ * <p>
+ * Synsets are addressed by dense per-POS ordinals. Words, pointers, senses and exceptions are stored
+ * as CSR (start + values) arrays, strings are stored UTF-8 encoded in a byte arena.
+ * <code>IndexWord</code>s, <code>Synset</code>s, <code>Word</code>s and <code>Exc</code>s are thin views
+ * created on access, therefore the heap holds only a few dozens of large arrays instead of millions
+ * of small objects, as {@link MapBackedDictionary} and {@link MemoryDictionary} do.
+ * </p>
+ * <p>
+ * The data is loaded from another dictionary, configured with the <var>source_properties</var> parameter,
+ * which is either a classpath resource or a file path.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class CompactDictionary extends Dictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactDictionary.class);
+
+    /**
+     * Properties of the dictionary to load the data from: a classpath resource or a file path.
+     */
+    public static final String SOURCE_PROPERTIES = "source_properties";
+
+    private static final PointerType[] POINTER_TYPES = PointerType.values();
+    private static final POS[] POS_VALUES = POS.values();
+    private static final AdjectivePosition[] ADJECTIVE_POSITIONS = AdjectivePosition.values();
+
+    private final Map<POS, Table> tables = new EnumMap<>(POS.class);
+
+    private long fingerprint;
+
+    public CompactDictionary(Document doc) throws JWNLException {
+        super(doc);
+        if (!params.containsKey(SOURCE_PROPERTIES)) {
+            throw new JWNLException(getMessages().resolveMessage("DICTIONARY_EXCEPTION_001", SOURCE_PROPERTIES));
+        }
+        Dictionary source = openSource(params.get(SOURCE_PROPERTIES).getValue());
+        try {
+            load(source);
+        } finally {
+            source.close();
+        }
+    }
+
+    /**
+     * Creates a compact copy of the <var>source</var> dictionary.
+     *
+     * @param doc    properties of this dictionary
+     * @param source dictionary to copy the data from
+     * @throws JWNLException JWNLException
+     */
+    public CompactDictionary(Document doc, Dictionary source) throws JWNLException {
+        super(doc);
+        load(source);
+    }
+
+    @Override
+    protected long getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public IndexWord getIndexWord(POS pos, String lemma) throws JWNLException {
+        Table table = getTable(pos);
+        if (null == table || null == lemma) {
+            return null;
+        }
+        int index = table.strings.binarySearch(table.indexLemmas, prepareQueryString(lemma).getBytes(StandardCharsets.UTF_8));
+        return 0 > index ? null : createIndexWord(pos, table, index);
+    }
+
+    @Override
+    public Iterator<IndexWord> getIndexWordIterator(final POS pos) throws JWNLException {
+        final Table table = getTable(pos);
+        return new ElementIterator<IndexWord>(null == table ? 0 : table.indexLemmas.length) {
+            @Override
+            protected IndexWord create(int index) throws JWNLException {
+                return createIndexWord(pos, table, index);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<IndexWord> getIndexWordIterator(final POS pos, String substring) throws JWNLException {
+        Iterator<IndexWord> indexed = getLemmaIndexIterator(pos, substring);
+        if (null != indexed) {
+            return indexed;
+        }
+        final Table table = getTable(pos);
+        final String query = prepareQueryString(substring);
+        return new ElementIterator<IndexWord>(null == table ? 0 : table.indexLemmas.length) {
+            @Override
+            protected boolean accept(int index) {
+                return table.strings.get(table.indexLemmas[index]).contains(query);
+            }
+
+            @Override
+            protected IndexWord create(int index) throws JWNLException {
+                return createIndexWord(pos, table, index);
+            }
+        };
+    }
+
+    @Override
+    public IndexWord getRandomIndexWord(POS pos) throws JWNLException {
+        Table table = getTable(pos);
+        if (null == table || 0 == table.indexLemmas.length) {
+            return null;
+        }
+        return createIndexWord(pos, table, getRandom().nextInt(table.indexLemmas.length));
+    }
+
+    @Override
+    public Iterator<Synset> getSynsetIterator(final POS pos) throws JWNLException {
+        final Table table = getTable(pos);
+        return new ElementIterator<Synset>(null == table ? 0 : table.offsets.length) {
+            @Override
+            protected Synset create(int index) throws JWNLException {
+                return createSynset(pos, table, index);
+            }
+        };
+    }
+
+    @Override
+    public Synset getSynsetAt(POS pos, long offset) throws JWNLException {
+        Table table = getTable(pos);
+        if (null == table) {
+            return null;
+        }
+        int ordinal = Arrays.binarySearch(table.offsets, offset);
+        return 0 > ordinal ? null : createSynset(pos, table, ordinal);
+    }
+
+    @Override
+    public Iterator<Exc> getExceptionIterator(final POS pos) throws JWNLException {
+        final Table table = getTable(pos);
+        return new ElementIterator<Exc>(null == table ? 0 : table.excLemmas.length) {
+            @Override
+            protected Exc create(int index) throws JWNLException {
+                return createException(pos, table, index);
+            }
+        };
+    }
+
+    @Override
+    public Exc getException(POS pos, String derivation) throws JWNLException {
+        Table table = getTable(pos);
+        if (null == table || null == derivation) {
+            return null;
+        }
+        int index = table.strings.binarySearch(table.excLemmas, prepareQueryString(derivation).getBytes(StandardCharsets.UTF_8));
+        return 0 > index ? null : createException(pos, table, index);
+    }
+
+    @Override
+    public synchronized void edit() throws JWNLException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public synchronized void close() throws JWNLException {
+        tables.clear();
+    }
+
+    /**
+     * Returns the number of synsets of <var>pos</var>.
+     *
+     * @param pos part of speech
+     * @return the number of synsets of <var>pos</var>
+     */
+    public int getSynsetCount(POS pos) {
+        Table table = getTable(pos);
+        return null == table ? 0 : table.offsets.length;
+    }
+
+    /**
+     * Returns approximate size of the dictionary data in bytes.
+     *
+     * @return approximate size of the dictionary data in bytes
+     */
+    public long getDataSize() {
+        long result = 0;
+        for (Table table : tables.values()) {
+            result += table.getDataSize();
+        }
+        return result;
+    }
+
+    private Table getTable(POS pos) {
+        return tables.get(pos);
+    }
+
+    private Dictionary openSource(String properties) throws JWNLException {
+        try (InputStream in = openProperties(properties)) {
+            return Dictionary.getInstance(in);
+        } catch (IOException e) {
+            throw new JWNLException(getMessages().resolveMessage("DICTIONARY_EXCEPTION_068", properties), e);
+        }
+    }
+
+    private static InputStream openProperties(String properties) throws IOException {
+        InputStream result = CompactDictionary.class.getResourceAsStream(properties);
+        if (null == result) {
+            result = new FileInputStream(properties);
+        }
+        return result;
+    }
+
+    private IndexWord createIndexWord(POS pos, Table table, int index) throws JWNLException {
+        int start = table.senseStarts[index];
+        long[] offsets = new long[table.senseStarts[index + 1] - start];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = table.offsets[table.senses[start + i]];
+        }
+        return new IndexWord(this, table.strings.get(table.indexLemmas[index]), pos, offsets);
+    }
+
+    private Exc createException(POS pos, Table table, int index) throws JWNLException {
+        int start = table.excStarts[index];
+        List<String> forms = new ArrayList<>(table.excStarts[index + 1] - start);
+        for (int i = start; i < table.excStarts[index + 1]; i++) {
+            forms.add(table.strings.get(table.excForms[i]));
+        }
+        return new Exc(this, pos, table.strings.get(table.excLemmas[index]), forms);
+    }
+
+    private Synset createSynset(POS pos, Table table, int ordinal) throws JWNLException {
+        long offset = table.offsets[ordinal];
+        Synset synset;
+        if (POS.VERB == pos) {
+            VerbSynset verbSynset = new VerbSynset(this, offset);
+            verbSynset.setVerbFrameFlags(BitSet.valueOf(new long[]{table.synsetFrames[ordinal]}));
+            synset = verbSynset;
+        } else if (POS.ADJECTIVE == pos) {
+            AdjectiveSynset adjectiveSynset = new AdjectiveSynset(this, offset);
+            adjectiveSynset.setIsAdjectiveCluster(table.clusters.get(ordinal));
+            synset = adjectiveSynset;
+        } else {
+            synset = new Synset(this, pos, offset);
+        }
+        synset.setGloss(table.strings.get(table.glosses[ordinal]));
+        synset.setLexFileNum(table.lexFileNums[ordinal]);
+
+        for (int i = table.wordStarts[ordinal]; i < table.wordStarts[ordinal + 1]; i++) {
+            String lemma = table.strings.get(table.wordLemmas[i]);
+            Word word;
+            if (POS.VERB == pos) {
+                word = new Verb(this, synset, lemma, BitSet.valueOf(new long[]{table.wordFrames[i]}));
+            } else if (POS.ADJECTIVE == pos) {
+                word = new Adjective(this, synset, lemma, ADJECTIVE_POSITIONS[table.adjectivePositions[i]]);
+            } else {
+                word = new Word(this, synset, lemma);
+            }
+            word.setLexId(table.lexIds[i]);
+            word.setUseCount(table.useCounts[i]);
+            synset.getWords().add(word);
+        }
+
+        for (int i = table.pointerStarts[ordinal]; i < table.pointerStarts[ordinal + 1]; i++) {
+            if (0 > table.pointerTargets[i]) {
+                // dangling pointer in the source
+                continue;
+            }
+            int sourceIndex = table.pointerSources[i];
+            PointerTarget source = 0 == sourceIndex ? synset : synset.getWords().get(sourceIndex - 1);
+            POS targetPOS = POS_VALUES[table.pointerTargetPOS[i]];
+            long targetOffset = getTable(targetPOS).offsets[table.pointerTargets[i]];
+            synset.getPointers().add(new Pointer(source, POINTER_TYPES[table.pointerTypes[i]], targetPOS, targetOffset, table.pointerTargetIndices[i]));
+        }
+        return synset;
+    }
+
+    private void load(Dictionary source) throws JWNLException {
+        long start = System.currentTimeMillis();
+        fingerprint = source.getFingerprint();
+        Map<POS, TableBuilder> builders = new EnumMap<>(POS.class);
+        for (POS pos : POS.getAllPOS()) {
+            if (log.isDebugEnabled()) {
+                log.debug(getMessages().resolveMessage("DICTIONARY_INFO_011", new Object[]{pos.getLabel(), "data"}));
+            }
+            TableBuilder builder = new TableBuilder(pos);
+            builder.addSynsets(source);
+            builders.put(pos, builder);
+        }
+        for (POS pos : POS.getAllPOS()) {
+            if (log.isDebugEnabled()) {
+                log.debug(getMessages().resolveMessage("DICTIONARY_INFO_011", new Object[]{pos.getLabel(), "index"}));
+            }
+            TableBuilder builder = builders.get(pos);
+            builder.addIndexWords(source);
+            builder.addExceptions(source);
+            tables.put(pos, builder.build(builders));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(getMessages().resolveMessage("DICTIONARY_INFO_017", new Object[]{System.currentTimeMillis() - start, getDataSize()}));
+        }
+    }
+
+    /**
+     * Columns of a single part of speech.
+     */
+    private static final class Table {
+        // synsets, addressed by ordinal, sorted by offset
+        long[] offsets;
+        int[] glosses;
+        byte[] lexFileNums;
+        long[] synsetFrames;
+        BitSet clusters;
+
+        // words of a synset <var>o</var> are in [wordStarts[o], wordStarts[o + 1])
+        int[] wordStarts;
+        int[] wordLemmas;
+        byte[] lexIds;
+        int[] useCounts;
+        long[] wordFrames;
+        byte[] adjectivePositions;
+
+        // pointers of a synset <var>o</var> are in [pointerStarts[o], pointerStarts[o + 1])
+        int[] pointerStarts;
+        byte[] pointerTypes;
+        short[] pointerSources;
+        byte[] pointerTargetPOS;
+        int[] pointerTargets;
+        short[] pointerTargetIndices;
+
+        // index words sorted by lemma, senses are synset ordinals
+        int[] indexLemmas;
+        int[] senseStarts;
+        int[] senses;
+
+        // exceptions sorted by lemma
+        int[] excLemmas;
+        int[] excStarts;
+        int[] excForms;
+
+        StringArena strings;
+
+        long getDataSize() {
+            return 8L * (offsets.length + synsetFrames.length + wordFrames.length)
+                    + 4L * (glosses.length + wordStarts.length + wordLemmas.length + useCounts.length
+                    + pointerStarts.length + pointerTargets.length + indexLemmas.length + senseStarts.length
+                    + senses.length + excLemmas.length + excStarts.length + excForms.length)
+                    + 2L * (pointerSources.length + pointerTargetIndices.length)
+                    + lexFileNums.length + lexIds.length + adjectivePositions.length + pointerTypes.length
+                    + pointerTargetPOS.length + clusters.size() / 8 + strings.getDataSize();
+        }
+    }
+
+    /**
+     * UTF-8 encoded strings stored back to back in a single byte array.
+     */
+    private static final class StringArena {
+
+        private final byte[] bytes;
+        private final int[] starts;
+
+        private StringArena(byte[] bytes, int[] starts) {
+            this.bytes = bytes;
+            this.starts = starts;
+        }
+
+        String get(int id) {
+            return new String(bytes, starts[id], starts[id + 1] - starts[id], StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Searches <var>ids</var>, sorted by string bytes, for the <var>key</var>.
+         *
+         * @param ids string ids sorted by string bytes
+         * @param key UTF-8 bytes to search for
+         * @return index of the key, or a negative number if not found
+         */
+        int binarySearch(int[] ids, byte[] key) {
+            int low = 0;
+            int high = ids.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int c = compare(ids[mid], key);
+                if (c < 0) {
+                    low = mid + 1;
+                } else if (c > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private int compare(int id, byte[] key) {
+            int start = starts[id];
+            int length = starts[id + 1] - start;
+            int limit = Math.min(length, key.length);
+            for (int i = 0; i < limit; i++) {
+                int c = (bytes[start + i] & 0xFF) - (key[i] & 0xFF);
+                if (0 != c) {
+                    return c;
+                }
+            }
+            return length - key.length;
+        }
+
+        long getDataSize() {
+            return bytes.length + 4L * starts.length;
+        }
+    }
+
+    private static final class StringArenaBuilder {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final IntArray starts = new IntArray();
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        private StringArenaBuilder() {
+            starts.add(0);
+        }
+
+        int add(String string) {
+            Integer result = ids.get(string);
+            if (null == result) {
+                byte[] b = string.getBytes(StandardCharsets.UTF_8);
+                bytes.write(b, 0, b.length);
+                result = starts.size() - 1;
+                starts.add(bytes.size());
+                ids.put(string, result);
+            }
+            return result;
+        }
+
+        StringArena build() {
+            return new StringArena(bytes.toByteArray(), starts.toArray());
+        }
+    }
+
+    private static final class IntArray {
+
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class LongArray {
+
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        long get(int index) {
+            return values[index];
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final Comparator<byte[]> UNSIGNED_BYTES_COMPARATOR = (a, b) -> {
+        int limit = Math.min(a.length, b.length);
+        for (int i = 0; i < limit; i++) {
+            int c = (a[i] & 0xFF) - (b[i] & 0xFF);
+            if (0 != c) {
+                return c;
+            }
+        }
+        return a.length - b.length;
+    };
+
+    private class TableBuilder {
+
+        private final POS pos;
+        private final StringArenaBuilder strings = new StringArenaBuilder();
+
+        private long[] offsets;
+        private final IntArray glosses = new IntArray();
+        private final IntArray lexFileNums = new IntArray();
+        private final LongArray synsetFrames = new LongArray();
+        private final BitSet clusters = new BitSet();
+
+        private final IntArray wordStarts = new IntArray();
+        private final IntArray wordLemmas = new IntArray();
+        private final IntArray lexIds = new IntArray();
+        private final IntArray useCounts = new IntArray();
+        private final LongArray wordFrames = new LongArray();
+        private final IntArray adjectivePositions = new IntArray();
+
+        private final IntArray pointerStarts = new IntArray();
+        private final IntArray pointerTypes = new IntArray();
+        private final IntArray pointerSources = new IntArray();
+        private final IntArray pointerTargetPOS = new IntArray();
+        private final LongArray pointerTargetOffsets = new LongArray();
+        private final IntArray pointerTargetIndices = new IntArray();
+
+        private final IntArray indexLemmas = new IntArray();
+        private final IntArray senseStarts = new IntArray();
+        private final IntArray senses = new IntArray();
+
+        private final IntArray excLemmas = new IntArray();
+        private final IntArray excStarts = new IntArray();
+        private final IntArray excForms = new IntArray();
+
+        private TableBuilder(POS pos) {
+            this.pos = pos;
+        }
+
+        void addSynsets(Dictionary source) throws JWNLException {
+            List<Synset> synsets = new ArrayList<>();
+            Iterator<Synset> si = source.getSynsetIterator(pos);
+            while (si.hasNext()) {
+                synsets.add(si.next());
+            }
+            synsets.sort(Comparator.comparingLong(Synset::getOffset));
+
+            offsets = new long[synsets.size()];
+            wordStarts.add(0);
+            pointerStarts.add(0);
+            for (int ordinal = 0; ordinal < synsets.size(); ordinal++) {
+                Synset synset = synsets.get(ordinal);
+                offsets[ordinal] = synset.getOffset();
+                glosses.add(strings.add(synset.getGloss()));
+                lexFileNums.add((int) synset.getLexFileNum());
+                if (POS.VERB == pos) {
+                    synsetFrames.add(toLong(synset.getVerbFrameFlags()));
+                } else if (POS.ADJECTIVE == pos) {
+                    clusters.set(ordinal, synset.isAdjectiveCluster());
+                }
+
+                for (Word word : synset.getWords()) {
+                    wordLemmas.add(strings.add(word.getLemma()));
+                    lexIds.add(word.getLexId());
+                    useCounts.add(word.getUseCount());
+                    wordFrames.add(word instanceof Verb ? toLong(((Verb) word).getVerbFrameFlags()) : 0);
+                    adjectivePositions.add(word instanceof Adjective ? ((Adjective) word).getAdjectivePosition().ordinal() : 0);
+                }
+                wordStarts.add(wordLemmas.size());
+
+                for (Pointer pointer : synset.getPointers()) {
+                    pointerTypes.add(pointer.getType().ordinal());
+                    pointerSources.add(pointer.getSourceIndex());
+                    pointerTargetPOS.add(pointer.getTargetPOS().ordinal());
+                    pointerTargetOffsets.add(pointer.getTargetOffset());
+                    pointerTargetIndices.add(pointer.getTargetIndex());
+                }
+                pointerStarts.add(pointerTypes.size());
+            }
+        }
+
+        void addIndexWords(Dictionary source) throws JWNLException {
+            List<IndexWord> indexWords = new ArrayList<>();
+            Iterator<IndexWord> ii = source.getIndexWordIterator(pos);
+            while (ii.hasNext()) {
+                indexWords.add(ii.next());
+            }
+            final Map<IndexWord, byte[]> keys = new HashMap<>(indexWords.size());
+            for (IndexWord indexWord : indexWords) {
+                keys.put(indexWord, indexWord.getLemma().getBytes(StandardCharsets.UTF_8));
+            }
+            indexWords.sort((a, b) -> UNSIGNED_BYTES_COMPARATOR.compare(keys.get(a), keys.get(b)));
+
+            senseStarts.add(0);
+            for (IndexWord indexWord : indexWords) {
+                indexLemmas.add(strings.add(indexWord.getLemma()));
+                for (long offset : indexWord.getSynsetOffsets()) {
+                    int ordinal = Arrays.binarySearch(offsets, offset);
+                    if (0 <= ordinal) {
+                        senses.add(ordinal);
+                    } else if (log.isWarnEnabled()) {
+                        log.warn(getMessages().resolveMessage("DICTIONARY_WARN_004", new Object[]{offset, indexWord.getLemma()}));
+                    }
+                }
+                senseStarts.add(senses.size());
+            }
+        }
+
+        void addExceptions(Dictionary source) throws JWNLException {
+            List<Exc> excs = new ArrayList<>();
+            Iterator<Exc> ei = source.getExceptionIterator(pos);
+            while (ei.hasNext()) {
+                excs.add(ei.next());
+            }
+            final Map<Exc, byte[]> keys = new HashMap<>(excs.size());
+            for (Exc exc : excs) {
+                keys.put(exc, exc.getLemma().getBytes(StandardCharsets.UTF_8));
+            }
+            excs.sort((a, b) -> UNSIGNED_BYTES_COMPARATOR.compare(keys.get(a), keys.get(b)));
+
+            excStarts.add(0);
+            for (Exc exc : excs) {
+                excLemmas.add(strings.add(exc.getLemma()));
+                for (String form : exc.getExceptions()) {
+                    excForms.add(strings.add(form));
+                }
+                excStarts.add(excForms.size());
+            }
+        }
+
+        Table build(Map<POS, TableBuilder> builders) {
+            Table result = new Table();
+            result.offsets = offsets;
+            result.glosses = glosses.toArray();
+            result.lexFileNums = toBytes(lexFileNums);
+            result.synsetFrames = synsetFrames.toArray();
+            result.clusters = clusters;
+
+            result.wordStarts = wordStarts.toArray();
+            result.wordLemmas = wordLemmas.toArray();
+            result.lexIds = toBytes(lexIds);
+            result.useCounts = useCounts.toArray();
+            result.wordFrames = wordFrames.toArray();
+            result.adjectivePositions = toBytes(adjectivePositions);
+
+            result.pointerStarts = pointerStarts.toArray();
+            result.pointerTypes = toBytes(pointerTypes);
+            result.pointerSources = toShorts(pointerSources);
+            result.pointerTargetPOS = toBytes(pointerTargetPOS);
+            result.pointerTargetIndices = toShorts(pointerTargetIndices);
+            result.pointerTargets = new int[pointerTypes.size()];
+            for (int i = 0; i < result.pointerTargets.length; i++) {
+                long[] targetOffsets = builders.get(POS_VALUES[pointerTargetPOS.get(i)]).offsets;
+                result.pointerTargets[i] = Arrays.binarySearch(targetOffsets, pointerTargetOffsets.get(i));
+            }
+
+            result.indexLemmas = indexLemmas.toArray();
+            result.senseStarts = senseStarts.toArray();
+            result.senses = senses.toArray();
+
+            result.excLemmas = excLemmas.toArray();
+            result.excStarts = excStarts.toArray();
+            result.excForms = excForms.toArray();
+
+            result.strings = strings.build();
+            return result;
+        }
+    }
+
+    private static long toLong(BitSet bits) {
+        long[] words = bits.toLongArray();
+        return 0 == words.length ? 0 : words[0];
+    }
+
+    private static byte[] toBytes(IntArray values) {
+        byte[] result = new byte[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) values.get(i);
+        }
+        return result;
+    }
+
+    private static short[] toShorts(IntArray values) {
+        short[] result = new short[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (short) values.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Iterates over element indices, creating elements on access.
+     */
+    private abstract static class ElementIterator<E> implements Iterator<E> {
+
+        private final int size;
+        private int next = 0;
+        private boolean positioned = false;
+
+        protected ElementIterator(int size) {
+            this.size = size;
+        }
+
+        protected boolean accept(int index) {
+            return true;
+        }
+
+        protected abstract E create(int index) throws JWNLException;
+
+        @Override
+        public boolean hasNext() {
+            if (!positioned) {
+                while (next < size && !accept(next)) {
+                    next++;
+                }
+                positioned = true;
+            }
+            return next < size;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            positioned = false;
+            try {
+                return create(next++);
+            } catch (JWNLException e) {
+                throw new JWNLRuntimeException(e);
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
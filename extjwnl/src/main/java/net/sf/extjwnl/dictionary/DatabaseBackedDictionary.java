@@ -11,7 +11,9 @@ import org.w3c.dom.Document;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
@@ -27,6 +29,9 @@ public class DatabaseBackedDictionary extends AbstractCachingDictionary {
      */
     public static final String DATABASE_MANAGER = "database_manager";
 
+    // limits the number of parameters in a query for synsets at several offsets
+    private static final int OFFSETS_PER_QUERY = 500;
+
     private DatabaseDictionaryElementFactory factory;
     private DatabaseManager dbManager;
 
@@ -80,6 +85,10 @@ public class DatabaseBackedDictionary extends AbstractCachingDictionary {
     }
 
     public Iterator<IndexWord> getIndexWordIterator(POS pos, String substring) throws JWNLException {
+        Iterator<IndexWord> indexed = getLemmaIndexIterator(pos, substring);
+        if (null != indexed) {
+            return indexed;
+        }
         Query query;
         try {
             query = dbManager.getIndexWordLemmasQuery(pos, substring);
@@ -149,6 +158,59 @@ public class DatabaseBackedDictionary extends AbstractCachingDictionary {
         return synset;
     }
 
+    @Override
+    public List<Synset> getSynsetsAt(POS pos, long[] offsets) throws JWNLException {
+        Synset[] result = new Synset[offsets.length];
+        if (isCachingEnabled()) {
+            for (int i = 0; i < offsets.length; i++) {
+                result[i] = getCachedSynset(pos, offsets[i]);
+            }
+        }
+        long[] missing = getMissingOffsets(offsets, result);
+        Synset[] found = new Synset[missing.length];
+        for (int start = 0; start < missing.length; start += OFFSETS_PER_QUERY) {
+            long[] batch = Arrays.copyOfRange(missing, start, Math.min(missing.length, start + OFFSETS_PER_QUERY));
+            Query query = null;
+            Query wordQuery = null;
+            Query pointerQuery = null;
+            Query verbFrameQuery = null;
+            try {
+                query = dbManager.getSynsetQuery(pos, batch);
+                wordQuery = dbManager.getSynsetWordQuery(pos, batch);
+                pointerQuery = dbManager.getPointerQuery(pos, batch);
+                if (POS.VERB == pos) {
+                    verbFrameQuery = dbManager.getVerbFrameQuery(pos, batch);
+                }
+                Synset[] synsets = factory.createSynsets(pos, batch, query.execute(), wordQuery.execute(),
+                        pointerQuery.execute(), null == verbFrameQuery ? null : verbFrameQuery.execute());
+                System.arraycopy(synsets, 0, found, start, synsets.length);
+            } catch (SQLException e) {
+                throw new JWNLException(getMessages().resolveMessage("DICTIONARY_EXCEPTION_005", new Object[]{pos.getLabel(), batch[0]}), e);
+            } finally {
+                if (query != null) {
+                    query.close();
+                }
+                if (wordQuery != null) {
+                    wordQuery.close();
+                }
+                if (pointerQuery != null) {
+                    pointerQuery.close();
+                }
+                if (verbFrameQuery != null) {
+                    verbFrameQuery.close();
+                }
+            }
+        }
+        if (isCachingEnabled()) {
+            for (Synset synset : found) {
+                if (null != synset) {
+                    cacheSynset(synset);
+                }
+            }
+        }
+        return fillMissingSynsets(offsets, result, missing, found);
+    }
+
     public Iterator<Synset> getSynsetIterator(POS pos) throws JWNLException {
         Query query;
         try {
@@ -1,8 +1,19 @@
 package net.sf.extjwnl.dictionary;
 
 import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.JWNLRuntimeException;
 import net.sf.extjwnl.data.*;
+import net.sf.extjwnl.dictionary.file.DictionaryObjectInputStream;
 import net.sf.extjwnl.dictionary.morph.Util;
+import net.sf.extjwnl.dictionary.search.ExceptionTable;
+import net.sf.extjwnl.dictionary.search.GlossIndex;
+import net.sf.extjwnl.dictionary.search.HypernymClosure;
+import net.sf.extjwnl.dictionary.search.InformationContent;
+import net.sf.extjwnl.dictionary.search.IncomingPointerIndex;
+import net.sf.extjwnl.dictionary.search.LemmaIndex;
+import net.sf.extjwnl.dictionary.search.LexFileIndex;
+import net.sf.extjwnl.dictionary.search.PhoneticIndex;
+import net.sf.extjwnl.dictionary.search.SynsetOrdinals;
 import net.sf.extjwnl.util.ResourceBundleSet;
 import net.sf.extjwnl.util.factory.NameValueParam;
 import net.sf.extjwnl.util.factory.Param;
@@ -24,6 +35,7 @@ import java.io.*;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstract representation of a WordNet dictionary.
@@ -83,7 +95,84 @@ public abstract class Dictionary {
     public static final String CHECK_LEX_IDS_KEY = "check_lex_ids";
     private boolean checkLexIds = true;
 
-    // temporary variable, used for loading from maps
+    /**
+     * Parameter name: whether substring lookups use the lemma index instead of scanning, default false.
+     */
+    public static final String LEMMA_INDEX_KEY = "lemma_index";
+    private boolean useLemmaIndex = false;
+
+    /**
+     * Parameter name: directory to keep lemma index files in. If not set, lemma indexes are built in memory on first use.
+     */
+    public static final String LEMMA_INDEX_PATH_KEY = "lemma_index_path";
+    private final Map<POS, SearchIndexHolder<LemmaIndex>> lemmaIndexes = new EnumMap<>(POS.class);
+
+    private final Map<POS, SearchIndexHolder<PhoneticIndex>> phoneticIndexes = new EnumMap<>(POS.class);
+
+    /**
+     * Parameter name: directory to keep gloss index files in. If not set, gloss indexes are built in memory on first use.
+     */
+    public static final String GLOSS_INDEX_PATH_KEY = "gloss_index_path";
+    private final Map<POS, SearchIndexHolder<GlossIndex>> glossIndexes = new EnumMap<>(POS.class);
+
+    /**
+     * Parameter name: directory to keep the incoming pointer index file in. If not set, the index is built in memory on first use.
+     */
+    public static final String POINTER_INDEX_PATH_KEY = "pointer_index_path";
+    private final SearchIndexHolder<IncomingPointerIndex> incomingPointerIndex;
+
+    /**
+     * Parameter name: directory to keep lexicographer file index files in. If not set, the indexes are built in memory on first use.
+     */
+    public static final String LEX_FILE_INDEX_PATH_KEY = "lex_file_index_path";
+    private final Map<POS, SearchIndexHolder<LexFileIndex>> lexFileIndexes = new EnumMap<>(POS.class);
+
+    /**
+     * Parameter name: directory to keep the synset ordinals file in. If not set, ordinals are built in memory on first use.
+     */
+    public static final String ORDINALS_PATH_KEY = "ordinals_path";
+    private final SearchIndexHolder<SynsetOrdinals> synsetOrdinals;
+
+    /**
+     * Parameter name: directory to keep the hypernym closure file in. If not set, the closure is built in memory on first use.
+     */
+    public static final String HYPERNYM_CLOSURE_PATH_KEY = "hypernym_closure_path";
+    private final SearchIndexHolder<HypernymClosure> hypernymClosure;
+
+    /**
+     * Parameter name: directory to keep the information content file in. If not set, information content is built in memory on first use.
+     */
+    public static final String INFORMATION_CONTENT_PATH_KEY = "information_content_path";
+
+    /**
+     * Parameter name: whether information content adds one occurrence to each synset, default false.
+     */
+    public static final String INFORMATION_CONTENT_SMOOTHING_KEY = "information_content_smoothing";
+    private boolean informationContentSmoothing = false;
+
+    private final SearchIndexHolder<InformationContent> informationContent;
+
+    // search indexes kept in files, deleted on save
+    private final List<SearchIndexHolder<?>> searchIndexes = new ArrayList<>();
+    // advances after synsets change in edit mode, search indexes over synsets built before are built again
+    private final AtomicLong synsetEpoch = new AtomicLong();
+
+    /**
+     * Parameter name: the maximum number of PointerUtils results to cache. If not set, results are not cached.
+     */
+    public static final String POINTER_UTILS_CACHE_SIZE_KEY = "pointer_utils_cache_size";
+    private PointerUtilsCache pointerUtilsCache;
+
+    /**
+     * Parameter name: whether exception lookups use an in-memory exception table loaded on first use, default true.
+     */
+    public static final String EXCEPTION_TABLE_KEY = "exception_table";
+    private boolean useExceptionTable = true;
+
+    // read without locking, tables have only final fields
+    private final ExceptionTable[] exceptionTables = new ExceptionTable[POS.values().length];
+
+    // temporary variable, used for loading from plain object streams
     private static Dictionary restore;
 
     protected final Map<String, Param> params;
@@ -291,14 +380,43 @@ public abstract class Dictionary {
         return getInstance(properties);
     }
 
+    /**
+     * Sets the dictionary for elements deserialized from plain object streams.
+     *
+     * @param dictionary dictionary
+     * @deprecated use {@link DictionaryObjectInputStream}, which carries the dictionary per stream
+     */
+    @Deprecated
     public synchronized static void setRestoreDictionary(Dictionary dictionary) {
         restore = dictionary;
     }
 
+    /**
+     * Returns the dictionary for elements deserialized from plain object streams.
+     *
+     * @return the dictionary for elements deserialized from plain object streams
+     * @deprecated use {@link #getRestoreDictionary(ObjectInputStream)}
+     */
+    @Deprecated
     public static Dictionary getRestoreDictionary() {
         return restore;
     }
 
+    /**
+     * Returns the dictionary the elements deserialized from <var>in</var> belong to.
+     *
+     * @param in stream the elements are deserialized from
+     * @return the dictionary of the <var>in</var> stream, if it is a {@link DictionaryObjectInputStream},
+     * otherwise the restore dictionary
+     */
+    @SuppressWarnings("deprecation")
+    public static Dictionary getRestoreDictionary(ObjectInputStream in) {
+        if (in instanceof DictionaryObjectInputStream) {
+            return ((DictionaryObjectInputStream) in).getDictionary();
+        }
+        return restore;
+    }
+
     protected Dictionary(Document doc) throws JWNLException {
         org.w3c.dom.Element root = doc.getDocumentElement();
 
@@ -356,6 +474,46 @@ public abstract class Dictionary {
             editCheckAlienPointers = Boolean.parseBoolean(params.get(EDIT_CHECK_ALIEN_POINTERS).getValue());
         }
 
+        if (params.containsKey(LEMMA_INDEX_KEY)) {
+            useLemmaIndex = Boolean.parseBoolean(params.get(LEMMA_INDEX_KEY).getValue());
+        }
+
+        if (params.containsKey(INFORMATION_CONTENT_SMOOTHING_KEY)) {
+            informationContentSmoothing = Boolean.parseBoolean(params.get(INFORMATION_CONTENT_SMOOTHING_KEY).getValue());
+        }
+
+        for (POS pos : POS.getAllPOS()) {
+            lemmaIndexes.put(pos, addSearchIndex(false, getSearchIndexFile(LEMMA_INDEX_PATH_KEY, "lemma_index." + pos.getLabel()),
+                    LemmaIndex::read, () -> buildLemmaIndex(pos), LemmaIndex::write));
+            phoneticIndexes.put(pos, new SearchIndexHolder<>(this, () -> buildPhoneticIndex(pos)));
+            glossIndexes.put(pos, addSearchIndex(true, getSearchIndexFile(GLOSS_INDEX_PATH_KEY, "gloss_index." + pos.getLabel()),
+                    GlossIndex::read, () -> buildGlossIndex(pos), GlossIndex::write));
+            lexFileIndexes.put(pos, addSearchIndex(true, getSearchIndexFile(LEX_FILE_INDEX_PATH_KEY, "lex_file_index." + pos.getLabel()),
+                    LexFileIndex::read, () -> buildLexFileIndex(pos), LexFileIndex::write));
+        }
+        incomingPointerIndex = addSearchIndex(true, getSearchIndexFile(POINTER_INDEX_PATH_KEY, "incoming_pointers"),
+                IncomingPointerIndex::read, this::buildIncomingPointerIndex, IncomingPointerIndex::write);
+        synsetOrdinals = addSearchIndex(true, getSearchIndexFile(ORDINALS_PATH_KEY, "synset_ordinals"),
+                SynsetOrdinals::read, this::buildSynsetOrdinals, SynsetOrdinals::write);
+        hypernymClosure = addSearchIndex(true, getSearchIndexFile(HYPERNYM_CLOSURE_PATH_KEY, "hypernym_closure"),
+                HypernymClosure::read, this::buildHypernymClosure, HypernymClosure::write);
+        informationContent = addSearchIndex(true, getSearchIndexFile(INFORMATION_CONTENT_PATH_KEY, "information_content"), in -> {
+            InformationContent result = InformationContent.read(in);
+            // built with other smoothing, build it again
+            return informationContentSmoothing == result.isSmoothed() ? result : null;
+        }, this::buildInformationContent, InformationContent::write);
+
+        if (params.containsKey(POINTER_UTILS_CACHE_SIZE_KEY)) {
+            int size = Integer.parseInt(params.get(POINTER_UTILS_CACHE_SIZE_KEY).getValue());
+            if (0 < size) {
+                pointerUtilsCache = new PointerUtilsCache(size);
+            }
+        }
+
+        if (params.containsKey(EXCEPTION_TABLE_KEY)) {
+            useExceptionTable = Boolean.parseBoolean(params.get(EXCEPTION_TABLE_KEY).getValue());
+        }
+
         // initialize verb frames
         int framesCount = Integer.parseInt(messages.resolveMessage("NUMBER_OF_VERB_FRAMES"));
         verbFrames = new String[framesCount];
@@ -416,6 +574,19 @@ public abstract class Dictionary {
      */
     public abstract Iterator<Synset> getSynsetIterator(POS pos) throws JWNLException;
 
+    /**
+     * Returns an iterator over the synsets of part-of-speech <var>pos</var> from the lexicographer file
+     * <var>lexFileId</var>, in offset order, using the lexicographer file index.
+     *
+     * @param pos       The part-of-speech.
+     * @param lexFileId lexicographer file number, see {@link LexFileIdFileNameMap}
+     * @return An iterator over <code>Synset</code>s.
+     * @throws JWNLException JWNLException
+     */
+    public Iterator<Synset> getSynsetIterator(POS pos, long lexFileId) throws JWNLException {
+        return new SynsetOffsetIterator(pos, getLexFileIndex(pos).getOffsets(lexFileId));
+    }
+
     /**
      * Returns the <code>Synset</code> at offset <var>offset</var>.
      *
@@ -426,6 +597,69 @@ public abstract class Dictionary {
      */
     public abstract Synset getSynsetAt(POS pos, long offset) throws JWNLException;
 
+    /**
+     * Returns the synsets at offsets <var>offsets</var>. Dictionaries which read synsets from storage
+     * read the synsets which are not cached in one pass, in the order of offsets.
+     *
+     * @param pos     The part-of-speech file to look in
+     * @param offsets The offsets of the synsets in the file
+     * @return synsets in the order of <var>offsets</var>, null where there is no synset
+     * @throws JWNLException JWNLException
+     */
+    public List<Synset> getSynsetsAt(POS pos, long[] offsets) throws JWNLException {
+        Synset[] result = new Synset[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            result[i] = getSynsetAt(pos, offsets[i]);
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Returns the sorted distinct offsets from <var>offsets</var> for which <var>synsets</var> has no synset.
+     *
+     * @param offsets offsets
+     * @param synsets synsets found so far, in the order of offsets
+     * @return the sorted distinct offsets of missing synsets
+     */
+    protected static long[] getMissingOffsets(long[] offsets, Synset[] synsets) {
+        long[] result = new long[offsets.length];
+        int count = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            if (null == synsets[i]) {
+                result[count++] = offsets[i];
+            }
+        }
+        Arrays.sort(result, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (0 == distinct || result[distinct - 1] != result[i]) {
+                result[distinct++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, distinct);
+    }
+
+    /**
+     * Fills the gaps in <var>synsets</var> with the synsets read at <var>missing</var> offsets.
+     *
+     * @param offsets offsets
+     * @param synsets synsets found so far, in the order of offsets
+     * @param missing offsets returned by {@link #getMissingOffsets(long[], Synset[])}, or fewer, if some were not read
+     * @param found   synsets read at the missing offsets
+     * @return synsets in the order of offsets
+     */
+    protected static List<Synset> fillMissingSynsets(long[] offsets, Synset[] synsets, long[] missing, Synset[] found) {
+        for (int i = 0; i < offsets.length; i++) {
+            if (null == synsets[i]) {
+                int index = Arrays.binarySearch(missing, offsets[i]);
+                if (0 <= index) {
+                    synsets[i] = found[index];
+                }
+            }
+        }
+        return Arrays.asList(synsets);
+    }
+
     /**
      * Returns an iterator over all the exceptions.
      *
@@ -579,6 +813,9 @@ public abstract class Dictionary {
     public synchronized void edit() throws JWNLException {
         if (!editable) {
             editable = true;
+            if (null != pointerUtilsCache) {
+                pointerUtilsCache.clear();
+            }
         }
     }
 
@@ -592,6 +829,10 @@ public abstract class Dictionary {
         if (log.isInfoEnabled()) {
             log.info(messages.resolveMessage("DICTIONARY_INFO_014"));
         }
+        // search index files are rebuilt on next open
+        for (SearchIndexHolder<?> index : searchIndexes) {
+            index.delete();
+        }
         if (checkLexIds) {
             //fixing word lex ids
             for (POS pos : POS.getAllPOS()) {
@@ -637,6 +878,18 @@ public abstract class Dictionary {
         }
     }
 
+    /**
+     * Returns a fingerprint of the data the dictionary is read from, such as names, sizes and modification
+     * times of dictionary files. Search index files keep the fingerprint of the data they are built from
+     * and are built again when it changes. This implementation returns 0: search index files are reused
+     * as long as they can be read.
+     *
+     * @return fingerprint of the dictionary data
+     */
+    protected long getFingerprint() {
+        return 0;
+    }
+
     /**
      * Deletes dictionary files.
      *
@@ -738,6 +991,7 @@ public abstract class Dictionary {
     public void addSynset(Synset synset) throws JWNLException {
         checkEditable();
         synset.setDictionary(this);
+        synsetChanged(synset);
     }
 
     /**
@@ -755,6 +1009,7 @@ public abstract class Dictionary {
         synset.getPointers().clear();
 
         synset.setDictionary(null);
+        synsetChanged(synset);
 
         // take care of index words
         List<Word> copy = new ArrayList<>(synset.getWords());
@@ -766,6 +1021,29 @@ public abstract class Dictionary {
         }
     }
 
+    /**
+     * Listener hook for edit mode: synsets and words call it after <var>synset</var>, its words, pointers, gloss,
+     * lexicographer file, offset or use counts change, see {@link #onSynsetChange(Synset)}.
+     *
+     * @param synset changed synset
+     */
+    public final void synsetChanged(Synset synset) {
+        if (isEditable()) {
+            onSynsetChange(synset);
+        }
+    }
+
+    /**
+     * Called in edit mode after <var>synset</var> changes. This implementation drops the search indexes
+     * over synsets, they are built again on next use. Subclasses keeping own data over synsets can override it,
+     * calling this implementation.
+     *
+     * @param synset changed synset
+     */
+    protected void onSynsetChange(Synset synset) {
+        synsetEpoch.incrementAndGet();
+    }
+
     /**
      * Creates index word.
      *
@@ -789,6 +1067,7 @@ public abstract class Dictionary {
     public void addIndexWord(IndexWord indexWord) throws JWNLException {
         checkEditable();
         indexWord.setDictionary(this);
+        clearSearchIndexes(indexWord.getPOS());
     }
 
     /**
@@ -801,6 +1080,7 @@ public abstract class Dictionary {
         checkEditable();
 
         indexWord.setDictionary(null);
+        clearSearchIndexes(indexWord.getPOS());
 
         // take care of words in synsets
         List<Synset> copy = new ArrayList<>(indexWord.getSenses());
@@ -815,6 +1095,617 @@ public abstract class Dictionary {
         }
     }
 
+    /**
+     * Returns the lemma index of the specified <var>pos</var>, kept in the <var>lemma_index_path</var> directory, if configured.
+     *
+     * @param pos part of speech
+     * @return lemma index
+     * @throws JWNLException JWNLException
+     */
+    public LemmaIndex getLemmaIndex(POS pos) throws JWNLException {
+        return lemmaIndexes.get(pos).get();
+    }
+
+    private LemmaIndex buildLemmaIndex(POS pos) throws JWNLException {
+        long start = System.currentTimeMillis();
+        List<String> lemmas = new ArrayList<>();
+        Iterator<IndexWord> ii = getIndexWordIterator(pos);
+        while (ii.hasNext()) {
+            lemmas.add(ii.next().getLemma());
+        }
+        LemmaIndex result = new LemmaIndex(lemmas);
+        if (log.isDebugEnabled()) {
+            log.debug(messages.resolveMessage("DICTIONARY_INFO_019", new Object[]{pos.getLabel(), result.size(), System.currentTimeMillis() - start}));
+        }
+        return result;
+    }
+
+    /**
+     * Returns up to <var>limit</var> index words whose lemmas start with <var>prefix</var>, in lemma order.
+     *
+     * @param pos    part of speech
+     * @param prefix lemma prefix
+     * @param limit  maximum number of index words to return
+     * @return index words whose lemmas start with <var>prefix</var>
+     * @throws JWNLException JWNLException
+     */
+    public List<IndexWord> getIndexWordsByPrefix(POS pos, String prefix, int limit) throws JWNLException {
+        return getIndexWordsByPrefix(pos, prefix, limit, false);
+    }
+
+    /**
+     * Returns up to <var>limit</var> index words whose lemmas start with <var>prefix</var>.
+     * If <var>rankByUseCount</var>, returns the index words with the highest summed use counts of their senses,
+     * most used first. Use counts are collected from all senses of <var>pos</var> on the first ranked lookup.
+     *
+     * @param pos            part of speech
+     * @param prefix         lemma prefix
+     * @param limit          maximum number of index words to return
+     * @param rankByUseCount whether to rank index words by use count
+     * @return index words whose lemmas start with <var>prefix</var>
+     * @throws JWNLException JWNLException
+     */
+    public List<IndexWord> getIndexWordsByPrefix(POS pos, String prefix, int limit, boolean rankByUseCount) throws JWNLException {
+        LemmaIndex index = rankByUseCount ? getWeightedLemmaIndex(pos) : getLemmaIndex(pos);
+        List<String> lemmas = index.getLemmasByPrefix(prepareQueryString(prefix).replace('_', ' '), limit, rankByUseCount);
+        return getIndexWords(pos, lemmas);
+    }
+
+    /**
+     * Returns up to <var>limit</var> index words whose lemmas are within <var>maxEdits</var> edits
+     * (insertions, deletions or substitutions of a char) from <var>term</var>, closest first.
+     * Useful as a fallback for misspelled input, when {@link #lookupIndexWord(POS, String)} finds nothing.
+     *
+     * @param pos      part of speech
+     * @param term     term to look for
+     * @param maxEdits maximum edit distance
+     * @param limit    maximum number of index words to return
+     * @return index words close to <var>term</var>
+     * @throws JWNLException JWNLException
+     */
+    public List<IndexWord> lookupFuzzy(POS pos, String term, int maxEdits, int limit) throws JWNLException {
+        if (maxEdits < 0) {
+            throw new IllegalArgumentException(messages.resolveMessage("DICTIONARY_EXCEPTION_072", maxEdits));
+        }
+        List<String> lemmas = getLemmaIndex(pos).getLemmasWithin(prepareQueryString(term).replace('_', ' '), maxEdits, limit);
+        return getIndexWords(pos, lemmas);
+    }
+
+    /**
+     * Returns the phonetic index of the specified <var>pos</var>, built from the index words on first use.
+     *
+     * @param pos part of speech
+     * @return phonetic index
+     * @throws JWNLException JWNLException
+     */
+    public PhoneticIndex getPhoneticIndex(POS pos) throws JWNLException {
+        return phoneticIndexes.get(pos).get();
+    }
+
+    private PhoneticIndex buildPhoneticIndex(POS pos) throws JWNLException {
+        long start = System.currentTimeMillis();
+        List<String> lemmas = new ArrayList<>();
+        Iterator<IndexWord> ii = getIndexWordIterator(pos);
+        while (ii.hasNext()) {
+            lemmas.add(ii.next().getLemma());
+        }
+        PhoneticIndex result = new PhoneticIndex(lemmas);
+        if (log.isDebugEnabled()) {
+            log.debug(messages.resolveMessage("DICTIONARY_INFO_020", new Object[]{pos.getLabel(), result.size(), result.getKeyCount(), System.currentTimeMillis() - start}));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index words which sound like <var>term</var>, in lemma order.
+     * Lemmas sound alike when they have the same phonetic key, see {@link PhoneticIndex#encode(String)}.
+     *
+     * @param pos  part of speech
+     * @param term term to look for
+     * @return index words sounding like <var>term</var>
+     * @throws JWNLException JWNLException
+     */
+    public List<IndexWord> lookupPhonetic(POS pos, String term) throws JWNLException {
+        return getIndexWords(pos, getPhoneticIndex(pos).getLemmasLike(term));
+    }
+
+    /**
+     * Returns the gloss index of the specified <var>pos</var>, kept in the <var>gloss_index_path</var> directory, if configured.
+     *
+     * @param pos part of speech
+     * @return gloss index
+     * @throws JWNLException JWNLException
+     */
+    public GlossIndex getGlossIndex(POS pos) throws JWNLException {
+        return glossIndexes.get(pos).get();
+    }
+
+    /**
+     * Returns the synsets whose glosses contain all words of the <var>query</var>, in offset order.
+     * Words are compared ignoring case, punctuation separates words.
+     *
+     * @param pos   part of speech
+     * @param query words to look for
+     * @return synsets whose glosses contain all words of the <var>query</var>
+     * @throws JWNLException JWNLException
+     */
+    public List<Synset> searchGlosses(POS pos, String query) throws JWNLException {
+        return getSynsets(pos, getGlossIndex(pos).getOffsets(query));
+    }
+
+    /**
+     * Returns the synsets whose glosses contain the words of the <var>phrase</var> next to each other,
+     * in offset order. Words are compared ignoring case, punctuation separates words.
+     *
+     * @param pos    part of speech
+     * @param phrase phrase to look for
+     * @return synsets whose glosses contain the <var>phrase</var>
+     * @throws JWNLException JWNLException
+     */
+    public List<Synset> searchGlossPhrase(POS pos, String phrase) throws JWNLException {
+        return getSynsets(pos, getGlossIndex(pos).getPhraseOffsets(phrase));
+    }
+
+    /**
+     * Returns the cache of {@link PointerUtils} results, configured by the <var>pointer_utils_cache_size</var>
+     * parameter, or null, if results are not cached. In edit mode pointers might change, so results are not
+     * cached and the results cached before editing are dropped.
+     *
+     * @return the cache of PointerUtils results, or null
+     */
+    public PointerUtilsCache getPointerUtilsCache() {
+        return isEditable() ? null : pointerUtilsCache;
+    }
+
+    /**
+     * Returns the incoming pointer index over all synsets, kept in the <var>pointer_index_path</var> directory, if configured.
+     *
+     * @return incoming pointer index
+     * @throws JWNLException JWNLException
+     */
+    public IncomingPointerIndex getIncomingPointerIndex() throws JWNLException {
+        return incomingPointerIndex.get();
+    }
+
+    /**
+     * Returns pointers of type <var>type</var> from other synsets or their words
+     * to the <var>target</var> synset or its words.
+     *
+     * @param target target synset
+     * @param type   pointer type, hypernyms and hyponyms include instance ones,
+     *               as in {@link net.sf.extjwnl.data.PointerTarget#getPointers(PointerType)}
+     * @return pointers to the <var>target</var>
+     * @throws JWNLException JWNLException
+     */
+    public List<Pointer> getIncomingPointers(Synset target, PointerType type) throws JWNLException {
+        IncomingPointerIndex index = getIncomingPointerIndex();
+        Set<Long> sources = new TreeSet<>();
+        for (PointerType t : new PointerType[]{type,
+                PointerType.HYPERNYM == type ? PointerType.INSTANCE_HYPERNYM : null,
+                PointerType.HYPONYM == type ? PointerType.INSTANCES_HYPONYM : null}) {
+            if (null != t) {
+                for (long source : index.getSources(target.getPOS(), target.getOffset(), t)) {
+                    sources.add(source);
+                }
+            }
+        }
+
+        List<Pointer> result = new ArrayList<>();
+        for (long key : sources) {
+            Synset source = getSynsetAt(IncomingPointerIndex.getPOS(key), IncomingPointerIndex.getOffset(key));
+            if (null != source) {
+                for (Pointer pointer : source.getPointers(type)) {
+                    if (target.getPOS() == pointer.getTargetPOS() && target.getOffset() == pointer.getTargetOffset()) {
+                        result.add(pointer);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private IncomingPointerIndex buildIncomingPointerIndex() throws JWNLException {
+        long start = System.currentTimeMillis();
+        IncomingPointerIndex.Builder builder = new IncomingPointerIndex.Builder();
+        for (POS pos : POS.getAllPOS()) {
+            Iterator<Synset> si = getSynsetIterator(pos);
+            while (si.hasNext()) {
+                builder.add(si.next());
+            }
+        }
+        IncomingPointerIndex result = builder.build();
+        if (log.isDebugEnabled()) {
+            log.debug(messages.resolveMessage("DICTIONARY_INFO_022", new Object[]{result.size(), System.currentTimeMillis() - start}));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the dense ordinals of all synsets, kept in the <var>ordinals_path</var> directory, if configured.
+     *
+     * @return synset ordinals
+     * @throws JWNLException JWNLException
+     */
+    public SynsetOrdinals getSynsetOrdinals() throws JWNLException {
+        return synsetOrdinals.get();
+    }
+
+    /**
+     * Returns the number of synsets in the dictionary.
+     *
+     * @return the number of synsets in the dictionary
+     * @throws JWNLException JWNLException
+     */
+    public int getSynsetCount() throws JWNLException {
+        return getSynsetOrdinals().size();
+    }
+
+    /**
+     * Returns the synset with the dense <var>ordinal</var>, see {@link Synset#getOrdinal()}.
+     *
+     * @param ordinal synset ordinal, from 0 to {@link #getSynsetCount()} - 1
+     * @return synset with the <var>ordinal</var>
+     * @throws JWNLException JWNLException
+     * @throws IndexOutOfBoundsException if the ordinal is out of range
+     */
+    public Synset getSynsetByOrdinal(int ordinal) throws JWNLException {
+        SynsetOrdinals ordinals = getSynsetOrdinals();
+        return getSynsetAt(ordinals.getPOS(ordinal), ordinals.getOffset(ordinal));
+    }
+
+    /**
+     * Returns the closure of the hypernym relation over synset ordinals, kept in the <var>hypernym_closure_path</var> directory, if configured.
+     *
+     * @return hypernym closure
+     * @throws JWNLException JWNLException
+     */
+    public HypernymClosure getHypernymClosure() throws JWNLException {
+        return hypernymClosure.get();
+    }
+
+    /**
+     * Returns whether <var>hypernym</var> is a direct or inherited hypernym of <var>hyponym</var>,
+     * that is, whether <var>hyponym</var> is a kind or an instance of <var>hypernym</var>.
+     * A synset is not a hyponym of itself.
+     *
+     * @param hyponym  synset
+     * @param hypernym possible hypernym
+     * @return true, if <var>hyponym</var> is a hyponym of <var>hypernym</var>
+     * @throws JWNLException JWNLException
+     */
+    public boolean isHyponymOf(Synset hyponym, Synset hypernym) throws JWNLException {
+        SynsetOrdinals ordinals = getSynsetOrdinals();
+        int synset = ordinals.getOrdinal(hyponym.getPOS(), hyponym.getOffset());
+        int ancestor = ordinals.getOrdinal(hypernym.getPOS(), hypernym.getOffset());
+        return -1 != synset && -1 != ancestor && getHypernymClosure().isAncestor(synset, ancestor);
+    }
+
+    /**
+     * Returns the sorted ordinals of all direct and inherited hypernyms of <var>synset</var>,
+     * see {@link #getSynsetByOrdinal(int)}.
+     *
+     * @param synset synset
+     * @return the sorted ordinals of the hypernyms of <var>synset</var>
+     * @throws JWNLException JWNLException
+     */
+    public int[] getAncestors(Synset synset) throws JWNLException {
+        int ordinal = getSynsetOrdinals().getOrdinal(synset.getPOS(), synset.getOffset());
+        return -1 == ordinal ? new int[0] : getHypernymClosure().getAncestors(ordinal);
+    }
+
+    /**
+     * Returns the information content of synsets over synset ordinals, computed from word use counts,
+     * see {@link Word#getUseCount()}, kept in the <var>information_content_path</var> directory, if configured.
+     *
+     * @return information content
+     * @throws JWNLException JWNLException
+     */
+    public InformationContent getInformationContent() throws JWNLException {
+        return informationContent.get();
+    }
+
+    private InformationContent buildInformationContent() throws JWNLException {
+        long start = System.currentTimeMillis();
+        SynsetOrdinals ordinals = getSynsetOrdinals();
+        InformationContent.Builder builder = new InformationContent.Builder(ordinals, getHypernymClosure())
+                .setSmoothing(informationContentSmoothing);
+        for (POS pos : POS.getAllPOS()) {
+            Iterator<Synset> si = getSynsetIterator(pos);
+            while (si.hasNext()) {
+                Synset synset = si.next();
+                int ordinal = ordinals.getOrdinal(pos, synset.getOffset());
+                if (-1 != ordinal) {
+                    for (Word word : synset.getWords()) {
+                        builder.add(ordinal, word.getUseCount());
+                    }
+                }
+            }
+        }
+        InformationContent result = builder.build();
+        if (log.isDebugEnabled()) {
+            log.debug(messages.resolveMessage("DICTIONARY_INFO_027", new Object[]{result.size(), System.currentTimeMillis() - start}));
+        }
+        return result;
+    }
+
+    private HypernymClosure buildHypernymClosure() throws JWNLException {
+        long start = System.currentTimeMillis();
+        SynsetOrdinals ordinals = getSynsetOrdinals();
+        HypernymClosure.Builder builder = new HypernymClosure.Builder(ordinals.size());
+        for (POS pos : POS.getAllPOS()) {
+            Iterator<Synset> si = getSynsetIterator(pos);
+            while (si.hasNext()) {
+                Synset synset = si.next();
+                int child = ordinals.getOrdinal(pos, synset.getOffset());
+                for (Pointer pointer : synset.getPointers(PointerType.HYPERNYM)) {
+                    int parent = ordinals.getOrdinal(pointer.getTargetPOS(), pointer.getTargetOffset());
+                    if (-1 != child && -1 != parent) {
+                        builder.add(child, parent);
+                    }
+                }
+            }
+        }
+        HypernymClosure result = builder.build();
+        if (log.isDebugEnabled()) {
+            log.debug(messages.resolveMessage("DICTIONARY_INFO_026", new Object[]{result.size(), System.currentTimeMillis() - start}));
+        }
+        return result;
+    }
+
+    private SynsetOrdinals buildSynsetOrdinals() throws JWNLException {
+        long start = System.currentTimeMillis();
+        SynsetOrdinals.Builder builder = new SynsetOrdinals.Builder();
+        for (POS pos : POS.getAllPOS()) {
+            Iterator<Synset> si = getSynsetIterator(pos);
+            while (si.hasNext()) {
+                builder.add(pos, si.next().getOffset());
+            }
+        }
+        SynsetOrdinals result = builder.build();
+        if (log.isDebugEnabled()) {
+            log.debug(messages.resolveMessage("DICTIONARY_INFO_025", new Object[]{result.size(), System.currentTimeMillis() - start}));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the lexicographer file index of the specified <var>pos</var>, kept in the <var>lex_file_index_path</var> directory, if configured.
+     *
+     * @param pos part of speech
+     * @return lexicographer file index
+     * @throws JWNLException JWNLException
+     */
+    public LexFileIndex getLexFileIndex(POS pos) throws JWNLException {
+        return lexFileIndexes.get(pos).get();
+    }
+
+    private LexFileIndex buildLexFileIndex(POS pos) throws JWNLException {
+        long start = System.currentTimeMillis();
+        LexFileIndex.Builder builder = new LexFileIndex.Builder();
+        Iterator<Synset> si = getSynsetIterator(pos);
+        while (si.hasNext()) {
+            Synset synset = si.next();
+            builder.add(synset.getLexFileNum(), synset.getOffset());
+        }
+        LexFileIndex result = builder.build();
+        if (log.isDebugEnabled()) {
+            log.debug(messages.resolveMessage("DICTIONARY_INFO_023", new Object[]{pos.getLabel(), result.size(), System.currentTimeMillis() - start}));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the exception table of <var>pos</var>, loaded on first use, or null, if the exception table
+     * is disabled or the dictionary is editable.
+     *
+     * @param pos part of speech
+     * @return the exception table of <var>pos</var>, or null
+     * @throws JWNLException JWNLException
+     */
+    protected ExceptionTable getExceptionTable(POS pos) throws JWNLException {
+        if (!useExceptionTable || isEditable()) {
+            return null;
+        }
+        ExceptionTable result = exceptionTables[pos.ordinal()];
+        if (null == result) {
+            synchronized (exceptionTables) {
+                result = exceptionTables[pos.ordinal()];
+                if (null == result) {
+                    result = buildExceptionTable(pos);
+                    exceptionTables[pos.ordinal()] = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private ExceptionTable buildExceptionTable(POS pos) throws JWNLException {
+        long start = System.currentTimeMillis();
+        ExceptionTable.Builder builder = new ExceptionTable.Builder();
+        Iterator<Exc> ei = getExceptionIterator(pos);
+        while (ei.hasNext()) {
+            builder.add(ei.next());
+        }
+        ExceptionTable result = builder.build();
+        if (log.isDebugEnabled()) {
+            log.debug(messages.resolveMessage("DICTIONARY_INFO_024", new Object[]{pos.getLabel(), result.size(), System.currentTimeMillis() - start}));
+        }
+        return result;
+    }
+
+    private GlossIndex buildGlossIndex(POS pos) throws JWNLException {
+        long start = System.currentTimeMillis();
+        GlossIndex.Builder builder = new GlossIndex.Builder();
+        Iterator<Synset> si = getSynsetIterator(pos);
+        while (si.hasNext()) {
+            Synset synset = si.next();
+            builder.add(synset.getOffset(), synset.getGloss());
+        }
+        GlossIndex result = builder.build();
+        if (log.isDebugEnabled()) {
+            log.debug(messages.resolveMessage("DICTIONARY_INFO_021", new Object[]{pos.getLabel(), result.getTermCount(), System.currentTimeMillis() - start}));
+        }
+        return result;
+    }
+
+    private List<Synset> getSynsets(POS pos, long[] offsets) throws JWNLException {
+        List<Synset> result = new ArrayList<>(offsets.length);
+        for (long offset : offsets) {
+            Synset synset = getSynsetAt(pos, offset);
+            if (null != synset) {
+                result.add(synset);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index words containing <var>substring</var> using the lemma index,
+     * or null, if the lemma index is disabled.
+     *
+     * @param pos       part of speech
+     * @param substring substring
+     * @return index words containing <var>substring</var>, or null
+     * @throws JWNLException JWNLException
+     */
+    protected Iterator<IndexWord> getLemmaIndexIterator(POS pos, String substring) throws JWNLException {
+        if (!useLemmaIndex) {
+            return null;
+        }
+        // file-based backends match the underscored form
+        List<String> lemmas = getLemmaIndex(pos).getLemmasContaining(prepareQueryString(substring).replace('_', ' '));
+        return new LemmaIterator(pos, lemmas.iterator());
+    }
+
+    private LemmaIndex getWeightedLemmaIndex(POS pos) throws JWNLException {
+        SearchIndexHolder<LemmaIndex> index = lemmaIndexes.get(pos);
+        synchronized (index) {
+            LemmaIndex result = index.get();
+            if (!result.hasWeights()) {
+                int[] weights = new int[result.size()];
+                Iterator<IndexWord> ii = getIndexWordIterator(pos);
+                while (ii.hasNext()) {
+                    IndexWord iw = ii.next();
+                    int id = result.getId(iw.getLemma());
+                    if (0 <= id) {
+                        for (Synset synset : iw.getSenses()) {
+                            for (Word word : synset.getWords()) {
+                                if (word.getLemma().equalsIgnoreCase(iw.getLemma())) {
+                                    weights[id] = weights[id] + word.getUseCount();
+                                }
+                            }
+                        }
+                    }
+                }
+                result = result.withWeights(weights);
+                index.set(result);
+            }
+            return result;
+        }
+    }
+
+    private List<IndexWord> getIndexWords(POS pos, List<String> lemmas) throws JWNLException {
+        List<IndexWord> result = new ArrayList<>(lemmas.size());
+        for (String lemma : lemmas) {
+            IndexWord indexWord = getIndexWord(pos, lemma);
+            if (null != indexWord) {
+                result.add(indexWord);
+            }
+        }
+        return result;
+    }
+
+    private void clearSearchIndexes(POS pos) {
+        lemmaIndexes.get(pos).clear();
+        phoneticIndexes.get(pos).clear();
+    }
+
+    private File getSearchIndexFile(String pathKey, String name) {
+        return params.containsKey(pathKey) ? new File(params.get(pathKey).getValue(), name) : null;
+    }
+
+    private <T> SearchIndexHolder<T> addSearchIndex(boolean overSynsets, File file, SearchIndexHolder.Reader<T> reader,
+                                                    SearchIndexHolder.Builder<T> builder, SearchIndexHolder.Writer<T> writer) {
+        SearchIndexHolder<T> result = new SearchIndexHolder<>(this, overSynsets ? synsetEpoch : null, file, reader, builder, writer);
+        searchIndexes.add(result);
+        return result;
+    }
+
+    /**
+     * Looks up index words for lemmas, skipping lemmas removed since the lemma index was built.
+     */
+    private class LemmaIterator implements Iterator<IndexWord> {
+
+        private final POS pos;
+        private final Iterator<String> lemmas;
+        private IndexWord next;
+
+        private LemmaIterator(POS pos, Iterator<String> lemmas) {
+            this.pos = pos;
+            this.lemmas = lemmas;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (null == next && lemmas.hasNext()) {
+                    next = getIndexWord(pos, lemmas.next());
+                }
+            } catch (JWNLException e) {
+                throw new JWNLRuntimeException(e);
+            }
+            return null != next;
+        }
+
+        @Override
+        public IndexWord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            IndexWord result = next;
+            next = null;
+            return result;
+        }
+    }
+
+    /**
+     * Looks up synsets at offsets, skipping synsets removed since the offsets were collected.
+     */
+    private class SynsetOffsetIterator implements Iterator<Synset> {
+
+        private final POS pos;
+        private final long[] offsets;
+        private int index;
+        private Synset next;
+
+        private SynsetOffsetIterator(POS pos, long[] offsets) {
+            this.pos = pos;
+            this.offsets = offsets;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (null == next && index < offsets.length) {
+                    next = getSynsetAt(pos, offsets[index++]);
+                }
+            } catch (JWNLException e) {
+                throw new JWNLRuntimeException(e);
+            }
+            return null != next;
+        }
+
+        @Override
+        public Synset next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Synset result = next;
+            next = null;
+            return result;
+        }
+    }
+
     public boolean getManageSymmetricPointers() {
         return editManageSymmetricPointers;
     }
@@ -918,37 +1809,14 @@ public abstract class Dictionary {
      * Loads all targets in load all pointers and all synsets in all index words.
      *
      * @throws JWNLException JWNLException
+     * @see PointerResolver
      */
     protected void resolveAllPointers() throws JWNLException {
-        for (POS pos : POS.getAllPOS()) {
-            resolvePointers(pos);
-        }
+        new PointerResolver(this).resolve();
     }
 
     protected void resolvePointers(POS pos) throws JWNLException {
-        if (log.isDebugEnabled()) {
-            log.debug(getMessages().resolveMessage("DICTIONARY_INFO_013", pos.getLabel()));
-        }
-
-        {
-            Iterator<Synset> si = getSynsetIterator(pos);
-            while (si.hasNext()) {
-                Synset s = si.next();
-                for (Pointer p : s.getPointers()) {
-                    // resolve pointers
-                    p.getTarget();
-                }
-            }
-        }
-
-        {
-            Iterator<IndexWord> ii = getIndexWordIterator(pos);
-            while (ii.hasNext()) {
-                IndexWord iw = ii.next();
-                // load synsets
-                iw.getSenses().iterator();
-            }
-        }
+        new PointerResolver(this).resolve(pos);
     }
 
     private List<Param> getParams(Dictionary dictionary, NodeList list) throws JWNLException {
@@ -6,11 +6,13 @@ import net.sf.extjwnl.JWNLRuntimeException;
 import net.sf.extjwnl.data.*;
 import net.sf.extjwnl.dictionary.file.DictionaryFileType;
 import net.sf.extjwnl.dictionary.file_manager.FileManager;
+import net.sf.extjwnl.dictionary.search.ExceptionTable;
 import net.sf.extjwnl.princeton.data.AbstractDictionaryElementFactory;
 import net.sf.extjwnl.util.PointedCharSequence;
 import org.w3c.dom.Document;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
@@ -96,6 +98,11 @@ public class FileBackedDictionary extends AbstractCachingDictionary {
         return fileManager.delete();
     }
 
+    @Override
+    protected long getFingerprint() {
+        return fileManager.getFingerprint();
+    }
+
     @Override
     public Iterator<IndexWord> getIndexWordIterator(final POS pos) throws JWNLException {
         if (!isEditable()) {
@@ -107,6 +114,10 @@ public class FileBackedDictionary extends AbstractCachingDictionary {
 
     @Override
     public Iterator<IndexWord> getIndexWordIterator(final POS pos, final String substring) throws JWNLException {
+        Iterator<IndexWord> indexed = getLemmaIndexIterator(pos, substring);
+        if (null != indexed) {
+            return indexed;
+        }
         if (!isEditable()) {
             // replace here kind of "leaks out" file format
             return new SubstringIndexFileLookaheadIterator(pos, prepareQueryString(substring.replace(' ', '_')));
@@ -178,6 +189,23 @@ public class FileBackedDictionary extends AbstractCachingDictionary {
         return synset;
     }
 
+    @Override
+    public List<Synset> getSynsetsAt(POS pos, long[] offsets) throws JWNLException {
+        Synset[] result = new Synset[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            result[i] = getCachedSynset(pos, offsets[i]);
+        }
+        long[] missing = isEditable() ? new long[0] : getMissingOffsets(offsets, result);
+        Synset[] found = new Synset[missing.length];
+        if (0 < missing.length) {
+            PointedCharSequence[] lines = fileManager.readLinesAt(pos, DictionaryFileType.DATA, missing);
+            for (int i = 0; i < missing.length; i++) {
+                found[i] = parseAndCacheSynset(pos, lines[i]);
+            }
+        }
+        return fillMissingSynsets(offsets, result, missing, found);
+    }
+
     @Override
     public Iterator<Exc> getExceptionIterator(POS pos) throws JWNLException {
         if (!isEditable()) {
@@ -197,20 +225,25 @@ public class FileBackedDictionary extends AbstractCachingDictionary {
         if (null != derivation) {
             derivation = prepareQueryString(derivation);
             if (derivation.length() > 0) {
-                if (isCachingEnabled()) {
-                    exc = getCachedException(pos, derivation);
-                }
-                if (!isEditable() && null == exc) {
-                    try {
-                        CharSequence line = fileManager.getIndexedLine(
-                                // replace here kind of "leaks out" file format
-                                pos, DictionaryFileType.EXCEPTION, derivation.replace(' ', '_'));
-                        if (null != line) {
-                            exc = parseAndCacheExceptionLine(pos, line);
+                ExceptionTable table = getExceptionTable(pos);
+                if (null != table) {
+                    exc = table.get(derivation);
+                } else {
+                    if (isCachingEnabled()) {
+                        exc = getCachedException(pos, derivation);
+                    }
+                    if (!isEditable() && null == exc) {
+                        try {
+                            CharSequence line = fileManager.getIndexedLine(
+                                    // replace here kind of "leaks out" file format
+                                    pos, DictionaryFileType.EXCEPTION, derivation.replace(' ', '_'));
+                            if (null != line) {
+                                exc = parseAndCacheExceptionLine(pos, line);
+                            }
+                        } catch (JWNLIOException e) {
+                            throw new JWNLException(getMessages().resolveMessage("DICTIONARY_EXCEPTION_006",
+                                    new Object[]{pos.getLabel(), derivation}), e);
                         }
-                    } catch (JWNLIOException e) {
-                        throw new JWNLException(getMessages().resolveMessage("DICTIONARY_EXCEPTION_006",
-                                new Object[]{pos.getLabel(), derivation}), e);
                     }
                 }
             }
@@ -11,7 +11,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.*;
 
 /**
  * A <code>Dictionary</code> backed by <code>Map</code>s. Warning: this has huge memory requirements.
@@ -24,10 +26,19 @@ public class MapBackedDictionary extends MapDictionary {
 
     private static final Logger log = LoggerFactory.getLogger(MapBackedDictionary.class);
 
+    /**
+     * Whether to load the files in parallel on the common fork-join pool, default: true.
+     */
+    public static final String PARALLEL_LOAD_KEY = "parallel_load";
+    private boolean parallelLoad = true;
+
     private final DictionaryCatalogSet<ObjectDictionaryFile> files;
 
     public MapBackedDictionary(Document doc) throws JWNLException {
         super(doc);
+        if (params.containsKey(PARALLEL_LOAD_KEY)) {
+            parallelLoad = Boolean.parseBoolean(params.get(PARALLEL_LOAD_KEY).getValue());
+        }
         files = new DictionaryCatalogSet<>(this, params, ObjectDictionaryFile.class);
         this.load();
     }
@@ -37,6 +48,11 @@ public class MapBackedDictionary extends MapDictionary {
         return files.delete();
     }
 
+    @Override
+    protected long getFingerprint() {
+        return files.getFingerprint();
+    }
+
     @Override
     public synchronized void close() throws JWNLException {
         files.close();
@@ -46,6 +62,12 @@ public class MapBackedDictionary extends MapDictionary {
     @Override
     public synchronized void edit() throws JWNLException {
         if (!isEditable()) {
+            // tables might be read-only views over lazily loaded files
+            for (POS pos : POS.getAllPOS()) {
+                for (DictionaryFileType fileType : DictionaryFileType.getAllDictionaryFileTypes()) {
+                    putTable(pos, fileType, new ConcurrentHashMap<>(getTable(pos, fileType)));
+                }
+            }
             super.edit();
             files.edit();
         }
@@ -58,37 +80,66 @@ public class MapBackedDictionary extends MapDictionary {
     }
 
     private void load() throws JWNLException {
-        // because restore variable is static
-        synchronized (Dictionary.class) {
-            Dictionary.setRestoreDictionary(this);
-            try {
-                if (!files.isOpen()) {
-                    files.open();
-                }
-                // load all the hash tables into memory
-                if (log.isDebugEnabled()) {
-                    log.debug(getMessages().resolveMessage("DICTIONARY_INFO_009"));
-                }
-                if (log.isTraceEnabled()) {
-                    log.trace(getMessages().resolveMessage("DICTIONARY_INFO_010", Runtime.getRuntime().freeMemory()));
-                }
+        if (!files.isOpen()) {
+            files.open();
+        }
+        // load all the hash tables into memory
+        if (log.isDebugEnabled()) {
+            log.debug(getMessages().resolveMessage("DICTIONARY_INFO_009"));
+        }
+        if (log.isTraceEnabled()) {
+            log.trace(getMessages().resolveMessage("DICTIONARY_INFO_010", Runtime.getRuntime().freeMemory()));
+        }
+        long start = System.currentTimeMillis();
 
-                for (DictionaryFileType fileType : DictionaryFileType.getAllDictionaryFileTypes()) {
-                    DictionaryCatalog<ObjectDictionaryFile> catalog = files.get(fileType);
-                    for (POS pos : POS.getAllPOS()) {
-                        if (log.isDebugEnabled()) {
-                            log.debug(getMessages().resolveMessage("DICTIONARY_INFO_011", new Object[]{pos.getLabel(), fileType.getName()}));
-                        }
-                        putTable(pos, fileType, loadDictFile(catalog.get(pos)));
-                        if (log.isTraceEnabled()) {
-                            log.trace(getMessages().resolveMessage("DICTIONARY_INFO_012", Runtime.getRuntime().freeMemory()));
-                        }
+        final Map<DictionaryFileType, Map<POS, Future<Map<Object, DictionaryElement>>>> tables = new EnumMap<>(DictionaryFileType.class);
+        for (DictionaryFileType fileType : DictionaryFileType.getAllDictionaryFileTypes()) {
+            final DictionaryCatalog<ObjectDictionaryFile> catalog = files.get(fileType);
+            final Map<POS, Future<Map<Object, DictionaryElement>>> posTables = new EnumMap<>(POS.class);
+            for (final POS pos : POS.getAllPOS()) {
+                Callable<Map<Object, DictionaryElement>> task = () -> {
+                    if (log.isDebugEnabled()) {
+                        log.debug(getMessages().resolveMessage("DICTIONARY_INFO_011", new Object[]{pos.getLabel(), fileType.getName()}));
+                    }
+                    return loadDictFile(catalog.get(pos));
+                };
+                posTables.put(pos, parallelLoad ? ForkJoinPool.commonPool().submit(task) : new FutureTask<>(task));
+            }
+            tables.put(fileType, posTables);
+        }
+
+        try {
+            for (DictionaryFileType fileType : DictionaryFileType.getAllDictionaryFileTypes()) {
+                for (POS pos : POS.getAllPOS()) {
+                    Future<Map<Object, DictionaryElement>> table = tables.get(fileType).get(pos);
+                    if (table instanceof FutureTask) {
+                        ((FutureTask<Map<Object, DictionaryElement>>) table).run();
                     }
+                    putTable(pos, fileType, table.get());
+                    if (log.isTraceEnabled()) {
+                        log.trace(getMessages().resolveMessage("DICTIONARY_INFO_012", Runtime.getRuntime().freeMemory()));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JWNLException(getMessages().resolveMessage("DICTIONARY_EXCEPTION_069"), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof JWNLException) {
+                throw (JWNLException) e.getCause();
+            }
+            throw new JWNLException(getMessages().resolveMessage("DICTIONARY_EXCEPTION_069"), e.getCause());
+        } finally {
+            for (Map<POS, Future<Map<Object, DictionaryElement>>> posTables : tables.values()) {
+                for (Future<Map<Object, DictionaryElement>> table : posTables.values()) {
+                    table.cancel(false);
                 }
-                files.close();
-            } finally {
-                Dictionary.setRestoreDictionary(null);
             }
+            files.close();
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(getMessages().resolveMessage("DICTIONARY_INFO_018", System.currentTimeMillis() - start));
         }
     }
 
@@ -101,16 +152,4 @@ public class MapBackedDictionary extends MapDictionary {
             throw new JWNLException(getMessages().resolveMessage("DICTIONARY_EXCEPTION_020", file.getFilename()), e);
         }
     }
-
-    /**
-     * Use <var>table</var> for lookups to the file represented by <var>pos</var> and
-     * <var>fileType</var>.
-     *
-     * @param pos      POS
-     * @param fileType element type
-     * @param table    hashmap with elements
-     */
-    private void putTable(POS pos, DictionaryFileType fileType, Map<Object, DictionaryElement> table) {
-        tableMap.get(pos).put(fileType, table);
-    }
-}
\ No newline at end of file
+}
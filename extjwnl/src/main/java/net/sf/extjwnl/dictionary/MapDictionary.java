@@ -16,11 +16,19 @@ public class MapDictionary extends Dictionary {
 
     /**
      * Random number generator used by getRandomIndexWord()
+     *
+     * @deprecated random selection uses {@link #getRandom()}
      */
+    @Deprecated
     protected static final Random rand = new Random();
 
     protected final Map<POS, Map<DictionaryFileType, Map<Object, DictionaryElement>>> tableMap;
 
+    /**
+     * Array-backed views of index word tables for random access, built on first use.
+     */
+    private final Map<POS, RandomAccessIndex> randomIndexMap = new EnumMap<>(POS.class);
+
     public MapDictionary(Document doc) throws JWNLException {
         super(doc);
 
@@ -35,7 +43,11 @@ public class MapDictionary extends Dictionary {
         return (IndexWord) getTable(pos, DictionaryFileType.INDEX).get(prepareQueryString(lemma));
     }
 
-    public Iterator<IndexWord> getIndexWordIterator(POS pos, String substring) {
+    public Iterator<IndexWord> getIndexWordIterator(POS pos, String substring) throws JWNLException {
+        Iterator<IndexWord> indexed = getLemmaIndexIterator(pos, substring);
+        if (null != indexed) {
+            return indexed;
+        }
         substring = prepareQueryString(substring);
 
         final Iterator<IndexWord> itr = getIndexWordIterator(pos);
@@ -56,15 +68,62 @@ public class MapDictionary extends Dictionary {
     }
 
     public IndexWord getRandomIndexWord(POS pos) throws JWNLException {
-        // this is a very inefficient implementation, but a better
-        // one would require a custom Map implementation that allowed
-        // access to the underlying Entry array.
-        int index = rand.nextInt(getTable(pos, DictionaryFileType.INDEX).size());
-        Iterator<IndexWord> itr = getIndexWordIterator(pos);
-        for (int i = 0; i < index && itr.hasNext(); i++) {
-            itr.next();
+        RandomAccessIndex index = getRandomAccessIndex(pos);
+        synchronized (index) {
+            if (0 == index.words.size()) {
+                return null;
+            }
+            return index.words.get(getRandom().nextInt(index.words.size()));
+        }
+    }
+
+    /**
+     * Returns up to <var>k</var> distinct index words of a specified <var>pos</var>, selected uniformly at random.
+     * If the dictionary has fewer than <var>k</var> index words, all of them are returned in random order.
+     *
+     * @param pos the part of speech
+     * @param k   the number of index words to return
+     * @return random index words of a specified <var>pos</var>
+     * @throws JWNLException JWNLException
+     */
+    public List<IndexWord> sample(POS pos, int k) throws JWNLException {
+        if (k < 0) {
+            throw new IllegalArgumentException(getMessages().resolveMessage("DICTIONARY_EXCEPTION_070", k));
+        }
+        RandomAccessIndex index = getRandomAccessIndex(pos);
+        Random random = getRandom();
+        synchronized (index) {
+            int n = index.words.size();
+            k = Math.min(k, n);
+            List<IndexWord> result = new ArrayList<>(k);
+            if (k > n / 2) {
+                // partial Fisher-Yates shuffle over positions
+                int[] positions = new int[n];
+                for (int i = 0; i < n; i++) {
+                    positions[i] = i;
+                }
+                for (int i = 0; i < k; i++) {
+                    int j = i + random.nextInt(n - i);
+                    int t = positions[i];
+                    positions[i] = positions[j];
+                    positions[j] = t;
+                    result.add(index.words.get(positions[i]));
+                }
+            } else {
+                // Floyd's algorithm, does not touch more than k positions
+                Set<Integer> selected = new HashSet<>(k * 2);
+                for (int i = n - k; i < n; i++) {
+                    int j = random.nextInt(i + 1);
+                    if (!selected.add(j)) {
+                        selected.add(i);
+                        j = i;
+                    }
+                    result.add(index.words.get(j));
+                }
+                Collections.shuffle(result, random);
+            }
+            return result;
         }
-        return itr.hasNext() ? itr.next() : null;
     }
 
     @SuppressWarnings({"unchecked"})
@@ -91,6 +150,9 @@ public class MapDictionary extends Dictionary {
 
     public synchronized void close() throws JWNLException {
         tableMap.clear();
+        synchronized (randomIndexMap) {
+            randomIndexMap.clear();
+        }
     }
 
     @Override
@@ -129,15 +191,93 @@ public class MapDictionary extends Dictionary {
     public void addIndexWord(IndexWord indexWord) throws JWNLException {
         super.addIndexWord(indexWord);
         getTable(indexWord.getPOS(), DictionaryFileType.INDEX).put(indexWord.getKey(), indexWord);
+        RandomAccessIndex index = peekRandomAccessIndex(indexWord.getPOS());
+        if (null != index) {
+            index.add(indexWord);
+        }
     }
 
     @Override
     public void removeIndexWord(IndexWord indexWord) throws JWNLException {
         getTable(indexWord.getPOS(), DictionaryFileType.INDEX).remove(indexWord.getKey());
+        RandomAccessIndex index = peekRandomAccessIndex(indexWord.getPOS());
+        if (null != index) {
+            index.remove(indexWord.getKey());
+        }
         super.removeIndexWord(indexWord);
     }
 
     public Map<Object, DictionaryElement> getTable(POS pos, DictionaryFileType fileType) {
         return tableMap.get(pos).get(fileType);
     }
+
+    /**
+     * Use <var>table</var> for lookups to the file represented by <var>pos</var> and
+     * <var>fileType</var>.
+     *
+     * @param pos      POS
+     * @param fileType element type
+     * @param table    hashmap with elements
+     */
+    protected void putTable(POS pos, DictionaryFileType fileType, Map<Object, DictionaryElement> table) {
+        tableMap.get(pos).put(fileType, table);
+        if (DictionaryFileType.INDEX == fileType) {
+            synchronized (randomIndexMap) {
+                randomIndexMap.remove(pos);
+            }
+        }
+    }
+
+    private RandomAccessIndex getRandomAccessIndex(POS pos) {
+        synchronized (randomIndexMap) {
+            RandomAccessIndex result = randomIndexMap.get(pos);
+            if (null == result) {
+                result = new RandomAccessIndex();
+                Map<Object, DictionaryElement> table = getTable(pos, DictionaryFileType.INDEX);
+                if (null != table) {
+                    for (DictionaryElement element : table.values()) {
+                        result.add((IndexWord) element);
+                    }
+                }
+                randomIndexMap.put(pos, result);
+            }
+            return result;
+        }
+    }
+
+    private RandomAccessIndex peekRandomAccessIndex(POS pos) {
+        synchronized (randomIndexMap) {
+            return randomIndexMap.get(pos);
+        }
+    }
+
+    /**
+     * Index words in an array list, with positions to allow constant time removal by swapping with the last one.
+     */
+    private static class RandomAccessIndex {
+
+        private final List<IndexWord> words = new ArrayList<>();
+        private final Map<Object, Integer> positions = new HashMap<>();
+
+        public synchronized void add(IndexWord word) {
+            Integer position = positions.get(word.getKey());
+            if (null == position) {
+                positions.put(word.getKey(), words.size());
+                words.add(word);
+            } else {
+                words.set(position, word);
+            }
+        }
+
+        public synchronized void remove(Object key) {
+            Integer position = positions.remove(key);
+            if (null != position) {
+                IndexWord last = words.remove(words.size() - 1);
+                if (position < words.size()) {
+                    words.set(position, last);
+                    positions.put(last.getKey(), position);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,208 @@
+package net.sf.extjwnl.dictionary;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.JWNLRuntimeException;
+import net.sf.extjwnl.data.IndexWord;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Pointer;
+import net.sf.extjwnl.data.Synset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads all pointer targets and all index word senses of a dictionary using a fork-join pool.
+ * <p>
+ * Pointers and index words are split into batches and resolved in parallel. For a read-only dictionary
+ * pointers are ordered by target POS and offset, and index words by their first sense offset,
+ * so that each batch reads a contiguous region of a data file.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class PointerResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(PointerResolver.class);
+
+    /**
+     * Receives resolution progress. Might be called concurrently from the worker threads.
+     */
+    public interface ProgressListener {
+
+        /**
+         * Called after a batch of elements has been resolved.
+         *
+         * @param pos      POS being resolved
+         * @param resolved number of pointers and index words resolved so far
+         * @param total    total number of pointers and index words of this POS
+         */
+        void progress(POS pos, long resolved, long total);
+    }
+
+    /**
+     * Number of elements resolved by a single task.
+     */
+    private static final int BATCH_SIZE = 512;
+
+    private final Dictionary dictionary;
+    private final ForkJoinPool pool;
+    private ProgressListener progressListener;
+
+    public PointerResolver(Dictionary dictionary) {
+        this(dictionary, ForkJoinPool.commonPool());
+    }
+
+    public PointerResolver(Dictionary dictionary, ForkJoinPool pool) {
+        this.dictionary = dictionary;
+        this.pool = pool;
+    }
+
+    public ProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Resolves all pointers and loads all senses of all index words.
+     *
+     * @throws JWNLException JWNLException
+     */
+    public void resolve() throws JWNLException {
+        for (POS pos : POS.getAllPOS()) {
+            resolve(pos);
+        }
+    }
+
+    /**
+     * Resolves pointers of all synsets and loads senses of all index words of a specified <var>pos</var>.
+     *
+     * @param pos POS
+     * @throws JWNLException JWNLException
+     */
+    public void resolve(POS pos) throws JWNLException {
+        if (log.isDebugEnabled()) {
+            log.debug(dictionary.getMessages().resolveMessage("DICTIONARY_INFO_013", pos.getLabel()));
+        }
+
+        List<Keyed<Pointer>> pointers = new ArrayList<>();
+        Iterator<Synset> si = dictionary.getSynsetIterator(pos);
+        while (si.hasNext()) {
+            for (Pointer p : si.next().getPointers()) {
+                pointers.add(new Keyed<>(p, getKey(p)));
+            }
+        }
+
+        List<Keyed<IndexWord>> indexWords = new ArrayList<>();
+        Iterator<IndexWord> ii = dictionary.getIndexWordIterator(pos);
+        while (ii.hasNext()) {
+            IndexWord iw = ii.next();
+            indexWords.add(new Keyed<>(iw, getKey(iw)));
+        }
+
+        if (!dictionary.isEditable()) {
+            // in edit mode everything is in memory already and offsets are not stable
+            pointers.sort(Comparator.comparingLong(k -> k.key));
+            indexWords.sort(Comparator.comparingLong(k -> k.key));
+        }
+
+        long total = pointers.size() + indexWords.size();
+        AtomicLong resolved = new AtomicLong();
+        invoke(new Batch<>(pos, pointers, 0, pointers.size(), Pointer::getTarget, resolved, total));
+        invoke(new Batch<>(pos, indexWords, 0, indexWords.size(), iw -> iw.getSenses().toArray(), resolved, total));
+    }
+
+    private long getKey(Pointer pointer) throws JWNLException {
+        if (dictionary.isEditable()) {
+            // target offset would resolve the pointer here
+            return 0;
+        }
+        return ((long) pointer.getTargetPOS().getId() << 48) | pointer.getTargetOffset();
+    }
+
+    private long getKey(IndexWord indexWord) {
+        if (dictionary.isEditable()) {
+            return 0;
+        }
+        long[] offsets = indexWord.getSynsetOffsets();
+        return 0 == offsets.length ? 0 : offsets[0];
+    }
+
+    private void invoke(Batch<?> batch) throws JWNLException {
+        try {
+            pool.invoke(batch);
+        } catch (RuntimeException e) {
+            for (Throwable cause = e; null != cause; cause = cause.getCause()) {
+                if (cause instanceof JWNLException) {
+                    throw (JWNLException) cause;
+                }
+            }
+            throw e;
+        }
+    }
+
+    private interface Resolver<E> {
+        void resolve(E element) throws JWNLException;
+    }
+
+    private static class Keyed<E> {
+        private final E element;
+        private final long key;
+
+        private Keyed(E element, long key) {
+            this.element = element;
+            this.key = key;
+        }
+    }
+
+    private class Batch<E> extends RecursiveAction {
+
+        private final POS pos;
+        private final List<Keyed<E>> elements;
+        private final int from;
+        private final int to;
+        private final Resolver<E> resolver;
+        private final AtomicLong resolved;
+        private final long total;
+
+        private Batch(POS pos, List<Keyed<E>> elements, int from, int to, Resolver<E> resolver, AtomicLong resolved, long total) {
+            this.pos = pos;
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.resolver = resolver;
+            this.resolved = resolved;
+            this.total = total;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Batch<>(pos, elements, from, middle, resolver, resolved, total),
+                        new Batch<>(pos, elements, middle, to, resolver, resolved, total));
+            } else {
+                try {
+                    for (int i = from; i < to; i++) {
+                        resolver.resolve(elements.get(i).element);
+                    }
+                } catch (JWNLException e) {
+                    throw new JWNLRuntimeException(e);
+                }
+                long count = resolved.addAndGet(to - from);
+                ProgressListener listener = progressListener;
+                if (null != listener) {
+                    listener.progress(pos, count, total);
+                }
+            }
+        }
+    }
+}
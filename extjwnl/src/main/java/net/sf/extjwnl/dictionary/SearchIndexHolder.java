@@ -0,0 +1,154 @@
+package net.sf.extjwnl.dictionary;
+
+import net.sf.extjwnl.JWNLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds a search index of a dictionary, loaded on first use. The index is read from its file, if configured,
+ * or built and written to the file. A file written for other dictionary files, see {@link Dictionary#getFingerprint()},
+ * is built again. In edit mode the index is kept in memory only and built again after it is cleared or,
+ * for an index over synsets, after the synset epoch of the dictionary advances.
+ *
+ * @param <T> index type
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+class SearchIndexHolder<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexHolder.class);
+
+    interface Reader<T> {
+        /**
+         * Reads the index, returns null to have it built again.
+         */
+        T read(DataInputStream in) throws IOException;
+    }
+
+    interface Builder<T> {
+        T build() throws JWNLException;
+    }
+
+    interface Writer<T> {
+        void write(T index, DataOutputStream out) throws IOException;
+    }
+
+    private final Dictionary dictionary;
+    private final AtomicLong synsetEpoch;
+    private final File file;
+    private final Reader<T> reader;
+    private final Builder<T> builder;
+    private final Writer<T> writer;
+    private T index;
+    // synset epoch the index was built at
+    private long epoch;
+
+    /**
+     * Creates a holder of an index kept in memory only.
+     *
+     * @param dictionary dictionary
+     * @param builder    builds the index
+     */
+    SearchIndexHolder(Dictionary dictionary, Builder<T> builder) {
+        this(dictionary, null, null, null, builder, null);
+    }
+
+    /**
+     * Creates a holder of an index kept in <var>file</var>.
+     *
+     * @param dictionary  dictionary
+     * @param synsetEpoch synset epoch of the dictionary for an index over synsets, or null
+     * @param file        index file, or null to keep the index in memory only
+     * @param reader      reads the index
+     * @param builder     builds the index
+     * @param writer      writes the index
+     */
+    SearchIndexHolder(Dictionary dictionary, AtomicLong synsetEpoch, File file, Reader<T> reader, Builder<T> builder, Writer<T> writer) {
+        this.dictionary = dictionary;
+        this.synsetEpoch = synsetEpoch;
+        this.file = file;
+        this.reader = reader;
+        this.builder = builder;
+        this.writer = writer;
+    }
+
+    synchronized T get() throws JWNLException {
+        long current = null == synsetEpoch ? 0 : synsetEpoch.get();
+        if (null == index || epoch != current) {
+            index = load();
+            epoch = current;
+        }
+        return index;
+    }
+
+    /**
+     * Replaces the index, writing it to the file, unless the dictionary is editable.
+     *
+     * @param index index
+     * @throws JWNLException JWNLException
+     */
+    synchronized void set(T index) throws JWNLException {
+        this.index = index;
+        if (null != file && !dictionary.isEditable()) {
+            write(index);
+        }
+    }
+
+    synchronized void clear() {
+        index = null;
+    }
+
+    /**
+     * Deletes the index file, so that the index is built again on next open.
+     */
+    void delete() {
+        if (null != file && file.exists() && !file.delete()) {
+            log.warn(dictionary.getMessages().resolveMessage("DICTIONARY_WARN_005", file.getAbsolutePath()));
+        }
+    }
+
+    private T load() throws JWNLException {
+        T result = null;
+        boolean persistent = null != file && !dictionary.isEditable();
+        if (persistent && file.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                if (dictionary.getFingerprint() == in.readLong()) {
+                    result = reader.read(in);
+                } else if (log.isInfoEnabled()) {
+                    log.info(dictionary.getMessages().resolveMessage("DICTIONARY_INFO_028", file.getAbsolutePath()));
+                }
+            } catch (IOException e) {
+                // older format or damaged file, build it again
+                log.warn(dictionary.getMessages().resolveMessage("DICTIONARY_WARN_006", file.getAbsolutePath()), e);
+            }
+        }
+        if (null == result) {
+            result = builder.build();
+            if (persistent) {
+                write(result);
+            }
+        }
+        return result;
+    }
+
+    private void write(T index) throws JWNLException {
+        File tmp = new File(file.getPath() + ".tmp");
+        File dir = file.getParentFile();
+        try {
+            if (null != dir && !dir.exists() && !dir.mkdirs()) {
+                throw new IOException(dir.getAbsolutePath());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeLong(dictionary.getFingerprint());
+                writer.write(index, out);
+            }
+            if (!tmp.renameTo(file)) {
+                throw new IOException(file.getAbsolutePath());
+            }
+        } catch (IOException e) {
+            throw new JWNLException(dictionary.getMessages().resolveMessage("DICTIONARY_EXCEPTION_071", file.getAbsolutePath()), e);
+        }
+    }
+}
@@ -28,6 +28,14 @@ public interface DatabaseManager extends Owned {
 
     Query getVerbFrameQuery(POS pos, long offset) throws SQLException;
 
+    Query getSynsetQuery(POS pos, long[] offsets) throws SQLException;
+
+    Query getSynsetWordQuery(POS pos, long[] offsets) throws SQLException;
+
+    Query getPointerQuery(POS pos, long[] offsets) throws SQLException;
+
+    Query getVerbFrameQuery(POS pos, long[] offsets) throws SQLException;
+
     Query getSynsetsQuery(POS pos) throws SQLException;
 
     Query getExceptionQuery(POS pos, String derivation) throws SQLException;
@@ -62,6 +62,31 @@ public class DatabaseManagerImpl implements DatabaseManager {
                     "FROM synset s, synsetverbframe svf " +
                     "WHERE s.synset_id = svf.synset_id AND s.pos = ? AND s.file_offset = ?";
 
+    /**
+     * SQL queries for getting synsets at several offsets, %s stands for the offset parameters.
+     */
+    protected static final String SYNSETS_SQL =
+            "SELECT is_adj_cluster, gloss, lex_file_num, file_offset FROM synset WHERE pos = ? AND file_offset IN (%s) " +
+                    "ORDER BY file_offset";
+
+    protected static final String SYNSETS_WORD_SQL =
+            "SELECT sw.word, sw.word_index, sw.usage_cnt, sw.lex_id, s.file_offset " +
+                    "FROM synset s, synsetword sw " +
+                    "WHERE s.synset_id = sw.synset_id AND s.pos = ? AND s.file_offset IN (%s) " +
+                    "ORDER BY s.file_offset, sw.word_index";
+
+    protected static final String SYNSETS_POINTER_SQL =
+            "SELECT sp.pointer_type, sp.target_offset, sp.target_pos, sp.source_index, sp.target_index, s.file_offset " +
+                    "FROM synset s, synsetpointer sp " +
+                    "WHERE s.synset_id = sp.synset_id AND s.pos = ? AND s.file_offset IN (%s) " +
+                    "ORDER BY s.file_offset, sp.synset_pointer_id";
+
+    protected static final String SYNSETS_VERB_FRAME_SQL =
+            "SELECT svf.frame_number, svf.word_index, s.file_offset " +
+                    "FROM synset s, synsetverbframe svf " +
+                    "WHERE s.synset_id = svf.synset_id AND s.pos = ? AND s.file_offset IN (%s) " +
+                    "ORDER BY s.file_offset, svf.synset_verb_frame_id";
+
     protected static final String ALL_SYNSETS_SQL =
             "SELECT file_offset FROM synset WHERE pos = ?";
 
@@ -153,6 +178,22 @@ public class DatabaseManagerImpl implements DatabaseManager {
         return createPOSOffsetQuery(pos, offset, SYNSET_VERB_FRAME_SQL);
     }
 
+    public Query getSynsetQuery(POS pos, long[] offsets) throws SQLException {
+        return createPOSOffsetsQuery(pos, offsets, SYNSETS_SQL);
+    }
+
+    public Query getSynsetWordQuery(POS pos, long[] offsets) throws SQLException {
+        return createPOSOffsetsQuery(pos, offsets, SYNSETS_WORD_SQL);
+    }
+
+    public Query getPointerQuery(POS pos, long[] offsets) throws SQLException {
+        return createPOSOffsetsQuery(pos, offsets, SYNSETS_POINTER_SQL);
+    }
+
+    public Query getVerbFrameQuery(POS pos, long[] offsets) throws SQLException {
+        return createPOSOffsetsQuery(pos, offsets, SYNSETS_VERB_FRAME_SQL);
+    }
+
     public Query getSynsetsQuery(POS pos) throws SQLException {
         return createPOSQuery(pos, ALL_SYNSETS_SQL);
     }
@@ -215,6 +256,27 @@ public class DatabaseManagerImpl implements DatabaseManager {
         }
     }
 
+    protected Query createPOSOffsetsQuery(POS pos, long[] offsets, String sql) throws SQLException {
+        StringBuilder parameters = new StringBuilder();
+        for (int i = 0; i < offsets.length; i++) {
+            parameters.append(0 == i ? "?" : ", ?");
+        }
+        Query query = null;
+        try {
+            query = connectionManager.getQuery(String.format(sql, parameters));
+            query.getStatement().setString(1, pos.getKey());
+            for (int i = 0; i < offsets.length; i++) {
+                query.getStatement().setLong(i + 2, offsets[i]);
+            }
+            return query;
+        } catch (SQLException e) {
+            if (query != null) {
+                query.close();
+            }
+            throw e;
+        }
+    }
+
     protected Query createPOSIdQuery(POS pos, int id, String sql) throws SQLException {
         Query query = null;
         try {
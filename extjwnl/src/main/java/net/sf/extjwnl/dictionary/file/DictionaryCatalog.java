@@ -6,6 +6,7 @@ import net.sf.extjwnl.dictionary.Dictionary;
 import net.sf.extjwnl.util.factory.Owned;
 import net.sf.extjwnl.util.factory.Param;
 
+import java.io.File;
 import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -94,6 +95,34 @@ public class DictionaryCatalog<E extends DictionaryFile> implements Owned {
         return result;
     }
 
+    /**
+     * Returns a fingerprint of the files on disk, see {@link #getFingerprint(DictionaryFile)}.
+     *
+     * @return fingerprint of the files
+     */
+    public long getFingerprint() {
+        long result = 0;
+        for (Iterator<E> itr = getFileIterator(); itr.hasNext(); ) {
+            result = 31 * result + getFingerprint(itr.next());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a fingerprint of the <var>file</var> from its name, size and modification time,
+     * or 0, if the file is not on disk.
+     *
+     * @param file dictionary file, or null
+     * @return fingerprint of the file
+     */
+    public static long getFingerprint(DictionaryFile file) {
+        if (file instanceof DictionaryDiskFile) {
+            File diskFile = ((DictionaryDiskFile) file).getFile();
+            return (31L * diskFile.getName().hashCode() + diskFile.length()) * 31 + diskFile.lastModified();
+        }
+        return 0;
+    }
+
     public boolean isOpen() {
         for (Iterator<E> itr = getFileIterator(); itr.hasNext(); ) {
             if (!itr.next().isOpen()) {
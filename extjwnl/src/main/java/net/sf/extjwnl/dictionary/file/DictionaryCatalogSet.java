@@ -57,6 +57,19 @@ public class DictionaryCatalogSet<E extends DictionaryFile> implements Owned {
         return result;
     }
 
+    /**
+     * Returns a fingerprint of the files on disk, from their names, sizes and modification times.
+     *
+     * @return fingerprint of the files
+     */
+    public long getFingerprint() {
+        long result = 0;
+        for (Iterator<DictionaryCatalog<E>> itr = getCatalogIterator(); itr.hasNext(); ) {
+            result = 31 * result + itr.next().getFingerprint();
+        }
+        return result;
+    }
+
     public boolean isOpen() {
         for (Iterator<DictionaryCatalog<E>> itr = getCatalogIterator(); itr.hasNext(); ) {
             if (!itr.next().isOpen()) {
@@ -0,0 +1,33 @@
+package net.sf.extjwnl.dictionary.file;
+
+import net.sf.extjwnl.dictionary.Dictionary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+
+/**
+ * <code>ObjectInputStream</code> which carries the dictionary the deserialized elements belong to.
+ * Dictionary elements read from this stream are bound to this dictionary, which allows
+ * several dictionaries to be loaded concurrently.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class DictionaryObjectInputStream extends ObjectInputStream {
+
+    private final Dictionary dictionary;
+
+    public DictionaryObjectInputStream(InputStream in, Dictionary dictionary) throws IOException {
+        super(in);
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Returns the dictionary the deserialized elements belong to.
+     *
+     * @return the dictionary the deserialized elements belong to
+     */
+    public Dictionary getDictionary() {
+        return dictionary;
+    }
+}
@@ -20,6 +20,22 @@ public interface RandomAccessDictionaryFile extends DictionaryFile {
      */
     PointedCharSequence readLine(long offset) throws JWNLException;
 
+    /**
+     * Reads the lines starting at <var>offsets</var>, a line at a time. Implementations may read
+     * ascending offsets in one forward pass over the file.
+     *
+     * @param offsets offsets
+     * @return lines from the file, in the order of offsets
+     * @throws JWNLException JWNLException
+     */
+    default PointedCharSequence[] readLines(long[] offsets) throws JWNLException {
+        PointedCharSequence[] result = new PointedCharSequence[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            result[i] = readLine(offsets[i]);
+        }
+        return result;
+    }
+
     /**
      * Reads starting at <var>offset</var> and till space.
      *
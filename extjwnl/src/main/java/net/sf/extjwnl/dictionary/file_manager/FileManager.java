@@ -37,6 +37,24 @@ public interface FileManager extends Owned {
      */
     PointedCharSequence readLineAt(POS pos, DictionaryFileType fileType, long offset) throws JWNLException;
 
+    /**
+     * Returns the lines starting at <var>offsets</var>, a line at a time, see {@link #readLineAt(POS, DictionaryFileType, long)}.
+     * Implementations may read ascending offsets in one forward pass over the file.
+     *
+     * @param pos      part of speech
+     * @param fileType file type
+     * @param offsets  offsets
+     * @return lines, in the order of offsets
+     * @throws JWNLException JWNLException
+     */
+    default PointedCharSequence[] readLinesAt(POS pos, DictionaryFileType fileType, long[] offsets) throws JWNLException {
+        PointedCharSequence[] result = new PointedCharSequence[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            result[i] = readLineAt(pos, fileType, offsets[i]);
+        }
+        return result;
+    }
+
     /**
      * Returns the line whose index word contains <var>substring</var>,
      * starting at <var>offset</var> or null if not found.
@@ -101,6 +119,13 @@ public interface FileManager extends Owned {
      */
     boolean delete() throws JWNLException;
 
+    /**
+     * Returns a fingerprint of the dictionary files, from their names, sizes and modification times.
+     *
+     * @return fingerprint of the dictionary files
+     */
+    long getFingerprint();
+
     /**
      * Reopens files for writing.
      *
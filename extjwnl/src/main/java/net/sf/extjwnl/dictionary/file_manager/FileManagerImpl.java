@@ -130,6 +130,15 @@ public class FileManagerImpl implements FileManager {
         return result;
     }
 
+    @Override
+    public long getFingerprint() {
+        long result = files.getFingerprint();
+        for (RandomAccessDictionaryFile file : new RandomAccessDictionaryFile[]{cntList, revCntList, senseIndex}) {
+            result = 31 * result + DictionaryCatalog.getFingerprint(file);
+        }
+        return result;
+    }
+
     @Override
     public void edit() throws JWNLException {
         files.edit();
@@ -147,6 +156,15 @@ public class FileManagerImpl implements FileManager {
         return file.readLine(offset);
     }
 
+    @Override
+    public PointedCharSequence[] readLinesAt(POS pos, DictionaryFileType fileType, long[] offsets) throws JWNLException {
+        RandomAccessDictionaryFile file = getFile(pos, fileType);
+        if (null == file || file.length() == 0) {
+            return new PointedCharSequence[offsets.length];
+        }
+        return file.readLines(offsets);
+    }
+
     @Override
     public PointedCharSequence getMatchingLine(POS pos, DictionaryFileType fileType, long offset, String substring)
             throws JWNLException {
@@ -0,0 +1,135 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.Exc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Exceptions of one part of speech in an open addressing hash table keyed by derivation.
+ * <p>
+ * Derivations and exceptions are kept in parallel arrays of a power of two size, filled at most
+ * half, and collisions are resolved by linear probing. Misses, which are the common case during
+ * morphological processing, end at the first empty slot.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class ExceptionTable {
+
+    private final String[] keys;
+    private final Exc[] values;
+    private final int mask;
+    private final int size;
+
+    private ExceptionTable(String[] keys, Exc[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    /**
+     * Collects exceptions and builds the table.
+     */
+    public static class Builder {
+
+        private String[] keys = new String[16];
+        private Exc[] values = new Exc[16];
+        private int size;
+
+        /**
+         * Adds <var>exc</var> under its lemma. Exceptions with the same lemma, which exception files
+         * list on separate lines, are merged.
+         *
+         * @param exc exception
+         * @return this builder
+         * @throws JWNLException JWNLException
+         */
+        public Builder add(Exc exc) throws JWNLException {
+            if (2 * (size + 1) > keys.length) {
+                String[] oldKeys = keys;
+                Exc[] oldValues = values;
+                keys = new String[keys.length * 2];
+                values = new Exc[keys.length];
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (null != oldKeys[i]) {
+                        int j = slot(keys, oldKeys[i]);
+                        keys[j] = oldKeys[i];
+                        values[j] = oldValues[i];
+                    }
+                }
+            }
+            int i = slot(keys, exc.getLemma());
+            if (null == keys[i]) {
+                keys[i] = exc.getLemma();
+                values[i] = exc;
+                size++;
+            } else {
+                List<String> exceptions = new ArrayList<>(values[i].getExceptions());
+                for (String exception : exc.getExceptions()) {
+                    if (!exceptions.contains(exception)) {
+                        exceptions.add(exception);
+                    }
+                }
+                values[i] = new Exc(exc.getDictionary(), exc.getPOS(), exc.getLemma(), exceptions);
+            }
+            return this;
+        }
+
+        /**
+         * Builds the table of exceptions added so far.
+         *
+         * @return exception table
+         */
+        public ExceptionTable build() {
+            return new ExceptionTable(Arrays.copyOf(keys, keys.length), Arrays.copyOf(values, values.length), size);
+        }
+    }
+
+    /**
+     * Returns the number of exceptions in the table.
+     *
+     * @return the number of exceptions in the table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the exception for <var>derivation</var>, or null, if there is none.
+     *
+     * @param derivation derivation, as prepared for dictionary lookups
+     * @return the exception for <var>derivation</var>, or null
+     */
+    public Exc get(String derivation) {
+        int i = hash(derivation) & mask;
+        while (null != keys[i]) {
+            if (keys[i].equals(derivation)) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the slot of <var>key</var> in <var>keys</var>: the slot holding it or the empty slot it goes to.
+     */
+    private static int slot(String[] keys, String key) {
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (null != keys[i] && !keys[i].equals(key)) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private static int hash(String key) {
+        // mix, so that the low bits taken for the slot depend on all bits of String.hashCode
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
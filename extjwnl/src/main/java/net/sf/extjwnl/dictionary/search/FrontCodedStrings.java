@@ -0,0 +1,354 @@
+package net.sf.extjwnl.dictionary.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Sorted strings, front coded in blocks.
+ * <p>
+ * The first string of each block is stored in full, each next one as the length of the prefix (in chars)
+ * shared with the previous string and the UTF-8 encoded rest. Strings are decoded by a {@link Reader}
+ * into a reusable char buffer, access to a string decodes at most one block.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+final class FrontCodedStrings {
+
+    static final int BLOCK_SIZE = 16;
+
+    private final int size;
+    private final byte[] data;
+    private final int[] blockStarts;
+
+    /**
+     * Encodes <var>strings</var>. Strings must be sorted for {@link #lowerBound(String)}
+     * and {@link #prefixUpperBound(String)}, and compress best when sorted.
+     *
+     * @param strings strings
+     */
+    FrontCodedStrings(String[] strings) {
+        size = strings.length;
+        blockStarts = new int[(size + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        Buffer buffer = new Buffer();
+        String previous = "";
+        for (int i = 0; i < size; i++) {
+            String current = strings[i];
+            int shared = 0;
+            if (0 == i % BLOCK_SIZE) {
+                blockStarts[i / BLOCK_SIZE] = buffer.size;
+            } else {
+                int max = Math.min(previous.length(), current.length());
+                while (shared < max && previous.charAt(shared) == current.charAt(shared)) {
+                    shared++;
+                }
+                // do not split surrogate pairs
+                if (0 < shared && shared < current.length() && Character.isLowSurrogate(current.charAt(shared))) {
+                    shared--;
+                }
+                buffer.writeVarInt(shared);
+            }
+            byte[] suffix = current.substring(shared).getBytes(StandardCharsets.UTF_8);
+            buffer.writeVarInt(suffix.length);
+            buffer.write(suffix);
+            previous = current;
+        }
+        data = Arrays.copyOf(buffer.bytes, buffer.size);
+    }
+
+    private FrontCodedStrings(int size, byte[] data, int[] blockStarts) {
+        this.size = size;
+        this.data = data;
+        this.blockStarts = blockStarts;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the string at <var>index</var>.
+     *
+     * @param index string index
+     * @return string
+     */
+    String get(int index) {
+        Reader reader = new Reader();
+        reader.seek(index);
+        return reader.toString();
+    }
+
+    /**
+     * Returns the index of the first string which is not less than <var>key</var>.
+     *
+     * @param key key
+     * @return the index of the first string which is not less than <var>key</var>, or size
+     */
+    int lowerBound(String key) {
+        return bound(key, false);
+    }
+
+    /**
+     * Returns the index of the first string which is greater than <var>prefix</var> and does not start with it.
+     *
+     * @param prefix prefix
+     * @return the index of the first string past strings starting with <var>prefix</var>, or size
+     */
+    int prefixUpperBound(String prefix) {
+        return bound(prefix, true);
+    }
+
+    private int bound(String key, boolean prefix) {
+        // last block whose first string is before the key
+        Reader reader = new Reader();
+        int lo = 0;
+        int hi = blockStarts.length - 1;
+        int block = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            reader.seek(mid * BLOCK_SIZE);
+            if (reader.before(key, prefix)) {
+                block = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        if (-1 == block) {
+            return 0;
+        }
+        reader.seek(block * BLOCK_SIZE);
+        int end = Math.min(size, (block + 1) * BLOCK_SIZE);
+        int i = block * BLOCK_SIZE + 1;
+        while (i < end && reader.next() && reader.before(key, prefix)) {
+            i++;
+        }
+        return i;
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(size);
+        out.writeInt(data.length);
+        out.write(data);
+        for (int start : blockStarts) {
+            out.writeInt(start);
+        }
+    }
+
+    static FrontCodedStrings read(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        int[] blockStarts = new int[(size + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        for (int i = 0; i < blockStarts.length; i++) {
+            blockStarts[i] = in.readInt();
+        }
+        return new FrontCodedStrings(size, data, blockStarts);
+    }
+
+    /**
+     * Decodes strings one by one into a char buffer, without creating String objects.
+     */
+    final class Reader {
+
+        private char[] chars = new char[32];
+        private char[] scratch = new char[32];
+        private int length;
+        private int shared;
+        private int index = -1;
+        private int position;
+
+        /**
+         * Positions the reader at string <var>index</var>.
+         *
+         * @param index string index
+         */
+        void seek(int index) {
+            int block = index / BLOCK_SIZE;
+            if (block != this.index / BLOCK_SIZE || index < this.index || -1 == this.index) {
+                this.index = block * BLOCK_SIZE - 1;
+                position = blockStarts[block];
+                // nothing is shared with strings before the seek
+                length = 0;
+            }
+            while (this.index < index) {
+                next();
+            }
+        }
+
+        /**
+         * Advances to the next string.
+         *
+         * @return false, if there are no more strings
+         */
+        boolean next() {
+            if (index + 1 >= size) {
+                index = size;
+                return false;
+            }
+            index++;
+            if (0 == index % BLOCK_SIZE) {
+                position = blockStarts[index / BLOCK_SIZE];
+                int count = readVarInt();
+                int newLength = decode(scratch, 0, count, true);
+                // shared with the previous string is not stored for block heads
+                int max = Math.min(length, newLength);
+                int common = 0;
+                while (common < max && chars[common] == scratch[common]) {
+                    common++;
+                }
+                char[] t = chars;
+                chars = scratch;
+                scratch = t;
+                shared = common;
+                length = newLength;
+            } else {
+                shared = readVarInt();
+                int count = readVarInt();
+                length = decode(chars, shared, count, false);
+            }
+            return true;
+        }
+
+        /**
+         * Returns the index of the current string.
+         *
+         * @return the index of the current string
+         */
+        int index() {
+            return index;
+        }
+
+        int length() {
+            return length;
+        }
+
+        char charAt(int i) {
+            return chars[i];
+        }
+
+        /**
+         * Returns the number of leading chars shared by the current and the previous string.
+         *
+         * @return the number of leading chars shared by the current and the previous string
+         */
+        int shared() {
+            return shared;
+        }
+
+        boolean startsWith(String s, int count) {
+            if (count > length) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (chars[i] != s.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean contains(String s) {
+            int n = s.length();
+            outer:
+            for (int i = 0; i + n <= length; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (chars[i + j] != s.charAt(j)) {
+                        continue outer;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private boolean before(String key, boolean prefix) {
+            if (prefix && startsWith(key, key.length())) {
+                return true;
+            }
+            int max = Math.min(length, key.length());
+            for (int i = 0; i < max; i++) {
+                if (chars[i] != key.charAt(i)) {
+                    return chars[i] < key.charAt(i);
+                }
+            }
+            return length < key.length();
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
+
+        private int decode(char[] target, int offset, int count, boolean head) {
+            // suffix has at most count chars
+            if (target.length < offset + count) {
+                char[] bigger = Arrays.copyOf(target, Math.max(target.length * 2, offset + count));
+                if (head) {
+                    scratch = bigger;
+                } else {
+                    chars = bigger;
+                }
+                target = bigger;
+            }
+            int end = position + count;
+            int i = offset;
+            while (position < end) {
+                int b = data[position++];
+                if (b >= 0) {
+                    target[i++] = (char) b;
+                } else if ((b & 0xE0) == 0xC0) {
+                    target[i++] = (char) (((b & 0x1F) << 6) | (data[position++] & 0x3F));
+                } else if ((b & 0xF0) == 0xE0) {
+                    target[i++] = (char) (((b & 0x0F) << 12) | ((data[position++] & 0x3F) << 6) | (data[position++] & 0x3F));
+                } else {
+                    int cp = ((b & 0x07) << 18) | ((data[position++] & 0x3F) << 12) | ((data[position++] & 0x3F) << 6) | (data[position++] & 0x3F);
+                    target[i++] = Character.highSurrogate(cp);
+                    target[i++] = Character.lowSurrogate(cp);
+                }
+            }
+            return i;
+        }
+
+        private int readVarInt() {
+            int result = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                result = result | ((b & 0x7F) << shift);
+                shift = shift + 7;
+            } while (0 != (b & 0x80));
+            return result;
+        }
+    }
+
+    private static class Buffer {
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        private void ensure(int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+
+        private void write(byte[] b) {
+            ensure(b.length);
+            System.arraycopy(b, 0, bytes, size, b.length);
+            size = size + b.length;
+        }
+
+        private void writeVarInt(int value) {
+            ensure(5);
+            while (0 != (value & ~0x7F)) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value = value >>> 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+    }
+}
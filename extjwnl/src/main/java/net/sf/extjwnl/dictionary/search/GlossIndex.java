@@ -0,0 +1,447 @@
+package net.sf.extjwnl.dictionary.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Inverted index from gloss tokens to the offsets of synsets of one part of speech.
+ * <p>
+ * Glosses are split into tokens, maximal runs of letters and digits, lowercased. For every token the index keeps
+ * the sorted offsets of synsets whose gloss contains it, together with the token positions in the gloss,
+ * which allow phrase queries. Postings are delta and variable length encoded into a single byte array,
+ * tokens are stored sorted and front coded.
+ * </p>
+ * <p>
+ * The index is built by a {@link Builder}, which accepts glosses one by one, for example while streaming
+ * a data file, and keeps postings encoded as they arrive.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class GlossIndex {
+
+    private static final int MAGIC = 0x45574E47;
+    private static final int VERSION = 1;
+
+    private static final long[] EMPTY = new long[0];
+
+    private final FrontCodedStrings terms;
+    // number of synsets containing terms[i]
+    private final int[] counts;
+    // postings of terms[i] are postings[starts[i]..starts[i + 1])
+    private final int[] starts;
+    private final byte[] postings;
+
+    private GlossIndex(FrontCodedStrings terms, int[] counts, int[] starts, byte[] postings) {
+        this.terms = terms;
+        this.counts = counts;
+        this.starts = starts;
+        this.postings = postings;
+    }
+
+    /**
+     * Collects glosses and builds the index.
+     */
+    public static class Builder {
+
+        private final Map<String, TermPostings> postings = new HashMap<>();
+
+        /**
+         * Adds the <var>gloss</var> of the synset at <var>offset</var>. Each synset should be added once,
+         * in any order, although ascending offsets make the build cheaper.
+         *
+         * @param offset synset offset
+         * @param gloss  synset gloss
+         * @return this builder
+         */
+        public Builder add(long offset, String gloss) {
+            Map<String, IntList> positions = new LinkedHashMap<>();
+            List<String> tokens = tokenize(gloss);
+            for (int i = 0; i < tokens.size(); i++) {
+                positions.computeIfAbsent(tokens.get(i), k -> new IntList()).add(i);
+            }
+            for (Map.Entry<String, IntList> entry : positions.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new TermPostings()).add(offset, entry.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Builds the index of glosses added so far.
+         *
+         * @return gloss index
+         */
+        public GlossIndex build() {
+            String[] sorted = postings.keySet().toArray(new String[0]);
+            Arrays.sort(sorted);
+            int[] counts = new int[sorted.length];
+            int[] starts = new int[sorted.length + 1];
+            Bytes bytes = new Bytes();
+            for (int i = 0; i < sorted.length; i++) {
+                TermPostings term = postings.get(sorted[i]);
+                counts[i] = term.count;
+                term.encode(bytes);
+                starts[i + 1] = bytes.size;
+            }
+            return new GlossIndex(new FrontCodedStrings(sorted), counts, starts, Arrays.copyOf(bytes.bytes, bytes.size));
+        }
+    }
+
+    /**
+     * Returns the number of distinct tokens in the index.
+     *
+     * @return the number of distinct tokens in the index
+     */
+    public int getTermCount() {
+        return terms.size();
+    }
+
+    /**
+     * Returns the number of synsets whose gloss contains the <var>token</var>.
+     *
+     * @param token token
+     * @return the number of synsets whose gloss contains the <var>token</var>
+     */
+    public int getCount(String token) {
+        int term = find(token);
+        return term < 0 ? 0 : counts[term];
+    }
+
+    /**
+     * Returns the sorted offsets of synsets whose gloss contains all tokens of the <var>query</var>.
+     *
+     * @param query query
+     * @return offsets of synsets whose gloss contains all tokens of the <var>query</var>
+     */
+    public long[] getOffsets(String query) {
+        int[] terms = findAll(tokenize(query));
+        if (null == terms) {
+            return EMPTY;
+        }
+        return intersect(terms);
+    }
+
+    /**
+     * Returns the sorted offsets of synsets whose gloss contains the tokens of the <var>phrase</var>
+     * next to each other, in the same order.
+     *
+     * @param phrase phrase
+     * @return offsets of synsets whose gloss contains the <var>phrase</var>
+     */
+    public long[] getPhraseOffsets(String phrase) {
+        List<String> tokens = tokenize(phrase);
+        int[] terms = findAll(tokens);
+        if (null == terms) {
+            return EMPTY;
+        }
+        long[] candidates = intersect(terms);
+        if (tokens.size() < 2 || 0 == candidates.length) {
+            return candidates;
+        }
+
+        Postings[] decoded = new Postings[tokens.size()];
+        Map<Integer, Postings> cache = new HashMap<>();
+        for (int i = 0; i < decoded.length; i++) {
+            decoded[i] = cache.computeIfAbsent(terms[i], term -> decode(term, true));
+        }
+        int size = 0;
+        for (long offset : candidates) {
+            if (containsPhrase(decoded, offset)) {
+                candidates[size++] = offset;
+            }
+        }
+        return Arrays.copyOf(candidates, size);
+    }
+
+    /**
+     * Splits <var>text</var> into lowercased tokens, maximal runs of letters and digits.
+     *
+     * @param text text
+     * @return tokens
+     */
+    public static List<String> tokenize(String text) {
+        List<String> result = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean inToken = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (inToken && -1 == start) {
+                start = i;
+            } else if (!inToken && -1 != start) {
+                result.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes the index to <var>out</var>.
+     *
+     * @param out output
+     * @throws IOException IOException
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        terms.write(out);
+        for (int count : counts) {
+            out.writeInt(count);
+        }
+        for (int start : starts) {
+            out.writeInt(start);
+        }
+        out.write(postings);
+    }
+
+    /**
+     * Reads the index written by {@link #write(DataOutputStream)}.
+     *
+     * @param in input
+     * @return gloss index
+     * @throws IOException IOException
+     */
+    public static GlossIndex read(DataInputStream in) throws IOException {
+        if (MAGIC != in.readInt() || VERSION != in.readInt()) {
+            throw new IOException("Unsupported gloss index format");
+        }
+        FrontCodedStrings terms = FrontCodedStrings.read(in);
+        int[] counts = new int[terms.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = in.readInt();
+        }
+        int[] starts = new int[terms.size() + 1];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = in.readInt();
+        }
+        byte[] postings = new byte[starts[terms.size()]];
+        in.readFully(postings);
+        return new GlossIndex(terms, counts, starts, postings);
+    }
+
+    private int find(String token) {
+        int term = terms.lowerBound(token);
+        return term < terms.size() && terms.get(term).equals(token) ? term : -1;
+    }
+
+    /**
+     * Returns the terms of <var>tokens</var>, or null, if some token is not in the index or there are no tokens.
+     */
+    private int[] findAll(List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        int[] result = new int[tokens.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = find(tokens.get(i));
+            if (result[i] < 0) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Intersects the offsets of <var>terms</var>, rarest first.
+     */
+    private long[] intersect(int[] terms) {
+        Integer[] order = new Integer[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            order[i] = terms[i];
+        }
+        Arrays.sort(order, Comparator.comparingInt(term -> counts[term]));
+
+        long[] result = decode(order[0], false).offsets;
+        int size = result.length;
+        for (int i = 1; i < order.length && 0 < size; i++) {
+            if (order[i].equals(order[i - 1])) {
+                continue;
+            }
+            long[] other = decode(order[i], false).offsets;
+            int kept = 0;
+            int j = 0;
+            for (int k = 0; k < size; k++) {
+                while (j < other.length && other[j] < result[k]) {
+                    j++;
+                }
+                if (j == other.length) {
+                    break;
+                }
+                if (other[j] == result[k]) {
+                    result[kept++] = result[k];
+                }
+            }
+            size = kept;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static boolean containsPhrase(Postings[] phrase, long offset) {
+        int[] entries = new int[phrase.length];
+        for (int i = 0; i < phrase.length; i++) {
+            entries[i] = Arrays.binarySearch(phrase[i].offsets, offset);
+        }
+        Postings first = phrase[0];
+        for (int p = first.positionStarts[entries[0]]; p < first.positionStarts[entries[0] + 1]; p++) {
+            int position = first.positions[p];
+            boolean found = true;
+            for (int i = 1; i < phrase.length && found; i++) {
+                Postings next = phrase[i];
+                found = 0 <= Arrays.binarySearch(next.positions, next.positionStarts[entries[i]], next.positionStarts[entries[i] + 1], position + i);
+            }
+            if (found) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Postings decode(int term, boolean withPositions) {
+        Postings result = new Postings(counts[term]);
+        IntList positions = new IntList();
+        int[] position = {starts[term]};
+        long offset = 0;
+        for (int i = 0; i < counts[term]; i++) {
+            offset = offset + readVarLong(postings, position);
+            result.offsets[i] = offset;
+            result.positionStarts[i] = positions.size;
+            int count = (int) readVarLong(postings, position);
+            int value = 0;
+            for (int j = 0; j < count; j++) {
+                value = value + (int) readVarLong(postings, position);
+                if (withPositions) {
+                    positions.add(value);
+                }
+            }
+        }
+        result.positionStarts[counts[term]] = positions.size;
+        result.positions = Arrays.copyOf(positions.values, positions.size);
+        return result;
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            result = result | ((long) (b & 0x7F) << shift);
+            shift = shift + 7;
+        } while (0 != (b & 0x80));
+        return result;
+    }
+
+    /**
+     * Decoded postings of one term.
+     */
+    private static class Postings {
+        private final long[] offsets;
+        // positions in the gloss of offsets[i] are positions[positionStarts[i]..positionStarts[i + 1])
+        private final int[] positionStarts;
+        private int[] positions;
+
+        private Postings(int count) {
+            offsets = new long[count];
+            positionStarts = new int[count + 1];
+        }
+    }
+
+    /**
+     * Postings of one term collected by the builder: absolute offset, position count and position deltas
+     * of each synset, in the order of addition.
+     */
+    private static class TermPostings {
+        private final Bytes bytes = new Bytes();
+        private long last = -1;
+        private boolean sorted = true;
+        private int count;
+
+        private void add(long offset, IntList positions) {
+            sorted = sorted && last < offset;
+            last = offset;
+            count++;
+            bytes.writeVarLong(offset);
+            bytes.writeVarLong(positions.size);
+            int previous = 0;
+            for (int i = 0; i < positions.size; i++) {
+                bytes.writeVarLong(positions.values[i] - previous);
+                previous = positions.values[i];
+            }
+        }
+
+        /**
+         * Writes postings to <var>out</var> sorted by offset, with offsets delta encoded.
+         */
+        private void encode(Bytes out) {
+            // entry starts, to sort entries if synsets were added out of order
+            long[] offsets = new long[count];
+            int[] entries = new int[count + 1];
+            int[] position = {0};
+            for (int i = 0; i < count; i++) {
+                entries[i] = position[0];
+                offsets[i] = readVarLong(bytes.bytes, position);
+                int n = (int) readVarLong(bytes.bytes, position);
+                for (int j = 0; j < n; j++) {
+                    readVarLong(bytes.bytes, position);
+                }
+            }
+            entries[count] = position[0];
+
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            if (!sorted) {
+                Arrays.sort(order, Comparator.comparingLong(i -> offsets[i]));
+            }
+            long previous = 0;
+            for (int i : order) {
+                position[0] = entries[i];
+                readVarLong(bytes.bytes, position);
+                out.writeVarLong(offsets[i] - previous);
+                previous = offsets[i];
+                // position count and deltas are copied as they are
+                out.write(bytes.bytes, position[0], entries[i + 1] - position[0]);
+            }
+        }
+    }
+
+    private static class Bytes {
+        private byte[] bytes = new byte[16];
+        private int size;
+
+        private void ensure(int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+
+        private void write(byte[] b, int offset, int length) {
+            ensure(length);
+            System.arraycopy(b, offset, bytes, size, length);
+            size = size + length;
+        }
+
+        private void writeVarLong(long value) {
+            ensure(10);
+            while (0 != (value & ~0x7FL)) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value = value >>> 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+    }
+
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,710 @@
+package net.sf.extjwnl.dictionary.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Transitive closure of the hypernym relation over synset ordinals, see {@link SynsetOrdinals}.
+ * <p>
+ * The first hypernym of each synset makes a spanning forest of the hypernym graph. Nodes of the forest
+ * are numbered in preorder and each node keeps the last number of its subtree, so that a tree ancestor
+ * is found by comparing two intervals. Other hypernyms are not in the forest. For them each synset keeps
+ * a small set of entry points: synsets reached over such hypernyms from the synset or its ancestors.
+ * A synset is an ancestor of another if it is a tree ancestor of it or of one of its entry points.
+ * Most synsets share the entry point set of their first hypernym, so sets are stored once and referenced.
+ * </p>
+ * <p>
+ * The closure also keeps all hypernyms of each synset and its depth, the length of the longest hypernym path
+ * from the synset to a root. Together with the ancestor index they answer lowest common subsumer and
+ * shortest path queries by searching only the ancestors of the two synsets.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class HypernymClosure {
+
+    private static final int MAGIC = 0x45574E48;
+    private static final int VERSION = 2;
+
+    private static final int[] EMPTY = new int[0];
+
+    // preorder number of each node and the last preorder number in its subtree
+    private final int[] pre;
+    private final int[] last;
+    private final int[] treeParents;
+    // entry points of node n are setMembers[setStarts[sets[n]]..setStarts[sets[n] + 1]), set 0 is empty
+    private final int[] sets;
+    private final int[] setStarts;
+    private final int[] setMembers;
+    // hypernyms of node n are parentList[parentStarts[n]..parentStarts[n + 1])
+    private final int[] parentStarts;
+    private final int[] parentList;
+    private final int[] depths;
+
+    private HypernymClosure(int[] pre, int[] last, int[] treeParents, int[] sets, int[] setStarts, int[] setMembers,
+                            int[] parentStarts, int[] parentList, int[] depths) {
+        this.pre = pre;
+        this.last = last;
+        this.treeParents = treeParents;
+        this.sets = sets;
+        this.setStarts = setStarts;
+        this.setMembers = setMembers;
+        this.parentStarts = parentStarts;
+        this.parentList = parentList;
+        this.depths = depths;
+    }
+
+    /**
+     * Collects hypernym links and builds the closure.
+     */
+    public static class Builder {
+
+        private final int size;
+        private int[] children = new int[1024];
+        private int[] parents = new int[1024];
+        private int count;
+
+        /**
+         * Creates a builder for synsets with ordinals from 0 to <var>size</var> - 1.
+         *
+         * @param size the number of synsets
+         */
+        public Builder(int size) {
+            this.size = size;
+        }
+
+        /**
+         * Adds the hypernym <var>parent</var> of the synset <var>child</var>.
+         * The first hypernym added for a synset is its tree parent.
+         *
+         * @param child  synset ordinal
+         * @param parent hypernym ordinal
+         * @return this builder
+         */
+        public Builder add(int child, int parent) {
+            if (child < 0 || child >= size || parent < 0 || parent >= size) {
+                throw new IllegalArgumentException("Invalid ordinal: " + child + ", " + parent);
+            }
+            if (count == children.length) {
+                children = Arrays.copyOf(children, count * 2);
+                parents = Arrays.copyOf(parents, count * 2);
+            }
+            children[count] = child;
+            parents[count] = parent;
+            count++;
+            return this;
+        }
+
+        /**
+         * Builds the closure of links added so far.
+         *
+         * @return hypernym closure
+         */
+        public HypernymClosure build() {
+            // parents of node n are parentList[parentStarts[n]..parentStarts[n + 1]), in the order added
+            int[] parentStarts = new int[size + 1];
+            for (int i = 0; i < count; i++) {
+                parentStarts[children[i] + 1]++;
+            }
+            for (int i = 1; i <= size; i++) {
+                parentStarts[i] = parentStarts[i] + parentStarts[i - 1];
+            }
+            int[] next = Arrays.copyOf(parentStarts, size);
+            int[] parentList = new int[count];
+            for (int i = 0; i < count; i++) {
+                parentList[next[children[i]]++] = parents[i];
+            }
+
+            int[] treeParents = new int[size];
+            for (int n = 0; n < size; n++) {
+                treeParents[n] = -1;
+                for (int i = parentStarts[n]; i < parentStarts[n + 1] && -1 == treeParents[n]; i++) {
+                    if (n != parentList[i]) {
+                        treeParents[n] = parentList[i];
+                    }
+                }
+            }
+
+            int[] pre = new int[size];
+            int[] last = new int[size];
+            numberForest(treeParents, pre, last);
+
+            int[] sets = new int[size];
+            int[] depths = new int[size];
+            Map<Key, Integer> setIds = new HashMap<>();
+            setIds.put(new Key(EMPTY), 0);
+            int[][] setList = new int[16][];
+            setList[0] = EMPTY;
+
+            // entry points of a node need those of all its parents: visit parents first
+            int[] state = new int[size];
+            int[] stack = new int[16];
+            int[] cursors = new int[size];
+            for (int root = 0; root < size; root++) {
+                if (0 != state[root]) {
+                    continue;
+                }
+                int depth = 0;
+                stack[depth++] = root;
+                state[root] = 1;
+                cursors[root] = parentStarts[root];
+                while (0 < depth) {
+                    int n = stack[depth - 1];
+                    if (cursors[n] < parentStarts[n + 1]) {
+                        int p = parentList[cursors[n]++];
+                        // parents in progress are on a cycle and are skipped
+                        if (0 == state[p]) {
+                            state[p] = 1;
+                            cursors[p] = parentStarts[p];
+                            if (depth == stack.length) {
+                                stack = Arrays.copyOf(stack, depth * 2);
+                            }
+                            stack[depth++] = p;
+                        }
+                    } else {
+                        depth--;
+                        int[] set = getEntryPoints(n, parentStarts, parentList, treeParents, state, sets, setList, pre, last);
+                        Integer id = setIds.get(new Key(set));
+                        if (null == id) {
+                            id = setIds.size();
+                            setIds.put(new Key(set), id);
+                            if (id == setList.length) {
+                                setList = Arrays.copyOf(setList, id * 2);
+                            }
+                            setList[id] = set;
+                        }
+                        sets[n] = id;
+                        for (int i = parentStarts[n]; i < parentStarts[n + 1]; i++) {
+                            if (2 == state[parentList[i]]) {
+                                depths[n] = Math.max(depths[n], depths[parentList[i]] + 1);
+                            }
+                        }
+                        state[n] = 2;
+                    }
+                }
+            }
+
+            int[] setStarts = new int[setIds.size() + 1];
+            for (int i = 0; i < setIds.size(); i++) {
+                setStarts[i + 1] = setStarts[i] + setList[i].length;
+            }
+            int[] setMembers = new int[setStarts[setIds.size()]];
+            for (int i = 0; i < setIds.size(); i++) {
+                System.arraycopy(setList[i], 0, setMembers, setStarts[i], setList[i].length);
+            }
+            return new HypernymClosure(pre, last, treeParents, sets, setStarts, setMembers, parentStarts, parentList, depths);
+        }
+
+        private static void numberForest(int[] treeParents, int[] pre, int[] last) {
+            int size = treeParents.length;
+            int[] childStarts = new int[size + 1];
+            for (int n = 0; n < size; n++) {
+                if (-1 != treeParents[n]) {
+                    childStarts[treeParents[n] + 1]++;
+                }
+            }
+            for (int i = 1; i <= size; i++) {
+                childStarts[i] = childStarts[i] + childStarts[i - 1];
+            }
+            int[] next = Arrays.copyOf(childStarts, size);
+            int[] childList = new int[childStarts[size]];
+            for (int n = 0; n < size; n++) {
+                if (-1 != treeParents[n]) {
+                    childList[next[treeParents[n]]++] = n;
+                }
+            }
+
+            Arrays.fill(pre, -1);
+            int number = 0;
+            int[] stack = new int[16];
+            int[] cursors = new int[size];
+            // roots first, then nodes on cycles of first hypernyms, which become roots
+            for (int pass = 0; pass < 2; pass++) {
+                for (int root = 0; root < size; root++) {
+                    if (-1 != pre[root] || (0 == pass && -1 != treeParents[root])) {
+                        continue;
+                    }
+                    treeParents[root] = -1;
+                    int depth = 0;
+                    stack[depth++] = root;
+                    pre[root] = number++;
+                    cursors[root] = childStarts[root];
+                    while (0 < depth) {
+                        int n = stack[depth - 1];
+                        if (cursors[n] < childStarts[n + 1]) {
+                            int c = childList[cursors[n]++];
+                            if (-1 == pre[c]) {
+                                pre[c] = number++;
+                                cursors[c] = childStarts[c];
+                                if (depth == stack.length) {
+                                    stack = Arrays.copyOf(stack, depth * 2);
+                                }
+                                stack[depth++] = c;
+                            }
+                        } else {
+                            last[n] = number - 1;
+                            depth--;
+                        }
+                    }
+                }
+            }
+        }
+
+        private static int[] getEntryPoints(int n, int[] parentStarts, int[] parentList, int[] treeParents,
+                                            int[] state, int[] sets, int[][] setList, int[] pre, int[] last) {
+            int[] candidates = EMPTY;
+            int size = 0;
+            for (int i = parentStarts[n]; i < parentStarts[n + 1]; i++) {
+                int p = parentList[i];
+                if (p == n) {
+                    continue;
+                }
+                int[] inherited = 2 == state[p] ? setList[sets[p]] : EMPTY;
+                if (candidates.length < size + inherited.length + 1) {
+                    candidates = Arrays.copyOf(candidates, 2 * (size + inherited.length + 1));
+                }
+                if (p != treeParents[n]) {
+                    candidates[size++] = p;
+                }
+                System.arraycopy(inherited, 0, candidates, size, inherited.length);
+                size = size + inherited.length;
+            }
+            if (0 == size) {
+                return EMPTY;
+            }
+            Arrays.sort(candidates, 0, size);
+            // keep entry points not already covered by the tree above n or above another entry point
+            int[] result = new int[size];
+            int resultSize = 0;
+            for (int i = 0; i < size; i++) {
+                int x = candidates[i];
+                if (0 < i && x == candidates[i - 1]) {
+                    continue;
+                }
+                boolean covered = isWithin(pre, last, n, x);
+                for (int j = 0; j < size && !covered; j++) {
+                    covered = x != candidates[j] && isWithin(pre, last, candidates[j], x);
+                }
+                if (!covered) {
+                    result[resultSize++] = x;
+                }
+            }
+            return Arrays.copyOf(result, resultSize);
+        }
+    }
+
+    /**
+     * Returns the number of synsets in the closure.
+     *
+     * @return the number of synsets in the closure
+     */
+    public int size() {
+        return pre.length;
+    }
+
+    /**
+     * Returns whether <var>ancestor</var> is a direct or inherited hypernym of <var>synset</var>.
+     * A synset is not its own ancestor.
+     *
+     * @param synset   synset ordinal
+     * @param ancestor ordinal of the possible ancestor
+     * @return true, if <var>ancestor</var> is a hypernym of <var>synset</var>
+     */
+    public boolean isAncestor(int synset, int ancestor) {
+        if (synset == ancestor) {
+            return false;
+        }
+        if (isWithin(pre, last, synset, ancestor)) {
+            return true;
+        }
+        int set = sets[synset];
+        for (int i = setStarts[set]; i < setStarts[set + 1]; i++) {
+            if (isWithin(pre, last, setMembers[i], ancestor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the sorted ordinals of all direct and inherited hypernyms of <var>synset</var>.
+     *
+     * @param synset synset ordinal
+     * @return the sorted ordinals of the hypernyms of <var>synset</var>
+     */
+    public int[] getAncestors(int synset) {
+        int set = sets[synset];
+        int[] result = new int[16];
+        int size = 0;
+        for (int i = setStarts[set] - 1; i < setStarts[set + 1]; i++) {
+            // tree ancestors of the synset first, then each entry point with its tree ancestors
+            int n = i < setStarts[set] ? treeParents[synset] : setMembers[i];
+            while (-1 != n) {
+                if (size == result.length) {
+                    result = Arrays.copyOf(result, size * 2);
+                }
+                result[size++] = n;
+                n = treeParents[n];
+            }
+        }
+        Arrays.sort(result, 0, size);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (0 == i || result[i] != result[i - 1]) {
+                result[unique++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, unique);
+    }
+
+    /**
+     * Adds <var>value</var> to <var>sums</var> at each ancestor of <var>synset</var> once, like
+     * {@link #getAncestors(int)} without allocating. <var>marks</var> holds {@link #size()} ints, initially 0,
+     * and is reused across calls: a visited ancestor is marked with <var>synset</var> + 1, which also stops
+     * walking up a tree path already walked for this synset. Each synset is passed at most once per marks array.
+     *
+     * @param synset synset ordinal
+     * @param value  value to add
+     * @param sums   sums by ordinal
+     * @param marks  visited marks by ordinal
+     */
+    void addToAncestors(int synset, double value, double[] sums, int[] marks) {
+        int mark = synset + 1;
+        // a synset on a hypernym cycle does not count itself twice
+        marks[synset] = mark;
+        int set = sets[synset];
+        for (int i = setStarts[set] - 1; i < setStarts[set + 1]; i++) {
+            int n = i < setStarts[set] ? treeParents[synset] : setMembers[i];
+            while (-1 != n && mark != marks[n]) {
+                marks[n] = mark;
+                sums[n] = sums[n] + value;
+                n = treeParents[n];
+            }
+        }
+    }
+
+    /**
+     * Returns the depth of <var>synset</var>: the number of links on the longest hypernym path
+     * from the synset to a root. Roots have depth 0.
+     *
+     * @param synset synset ordinal
+     * @return the depth of <var>synset</var>
+     */
+    public int getDepth(int synset) {
+        return depths[synset];
+    }
+
+    /**
+     * Returns the ordinals of the direct hypernyms of <var>synset</var>.
+     *
+     * @param synset synset ordinal
+     * @return the ordinals of the direct hypernyms of <var>synset</var>
+     */
+    public int[] getParents(int synset) {
+        return Arrays.copyOfRange(parentList, parentStarts[synset], parentStarts[synset + 1]);
+    }
+
+    /**
+     * Returns <var>synset</var> and all its ancestors with their distances from <var>synset</var>.
+     *
+     * @param synset synset ordinal
+     * @return the subsumers of <var>synset</var>
+     */
+    public Subsumers getSubsumers(int synset) {
+        return new Subsumers(this, synset);
+    }
+
+    /**
+     * Returns the number of links on the shortest hypernym path from <var>synset</var> to <var>ancestor</var>,
+     * 0, if they are the same synset, or -1, if <var>ancestor</var> is not a hypernym of <var>synset</var>.
+     *
+     * @param synset   synset ordinal
+     * @param ancestor ordinal of the possible ancestor
+     * @return the length of the shortest path, or -1
+     */
+    public int getDistance(int synset, int ancestor) {
+        if (synset != ancestor && !isAncestor(synset, ancestor)) {
+            return -1;
+        }
+        Subsumers subsumers = new Subsumers(this, synset);
+        return subsumers.distances[subsumers.indexOf(ancestor)];
+    }
+
+    /**
+     * Returns the lowest common subsumers of <var>first</var> and <var>second</var>, see
+     * {@link #getLowestCommonSubsumers(int, int, int)}.
+     *
+     * @param first  synset ordinal
+     * @param second synset ordinal
+     * @return the ordinals of the lowest common subsumers, deepest first
+     */
+    public int[] getLowestCommonSubsumers(int first, int second) {
+        return getLowestCommonSubsumers(first, second, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the lowest common subsumers of <var>first</var> and <var>second</var>. A common subsumer is
+     * a synset which is the same as or a hypernym of both synsets. It is lowest, if it is not a hypernym
+     * of another common subsumer. Only subsumers within <var>maxDistance</var> hypernym links of both synsets
+     * are considered. The result is ordered by depth, deepest first.
+     *
+     * @param first       synset ordinal
+     * @param second      synset ordinal
+     * @param maxDistance maximum number of hypernym links from each synset to a subsumer
+     * @return the ordinals of the lowest common subsumers, deepest first, empty, if there are none
+     */
+    public int[] getLowestCommonSubsumers(int first, int second, int maxDistance) {
+        Subsumers a = new Subsumers(this, first);
+        Subsumers b = new Subsumers(this, second);
+        int[] common = new int[Math.min(a.nodes.length, b.nodes.length)];
+        int size = 0;
+        for (int i = 0, j = 0; i < a.nodes.length && j < b.nodes.length; ) {
+            if (a.nodes[i] < b.nodes[j]) {
+                i++;
+            } else if (a.nodes[i] > b.nodes[j]) {
+                j++;
+            } else {
+                if (a.distances[i] <= maxDistance && b.distances[j] <= maxDistance) {
+                    common[size++] = a.nodes[i];
+                }
+                i++;
+                j++;
+            }
+        }
+        int[] result = new int[size];
+        int resultSize = 0;
+        for (int i = 0; i < size; i++) {
+            boolean lowest = true;
+            for (int j = 0; j < size && lowest; j++) {
+                // synsets on a cycle subsume each other and are all kept
+                lowest = !isAncestor(common[j], common[i]) || isAncestor(common[i], common[j]);
+            }
+            if (lowest) {
+                // insertion by depth, deepest first
+                int k = resultSize++;
+                while (0 < k && depths[result[k - 1]] < depths[common[i]]) {
+                    result[k] = result[k - 1];
+                    k--;
+                }
+                result[k] = common[i];
+            }
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    /**
+     * Returns the shortest path from <var>first</var> up to <var>subsumer</var> and down to <var>second</var>.
+     * The path starts with <var>first</var>, ends with <var>second</var> and <var>subsumer</var> is at the index
+     * equal to its distance from <var>first</var>.
+     *
+     * @param first    synset ordinal
+     * @param second   synset ordinal
+     * @param subsumer ordinal of a common subsumer of both synsets
+     * @return the ordinals of the synsets on the path, or null, if <var>subsumer</var> does not subsume both synsets
+     */
+    public int[] getPath(int first, int second, int subsumer) {
+        Subsumers a = new Subsumers(this, first);
+        Subsumers b = new Subsumers(this, second);
+        int i = a.indexOf(subsumer);
+        int j = b.indexOf(subsumer);
+        if (i < 0 || j < 0) {
+            return null;
+        }
+        int up = a.distances[i];
+        int[] result = new int[up + b.distances[j] + 1];
+        for (int k = up, n = subsumer; -1 != n; k--) {
+            result[k] = n;
+            n = a.predecessors[a.indexOf(n)];
+        }
+        for (int k = up, n = subsumer; -1 != n; k++) {
+            result[k] = n;
+            n = b.predecessors[b.indexOf(n)];
+        }
+        return result;
+    }
+
+    /**
+     * Writes the closure to <var>out</var>.
+     *
+     * @param out output
+     * @throws IOException IOException
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(pre.length);
+        out.writeInt(setStarts.length);
+        for (int[] array : new int[][]{pre, last, treeParents, sets, setStarts}) {
+            for (int value : array) {
+                out.writeInt(value);
+            }
+        }
+        for (int[] array : new int[][]{setMembers, parentStarts, parentList, depths}) {
+            out.writeInt(array.length);
+            for (int value : array) {
+                out.writeInt(value);
+            }
+        }
+    }
+
+    /**
+     * Reads the closure written by {@link #write(DataOutputStream)}.
+     *
+     * @param in input
+     * @return hypernym closure
+     * @throws IOException IOException
+     */
+    public static HypernymClosure read(DataInputStream in) throws IOException {
+        if (MAGIC != in.readInt() || VERSION != in.readInt()) {
+            throw new IOException("Unsupported hypernym closure format");
+        }
+        int size = in.readInt();
+        int setCount = in.readInt();
+        int[] pre = readInts(in, size);
+        int[] last = readInts(in, size);
+        int[] treeParents = readInts(in, size);
+        int[] sets = readInts(in, size);
+        int[] setStarts = readInts(in, setCount);
+        int[] setMembers = readInts(in, in.readInt());
+        int[] parentStarts = readInts(in, in.readInt());
+        int[] parentList = readInts(in, in.readInt());
+        int[] depths = readInts(in, in.readInt());
+        return new HypernymClosure(pre, last, treeParents, sets, setStarts, setMembers, parentStarts, parentList, depths);
+    }
+
+    private static int[] readInts(DataInputStream in, int length) throws IOException {
+        int[] result = new int[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = in.readInt();
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether <var>node</var> is <var>ancestor</var> or its descendant in the spanning forest.
+     */
+    private static boolean isWithin(int[] pre, int[] last, int node, int ancestor) {
+        return pre[ancestor] <= pre[node] && pre[node] <= last[ancestor];
+    }
+
+    /**
+     * The synset and all its ancestors with their shortest distances from the synset, see
+     * {@link #getSubsumers(int)}. Subsumers of two synsets are merged to find their common subsumers.
+     */
+    public static class Subsumers {
+
+        private final int synset;
+        // the synset and its ancestors, sorted, with distances and predecessors on the shortest path
+        private final int[] nodes;
+        private final int[] distances;
+        private final int[] predecessors;
+
+        private Subsumers(HypernymClosure closure, int synset) {
+            this.synset = synset;
+            int[] ancestors = closure.getAncestors(synset);
+            int index = -Arrays.binarySearch(ancestors, synset) - 1;
+            if (index < 0) {
+                // the synset is on a cycle and is its own ancestor
+                nodes = ancestors;
+            } else {
+                nodes = new int[ancestors.length + 1];
+                System.arraycopy(ancestors, 0, nodes, 0, index);
+                nodes[index] = synset;
+                System.arraycopy(ancestors, index, nodes, index + 1, ancestors.length - index);
+            }
+            distances = new int[nodes.length];
+            Arrays.fill(distances, -1);
+            predecessors = new int[nodes.length];
+            int[] queue = new int[nodes.length];
+            int head = 0;
+            int tail = 0;
+            distances[indexOf(synset)] = 0;
+            predecessors[indexOf(synset)] = -1;
+            queue[tail++] = synset;
+            while (head < tail) {
+                int n = queue[head++];
+                int distance = distances[indexOf(n)];
+                for (int i = closure.parentStarts[n]; i < closure.parentStarts[n + 1]; i++) {
+                    int p = indexOf(closure.parentList[i]);
+                    if (-1 == distances[p]) {
+                        distances[p] = distance + 1;
+                        predecessors[p] = n;
+                        queue[tail++] = closure.parentList[i];
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the ordinal of the synset.
+         *
+         * @return synset ordinal
+         */
+        public int getSynset() {
+            return synset;
+        }
+
+        /**
+         * Returns the number of subsumers, the synset and its ancestors.
+         *
+         * @return the number of subsumers
+         */
+        public int size() {
+            return nodes.length;
+        }
+
+        /**
+         * Returns the ordinal of the subsumer at <var>index</var>. Subsumers are sorted by ordinal.
+         *
+         * @param index subsumer index
+         * @return subsumer ordinal
+         */
+        public int get(int index) {
+            return nodes[index];
+        }
+
+        /**
+         * Returns the number of links on the shortest hypernym path from the synset to the subsumer at <var>index</var>.
+         *
+         * @param index subsumer index
+         * @return the length of the shortest path
+         */
+        public int getDistance(int index) {
+            return distances[index];
+        }
+
+        /**
+         * Returns the index of the subsumer with <var>ordinal</var>, or -1, if it does not subsume the synset.
+         *
+         * @param ordinal synset ordinal
+         * @return subsumer index, or -1
+         */
+        public int indexOf(int ordinal) {
+            int result = Arrays.binarySearch(nodes, ordinal);
+            return result < 0 ? -1 : result;
+        }
+    }
+
+    private static class Key {
+
+        private final int[] values;
+
+        private Key(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Arrays.equals(values, ((Key) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+    }
+}
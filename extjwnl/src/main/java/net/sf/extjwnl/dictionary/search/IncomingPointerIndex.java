@@ -0,0 +1,232 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Pointer;
+import net.sf.extjwnl.data.PointerType;
+import net.sf.extjwnl.data.Synset;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Index of incoming pointers: for a target synset and a pointer type, the synsets having pointers
+ * of that type to the target synset or to its words.
+ * <p>
+ * Synsets are addressed by keys combining POS id and offset. Keys of (target synset, pointer type) pairs are
+ * kept sorted in a long array, the source synsets of each pair are a sorted range of another long array,
+ * with range starts in an int array.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class IncomingPointerIndex {
+
+    private static final int MAGIC = 0x45574E50;
+    private static final int VERSION = 1;
+
+    private static final int TYPE_BITS = 8;
+    private static final int OFFSET_BITS = 48;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+    private static final long[] EMPTY = new long[0];
+
+    // sorted (target synset, pointer type) keys
+    private final long[] keys;
+    // sources of keys[i] are sources[starts[i]..starts[i + 1])
+    private final int[] starts;
+    private final long[] sources;
+
+    private IncomingPointerIndex(long[] keys, int[] starts, long[] sources) {
+        this.keys = keys;
+        this.starts = starts;
+        this.sources = sources;
+    }
+
+    /**
+     * Collects pointers and builds the index.
+     */
+    public static class Builder {
+
+        private long[] keys = new long[1024];
+        private long[] sources = new long[1024];
+        private int size;
+
+        /**
+         * Adds all pointers of the <var>synset</var> and its words. Targets are not resolved.
+         *
+         * @param synset source synset
+         * @return this builder
+         * @throws JWNLException JWNLException
+         */
+        public Builder add(Synset synset) throws JWNLException {
+            long source = getKey(synset.getPOS(), synset.getOffset());
+            for (Pointer pointer : synset.getPointers()) {
+                add(pointer.getTargetPOS(), pointer.getTargetOffset(), pointer.getType(), source);
+            }
+            return this;
+        }
+
+        private void add(POS targetPOS, long targetOffset, PointerType type, long source) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                sources = Arrays.copyOf(sources, size * 2);
+            }
+            keys[size] = getKey(targetPOS, targetOffset, type);
+            sources[size] = source;
+            size++;
+        }
+
+        /**
+         * Builds the index of pointers added so far.
+         *
+         * @return incoming pointer index
+         */
+        public IncomingPointerIndex build() {
+            // distinct keys, in order
+            long[] resultKeys = Arrays.copyOf(keys, size);
+            Arrays.sort(resultKeys);
+            int keyCount = 0;
+            for (int i = 0; i < size; i++) {
+                if (0 == keyCount || resultKeys[keyCount - 1] != resultKeys[i]) {
+                    resultKeys[keyCount++] = resultKeys[i];
+                }
+            }
+
+            // keys do not fit next to the pointer index, so pointers are ordered by (key rank, pointer index)
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = ((long) Arrays.binarySearch(resultKeys, 0, keyCount, keys[i]) << 32) | i;
+            }
+            Arrays.sort(order);
+
+            int[] resultStarts = new int[keyCount + 1];
+            long[] resultSources = new long[size];
+            int sourceCount = 0;
+            int next = 0;
+            for (int k = 0; k < keyCount; k++) {
+                int start = sourceCount;
+                resultStarts[k] = start;
+                for (; next < size && k == (int) (order[next] >>> 32); next++) {
+                    resultSources[sourceCount++] = sources[(int) order[next]];
+                }
+                Arrays.sort(resultSources, start, sourceCount);
+                // several words of a source synset point to the target
+                int end = start;
+                for (int i = start; i < sourceCount; i++) {
+                    if (end == start || resultSources[end - 1] != resultSources[i]) {
+                        resultSources[end++] = resultSources[i];
+                    }
+                }
+                sourceCount = end;
+            }
+            resultStarts[keyCount] = sourceCount;
+            return new IncomingPointerIndex(Arrays.copyOf(resultKeys, keyCount), resultStarts,
+                    Arrays.copyOf(resultSources, sourceCount));
+        }
+    }
+
+    /**
+     * Returns the number of (target synset, pointer type) pairs in the index.
+     *
+     * @return the number of (target synset, pointer type) pairs in the index
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the keys of synsets having pointers of type <var>type</var> to the target synset or its words,
+     * in key order. Use {@link #getPOS(long)} and {@link #getOffset(long)} to decode them.
+     *
+     * @param targetPOS    target synset POS
+     * @param targetOffset target synset offset
+     * @param type         pointer type
+     * @return keys of source synsets
+     */
+    public long[] getSources(POS targetPOS, long targetOffset, PointerType type) {
+        int index = Arrays.binarySearch(keys, getKey(targetPOS, targetOffset, type));
+        if (index < 0) {
+            return EMPTY;
+        }
+        return Arrays.copyOfRange(sources, starts[index], starts[index + 1]);
+    }
+
+    /**
+     * Returns the POS of a source synset key.
+     *
+     * @param key source synset key
+     * @return POS
+     */
+    public static POS getPOS(long key) {
+        return POS.getPOSForId((int) (key >>> OFFSET_BITS));
+    }
+
+    /**
+     * Returns the offset of a source synset key.
+     *
+     * @param key source synset key
+     * @return offset
+     */
+    public static long getOffset(long key) {
+        return key & OFFSET_MASK;
+    }
+
+    /**
+     * Writes the index to <var>out</var>.
+     *
+     * @param out output
+     * @throws IOException IOException
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(keys.length);
+        for (long key : keys) {
+            out.writeLong(key);
+        }
+        for (int start : starts) {
+            out.writeInt(start);
+        }
+        for (long source : sources) {
+            out.writeLong(source);
+        }
+    }
+
+    /**
+     * Reads the index written by {@link #write(DataOutputStream)}.
+     *
+     * @param in input
+     * @return incoming pointer index
+     * @throws IOException IOException
+     */
+    public static IncomingPointerIndex read(DataInputStream in) throws IOException {
+        if (MAGIC != in.readInt() || VERSION != in.readInt()) {
+            throw new IOException("Unsupported incoming pointer index format");
+        }
+        long[] keys = new long[in.readInt()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = in.readLong();
+        }
+        int[] starts = new int[keys.length + 1];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = in.readInt();
+        }
+        long[] sources = new long[starts[keys.length]];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = in.readLong();
+        }
+        return new IncomingPointerIndex(keys, starts, sources);
+    }
+
+    private static long getKey(POS pos, long offset) {
+        return ((long) pos.getId() << OFFSET_BITS) | offset;
+    }
+
+    private static long getKey(POS pos, long offset, PointerType type) {
+        // offsets of data files fit in 40 bits
+        return ((long) pos.getId() << OFFSET_BITS + TYPE_BITS) | (offset << TYPE_BITS) | type.ordinal();
+    }
+}
@@ -0,0 +1,207 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.data.POS;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Information content of synsets over synset ordinals, see {@link SynsetOrdinals}.
+ * <p>
+ * The frequency of a synset is its own count plus the counts of its direct and inherited hyponyms: each count
+ * is added once to each distinct hypernym ancestor, however many hypernym paths lead to the ancestor.
+ * The probability of a synset is its frequency divided by the total count of its part of speech,
+ * and its information content is the negative logarithm of the probability. With add-one smoothing
+ * each synset counts one occurrence more, so that synsets without occurrences have finite information content.
+ * </p>
+ * <p>
+ * Values are kept in one array of doubles per part of speech, indexed by ordinal within the part of speech.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class InformationContent {
+
+    private static final int MAGIC = 0x45574E49;
+    private static final int VERSION = 2;
+
+    private static final POS[] POSES = POS.values();
+
+    private final boolean smoothing;
+    // first ordinal of each part of speech, by POS ordinal
+    private final int[] starts;
+    private final double[][] values;
+
+    private InformationContent(boolean smoothing, int[] starts, double[][] values) {
+        this.smoothing = smoothing;
+        this.starts = starts;
+        this.values = values;
+    }
+
+    /**
+     * Collects synset counts and propagates them over the hypernym closure.
+     */
+    public static class Builder {
+
+        private final SynsetOrdinals ordinals;
+        private final HypernymClosure closure;
+        private final double[] counts;
+        private boolean smoothing;
+
+        /**
+         * Creates a builder for synsets numbered by <var>ordinals</var>, with hypernyms from <var>closure</var>.
+         *
+         * @param ordinals synset ordinals
+         * @param closure  hypernym closure
+         */
+        public Builder(SynsetOrdinals ordinals, HypernymClosure closure) {
+            this.ordinals = ordinals;
+            this.closure = closure;
+            this.counts = new double[ordinals.size()];
+        }
+
+        /**
+         * Sets whether to add one occurrence to each synset, false by default.
+         *
+         * @param smoothing whether to use add-one smoothing
+         * @return this builder
+         */
+        public Builder setSmoothing(boolean smoothing) {
+            this.smoothing = smoothing;
+            return this;
+        }
+
+        /**
+         * Adds <var>count</var> occurrences of the synset with ordinal <var>synset</var>.
+         *
+         * @param synset synset ordinal
+         * @param count  number of occurrences
+         * @return this builder
+         */
+        public Builder add(int synset, double count) {
+            counts[synset] = counts[synset] + count;
+            return this;
+        }
+
+        /**
+         * Propagates the counts added so far and computes information content.
+         *
+         * @return information content
+         */
+        public InformationContent build() {
+            int size = counts.length;
+            double[] occurrences = counts.clone();
+            if (smoothing) {
+                for (int n = 0; n < size; n++) {
+                    occurrences[n] = occurrences[n] + 1;
+                }
+            }
+            // one pass over synsets, each count goes to each distinct ancestor once
+            double[] frequencies = occurrences.clone();
+            double[] totals = new double[POSES.length];
+            int[] marks = new int[size];
+            for (int n = 0; n < size; n++) {
+                totals[ordinals.getPOS(n).ordinal()] += occurrences[n];
+                if (0 < occurrences[n]) {
+                    closure.addToAncestors(n, occurrences[n], frequencies, marks);
+                }
+            }
+
+            int[] starts = new int[POSES.length + 1];
+            for (int n = 0; n < size; n++) {
+                starts[ordinals.getPOS(n).ordinal() + 1]++;
+            }
+            for (int p = 0; p < POSES.length; p++) {
+                starts[p + 1] = starts[p + 1] + starts[p];
+            }
+            double[][] values = new double[POSES.length][];
+            for (int p = 0; p < POSES.length; p++) {
+                values[p] = new double[starts[p + 1] - starts[p]];
+                for (int n = starts[p]; n < starts[p + 1]; n++) {
+                    values[p][n - starts[p]] = 0 < frequencies[n] ? -Math.log(Math.min(1, frequencies[n] / totals[p])) : Double.POSITIVE_INFINITY;
+                }
+            }
+            return new InformationContent(smoothing, starts, values);
+        }
+    }
+
+    /**
+     * Returns the number of synsets.
+     *
+     * @return the number of synsets
+     */
+    public int size() {
+        return starts[POSES.length];
+    }
+
+    /**
+     * Returns whether the counts were smoothed by adding one occurrence to each synset.
+     *
+     * @return true, if add-one smoothing was used
+     */
+    public boolean isSmoothed() {
+        return smoothing;
+    }
+
+    /**
+     * Returns the information content of the synset with ordinal <var>synset</var>, positive infinity,
+     * if the synset and its hyponyms have no occurrences.
+     *
+     * @param synset synset ordinal
+     * @return the information content of the synset
+     */
+    public double get(int synset) {
+        int p = 0;
+        while (starts[p + 1] <= synset) {
+            p++;
+        }
+        return values[p][synset - starts[p]];
+    }
+
+    /**
+     * Writes the information content to <var>out</var>.
+     *
+     * @param out output
+     * @throws IOException IOException
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeBoolean(smoothing);
+        out.writeInt(POSES.length);
+        for (double[] posValues : values) {
+            out.writeInt(posValues.length);
+            for (double value : posValues) {
+                out.writeDouble(value);
+            }
+        }
+    }
+
+    /**
+     * Reads the information content written by {@link #write(DataOutputStream)}.
+     *
+     * @param in input
+     * @return information content
+     * @throws IOException IOException
+     */
+    public static InformationContent read(DataInputStream in) throws IOException {
+        if (MAGIC != in.readInt() || VERSION != in.readInt()) {
+            throw new IOException("Unsupported information content format");
+        }
+        boolean smoothing = in.readBoolean();
+        if (POSES.length != in.readInt()) {
+            throw new IOException("Unsupported information content format");
+        }
+        int[] starts = new int[POSES.length + 1];
+        double[][] values = new double[POSES.length][];
+        for (int p = 0; p < POSES.length; p++) {
+            values[p] = new double[in.readInt()];
+            for (int i = 0; i < values[p].length; i++) {
+                values[p][i] = in.readDouble();
+            }
+            starts[p + 1] = starts[p] + values[p].length;
+        }
+        return new InformationContent(smoothing, starts, values);
+    }
+}
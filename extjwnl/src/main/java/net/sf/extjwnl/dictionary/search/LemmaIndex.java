@@ -0,0 +1,453 @@
+package net.sf.extjwnl.dictionary.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Sorted set of lemmas of one part of speech with a trigram inverted index over them.
+ * <p>
+ * Lemmas are addressed by their position in the sorted order and stored front coded.
+ * Lemmas with a given prefix form a contiguous id range, found by binary search.
+ * For every trigram (three consecutive chars) occurring in any lemma the index keeps the sorted list
+ * of lemma ids containing it, in CSR form. A substring query of three or more chars intersects the lists
+ * of its trigrams and verifies the few remaining candidates, shorter queries scan the lemmas.
+ * </p>
+ * <p>
+ * Optionally, the index keeps a weight per lemma, such as the summed use count of its senses,
+ * used to rank prefix completions.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class LemmaIndex {
+
+    private static final int MAGIC = 0x45574E4C;
+    private static final int VERSION = 2;
+
+    private static final int GRAM = 3;
+
+    private final FrontCodedStrings lemmas;
+    // lemma weights, null if not available
+    private final int[] weights;
+
+    // sorted trigrams, three 16-bit chars packed into a long
+    private final long[] grams;
+    // postings of grams[i] are ids[starts[i]..starts[i + 1])
+    private final int[] starts;
+    private final int[] ids;
+
+    /**
+     * Builds an index over <var>lemmas</var>.
+     *
+     * @param lemmas lemmas, duplicates are ignored
+     */
+    public LemmaIndex(Collection<String> lemmas) {
+        String[] sorted = new TreeSet<>(lemmas).toArray(new String[0]);
+        this.lemmas = new FrontCodedStrings(sorted);
+        this.weights = null;
+
+        Map<Long, IntList> postings = new HashMap<>();
+        for (int id = 0; id < sorted.length; id++) {
+            String lemma = sorted[id];
+            for (int i = 0; i + GRAM <= lemma.length(); i++) {
+                IntList list = postings.computeIfAbsent(gram(lemma, i), k -> new IntList());
+                // ids are increasing, so repeated trigrams of one lemma are adjacent
+                if (0 == list.size || id != list.values[list.size - 1]) {
+                    list.add(id);
+                }
+            }
+        }
+
+        grams = new long[postings.size()];
+        int i = 0;
+        int total = 0;
+        for (Map.Entry<Long, IntList> entry : postings.entrySet()) {
+            grams[i++] = entry.getKey();
+            total = total + entry.getValue().size;
+        }
+        Arrays.sort(grams);
+        starts = new int[grams.length + 1];
+        ids = new int[total];
+        for (i = 0; i < grams.length; i++) {
+            IntList list = postings.get(grams[i]);
+            System.arraycopy(list.values, 0, ids, starts[i], list.size);
+            starts[i + 1] = starts[i] + list.size;
+        }
+    }
+
+    private LemmaIndex(FrontCodedStrings lemmas, int[] weights, long[] grams, int[] starts, int[] ids) {
+        this.lemmas = lemmas;
+        this.weights = weights;
+        this.grams = grams;
+        this.starts = starts;
+        this.ids = ids;
+    }
+
+    /**
+     * Returns a copy of this index with lemma <var>weights</var>.
+     *
+     * @param weights weights, indexed by lemma id
+     * @return a copy of this index with lemma <var>weights</var>
+     */
+    public LemmaIndex withWeights(int[] weights) {
+        if (weights.length != size()) {
+            throw new IllegalArgumentException("Weights count must match lemma count");
+        }
+        return new LemmaIndex(lemmas, weights, grams, starts, ids);
+    }
+
+    /**
+     * Returns whether the index has lemma weights.
+     *
+     * @return true, if the index has lemma weights
+     */
+    public boolean hasWeights() {
+        return null != weights;
+    }
+
+    /**
+     * Returns the weight of the lemma with the specified id.
+     *
+     * @param id lemma id
+     * @return lemma weight, zero if the index has no weights
+     */
+    public int getWeight(int id) {
+        return null == weights ? 0 : weights[id];
+    }
+
+    /**
+     * Returns the number of lemmas in the index.
+     *
+     * @return the number of lemmas in the index
+     */
+    public int size() {
+        return lemmas.size();
+    }
+
+    /**
+     * Returns the lemma with the specified id.
+     *
+     * @param id lemma id, position in the sorted order
+     * @return lemma
+     */
+    public String getLemma(int id) {
+        return lemmas.get(id);
+    }
+
+    /**
+     * Returns the id of the <var>lemma</var>.
+     *
+     * @param lemma lemma
+     * @return lemma id, or <code>(-(insertion point) - 1)</code> if the lemma is not in the index
+     */
+    public int getId(String lemma) {
+        int index = lemmas.lowerBound(lemma);
+        if (index < lemmas.size() && lemmas.get(index).equals(lemma)) {
+            return index;
+        }
+        return -index - 1;
+    }
+
+    /**
+     * Returns up to <var>limit</var> lemmas starting with <var>prefix</var>. Lemmas are returned in sorted order,
+     * or, if <var>ranked</var>, by decreasing weight and then in sorted order.
+     *
+     * @param prefix prefix
+     * @param limit  maximum number of lemmas to return
+     * @param ranked whether to return the lemmas with the highest weights
+     * @return lemmas starting with <var>prefix</var>
+     */
+    public List<String> getLemmasByPrefix(String prefix, int limit, boolean ranked) {
+        int from = lemmas.lowerBound(prefix);
+        int to = lemmas.prefixUpperBound(prefix);
+        List<String> result = new ArrayList<>(Math.max(0, Math.min(limit, to - from)));
+        if (0 >= limit || from >= to) {
+            return result;
+        }
+        if (!ranked || null == weights) {
+            FrontCodedStrings.Reader reader = lemmas.new Reader();
+            for (int id = from; id < to && result.size() < limit; id++) {
+                reader.seek(id);
+                result.add(reader.toString());
+            }
+            return result;
+        }
+
+        // keep the top limit ids in a heap with the worst on top
+        Comparator<Integer> order = (a, b) -> weights[a] != weights[b] ? Integer.compare(weights[b], weights[a]) : Integer.compare(a, b);
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, to - from) + 1, order.reversed());
+        for (int id = from; id < to; id++) {
+            if (top.size() < limit) {
+                top.add(id);
+            } else if (0 < order.compare(top.peek(), id)) {
+                top.poll();
+                top.add(id);
+            }
+        }
+        List<Integer> selected = new ArrayList<>(top);
+        selected.sort(order);
+        for (int id : selected) {
+            result.add(lemmas.get(id));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the lemmas containing <var>substring</var>, in sorted order.
+     *
+     * @param substring substring to look for
+     * @return the lemmas containing <var>substring</var>
+     */
+    public List<String> getLemmasContaining(String substring) {
+        List<String> result = new ArrayList<>();
+        if (substring.length() < GRAM) {
+            FrontCodedStrings.Reader reader = lemmas.new Reader();
+            while (reader.next()) {
+                if (reader.contains(substring)) {
+                    result.add(reader.toString());
+                }
+            }
+            return result;
+        }
+
+        // postings of all query trigrams, shortest first
+        int count = substring.length() - GRAM + 1;
+        int[] postings = new int[count];
+        for (int i = 0; i < count; i++) {
+            int index = Arrays.binarySearch(grams, gram(substring, i));
+            if (index < 0) {
+                return result;
+            }
+            postings[i] = index;
+        }
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = postings[i];
+        }
+        Arrays.sort(order, Comparator.comparingInt(g -> starts[g + 1] - starts[g]));
+
+        int first = order[0];
+        int[] candidates = Arrays.copyOfRange(ids, starts[first], starts[first + 1]);
+        int size = candidates.length;
+        for (int i = 1; i < count && 0 < size; i++) {
+            if (order[i].equals(order[i - 1])) {
+                continue;
+            }
+            size = intersect(candidates, size, order[i]);
+        }
+
+        for (int i = 0; i < size; i++) {
+            String lemma = lemmas.get(candidates[i]);
+            if (lemma.contains(substring)) {
+                result.add(lemma);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns up to <var>limit</var> lemmas within <var>maxEdits</var> Levenshtein distance from <var>term</var>,
+     * closest first, then by decreasing weight, then in sorted order.
+     * <p>
+     * The sorted lemmas are walked as a trie: edit distance rows are shared between lemmas with a common prefix,
+     * and once every cell of a row exceeds <var>maxEdits</var> all lemmas with that prefix are skipped.
+     * </p>
+     *
+     * @param term     term to look for
+     * @param maxEdits maximum edit distance
+     * @param limit    maximum number of lemmas to return
+     * @return lemmas within <var>maxEdits</var> from <var>term</var>
+     */
+    public List<String> getLemmasWithin(String term, int maxEdits, int limit) {
+        int n = term.length();
+        // rows[k] holds distances between the first k chars of the current lemma and all prefixes of term
+        List<int[]> rows = new ArrayList<>();
+        int[] first = new int[n + 1];
+        for (int j = 0; j <= n; j++) {
+            first[j] = j;
+        }
+        rows.add(first);
+
+        List<int[]> matches = new ArrayList<>();
+        FrontCodedStrings.Reader reader = lemmas.new Reader();
+        // number of rows valid for the previous lemma
+        int computed = 0;
+        boolean more = reader.next();
+        while (more) {
+            // rows of the prefix shared with the previous lemma are reused
+            computed = Math.min(computed, reader.shared());
+            int length = reader.length();
+            boolean pruned = false;
+            for (int k = computed + 1; k <= length; k++) {
+                if (rows.size() <= k) {
+                    rows.add(new int[n + 1]);
+                }
+                int[] above = rows.get(k - 1);
+                int[] row = rows.get(k);
+                char c = reader.charAt(k - 1);
+                row[0] = k;
+                int min = row[0];
+                for (int j = 1; j <= n; j++) {
+                    int cost = c == term.charAt(j - 1) ? 0 : 1;
+                    row[j] = Math.min(Math.min(row[j - 1] + 1, above[j] + 1), above[j - 1] + cost);
+                    min = Math.min(min, row[j]);
+                }
+                computed = k;
+                if (min > maxEdits) {
+                    // no lemma with this prefix is close enough
+                    more = skipPrefix(reader, k);
+                    pruned = true;
+                    break;
+                }
+            }
+            if (!pruned) {
+                int distance = rows.get(length)[n];
+                if (distance <= maxEdits) {
+                    matches.add(new int[]{distance, reader.index()});
+                }
+                more = reader.next();
+            }
+        }
+
+        matches.sort((a, b) -> {
+            if (a[0] != b[0]) {
+                return Integer.compare(a[0], b[0]);
+            }
+            if (getWeight(a[1]) != getWeight(b[1])) {
+                return Integer.compare(getWeight(b[1]), getWeight(a[1]));
+            }
+            return Integer.compare(a[1], b[1]);
+        });
+        List<String> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(lemmas.get(matches.get(i)[1]));
+        }
+        return result;
+    }
+
+    /**
+     * Advances <var>reader</var> to the first lemma which does not start with
+     * the first <var>length</var> chars of the current one.
+     *
+     * @return false, if there are no more lemmas
+     */
+    private boolean skipPrefix(FrontCodedStrings.Reader reader, int length) {
+        // skipped ranges are mostly short, look at the next two blocks before searching
+        int end = (reader.index() / FrontCodedStrings.BLOCK_SIZE + 2) * FrontCodedStrings.BLOCK_SIZE;
+        while (reader.index() < end) {
+            if (!reader.next()) {
+                return false;
+            }
+            if (reader.shared() < length) {
+                return true;
+            }
+        }
+        int next = lemmas.prefixUpperBound(reader.toString().substring(0, length));
+        if (next >= lemmas.size()) {
+            return false;
+        }
+        reader.seek(next);
+        return true;
+    }
+
+    /**
+     * Writes the index to <var>out</var>.
+     *
+     * @param out output
+     * @throws IOException IOException
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        lemmas.write(out);
+        out.writeBoolean(null != weights);
+        if (null != weights) {
+            for (int weight : weights) {
+                out.writeInt(weight);
+            }
+        }
+        out.writeInt(grams.length);
+        for (long gram : grams) {
+            out.writeLong(gram);
+        }
+        for (int start : starts) {
+            out.writeInt(start);
+        }
+        for (int id : ids) {
+            out.writeInt(id);
+        }
+    }
+
+    /**
+     * Reads the index written by {@link #write(DataOutputStream)}.
+     *
+     * @param in input
+     * @return lemma index
+     * @throws IOException IOException
+     */
+    public static LemmaIndex read(DataInputStream in) throws IOException {
+        if (MAGIC != in.readInt() || VERSION != in.readInt()) {
+            throw new IOException("Unsupported lemma index format");
+        }
+        FrontCodedStrings lemmas = FrontCodedStrings.read(in);
+        int[] weights = null;
+        if (in.readBoolean()) {
+            weights = new int[lemmas.size()];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = in.readInt();
+            }
+        }
+        long[] grams = new long[in.readInt()];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = in.readLong();
+        }
+        int[] starts = new int[grams.length + 1];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = in.readInt();
+        }
+        int[] ids = new int[starts[grams.length]];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = in.readInt();
+        }
+        return new LemmaIndex(lemmas, weights, grams, starts, ids);
+    }
+
+    /**
+     * Keeps in <var>candidates</var> only the ids present in the postings of <var>gram</var>.
+     *
+     * @return new size of candidates
+     */
+    private int intersect(int[] candidates, int size, int gram) {
+        int result = 0;
+        int j = starts[gram];
+        int end = starts[gram + 1];
+        for (int i = 0; i < size && j < end; i++) {
+            int id = candidates[i];
+            while (j < end && ids[j] < id) {
+                j++;
+            }
+            if (j < end && ids[j] == id) {
+                candidates[result++] = id;
+            }
+        }
+        return result;
+    }
+
+    private static long gram(String s, int start) {
+        return ((long) s.charAt(start) << 32) | ((long) s.charAt(start + 1) << 16) | s.charAt(start + 2);
+    }
+
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package net.sf.extjwnl.dictionary.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Offsets of synsets of one part of speech by lexicographer file.
+ * <p>
+ * Offsets are sorted by lexicographer file number, then by offset, in a long array.
+ * Offsets of the lexicographer file <var>n</var> are the range from <code>starts[n]</code>
+ * to <code>starts[n + 1]</code>.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class LexFileIndex {
+
+    private static final int MAGIC = 0x45574E46;
+    private static final int VERSION = 1;
+
+    private static final long[] EMPTY = new long[0];
+
+    // offsets of lex file n are offsets[starts[n]..starts[n + 1])
+    private final int[] starts;
+    private final long[] offsets;
+
+    private LexFileIndex(int[] starts, long[] offsets) {
+        this.starts = starts;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Collects synset offsets and builds the index.
+     */
+    public static class Builder {
+
+        private long[] lexFileNums = new long[1024];
+        private long[] offsets = new long[1024];
+        private int size;
+        private long max = -1;
+
+        /**
+         * Adds the synset at <var>offset</var> from the lexicographer file <var>lexFileNum</var>.
+         *
+         * @param lexFileNum lexicographer file number
+         * @param offset     synset offset
+         * @return this builder
+         */
+        public Builder add(long lexFileNum, long offset) {
+            if (lexFileNum < 0 || lexFileNum > Integer.MAX_VALUE - 2) {
+                throw new IllegalArgumentException("Invalid lexicographer file number: " + lexFileNum);
+            }
+            if (size == offsets.length) {
+                lexFileNums = Arrays.copyOf(lexFileNums, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            lexFileNums[size] = lexFileNum;
+            offsets[size] = offset;
+            size++;
+            max = Math.max(max, lexFileNum);
+            return this;
+        }
+
+        /**
+         * Builds the index of synsets added so far.
+         *
+         * @return lexicographer file index
+         */
+        public LexFileIndex build() {
+            // counting sort by lex file, then sort offsets within each lex file
+            int[] starts = new int[(int) max + 2];
+            for (int i = 0; i < size; i++) {
+                starts[(int) lexFileNums[i] + 1]++;
+            }
+            for (int i = 1; i < starts.length; i++) {
+                starts[i] = starts[i] + starts[i - 1];
+            }
+            int[] next = Arrays.copyOf(starts, starts.length);
+            long[] result = new long[size];
+            for (int i = 0; i < size; i++) {
+                result[next[(int) lexFileNums[i]]++] = offsets[i];
+            }
+            for (int i = 0; i + 1 < starts.length; i++) {
+                Arrays.sort(result, starts[i], starts[i + 1]);
+            }
+            return new LexFileIndex(starts, result);
+        }
+    }
+
+    /**
+     * Returns the number of synsets in the index.
+     *
+     * @return the number of synsets in the index
+     */
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Returns the number of synsets in the lexicographer file <var>lexFileNum</var>.
+     *
+     * @param lexFileNum lexicographer file number
+     * @return the number of synsets in the lexicographer file
+     */
+    public int getCount(long lexFileNum) {
+        if (lexFileNum < 0 || lexFileNum + 1 >= starts.length) {
+            return 0;
+        }
+        int n = (int) lexFileNum;
+        return starts[n + 1] - starts[n];
+    }
+
+    /**
+     * Returns the sorted offsets of synsets in the lexicographer file <var>lexFileNum</var>.
+     *
+     * @param lexFileNum lexicographer file number
+     * @return the sorted offsets of synsets in the lexicographer file
+     */
+    public long[] getOffsets(long lexFileNum) {
+        if (0 == getCount(lexFileNum)) {
+            return EMPTY;
+        }
+        int n = (int) lexFileNum;
+        return Arrays.copyOfRange(offsets, starts[n], starts[n + 1]);
+    }
+
+    /**
+     * Writes the index to <var>out</var>.
+     *
+     * @param out output
+     * @throws IOException IOException
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(starts.length);
+        for (int start : starts) {
+            out.writeInt(start);
+        }
+        for (long offset : offsets) {
+            out.writeLong(offset);
+        }
+    }
+
+    /**
+     * Reads the index written by {@link #write(DataOutputStream)}.
+     *
+     * @param in input
+     * @return lexicographer file index
+     * @throws IOException IOException
+     */
+    public static LexFileIndex read(DataInputStream in) throws IOException {
+        if (MAGIC != in.readInt() || VERSION != in.readInt()) {
+            throw new IOException("Unsupported lexicographer file index format");
+        }
+        int[] starts = new int[in.readInt()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = in.readInt();
+        }
+        long[] offsets = new long[starts[starts.length - 1]];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = in.readLong();
+        }
+        return new LexFileIndex(starts, offsets);
+    }
+}
@@ -0,0 +1,189 @@
+package net.sf.extjwnl.dictionary.search;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * Index of lemmas by their phonetic keys, for "sounds like" lookups.
+ * <p>
+ * A key encodes each word of a lemma with Soundex, after Metaphone-style normalization of the initial letters
+ * (for example, "ph" is encoded as "f", "kn" as "n" and "c" as "k" or "s"), so that "cat" and "kat" or
+ * "phone" and "fone" share a key. Words are separated by a space in a key.
+ * </p>
+ * <p>
+ * Distinct keys are stored sorted and front coded, the lemmas are stored grouped by key,
+ * with the start of each group in an int array.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class PhoneticIndex {
+
+    /**
+     * Soundex codes of letters a to z, 0 for vowels and y, which separate equal codes,
+     * and -1 for h and w, which do not.
+     */
+    private static final int[] CODES = {
+            //a  b  c  d  e  f  g  h   i  j  k  l  m  n  o  p  q  r  s  t  u  v  w   x  y  z
+            0, 1, 2, 3, 0, 1, 2, -1, 0, 2, 2, 4, 5, 5, 0, 1, 2, 6, 2, 3, 0, 1, -1, 2, 0, 2
+    };
+
+    private static final int CODE_LENGTH = 4;
+
+    private final FrontCodedStrings keys;
+    private final int[] starts;
+    private final FrontCodedStrings lemmas;
+
+    /**
+     * Builds the index of <var>lemmas</var>. Lemmas without letters are not indexed.
+     *
+     * @param lemmas lemmas
+     */
+    public PhoneticIndex(Collection<String> lemmas) {
+        List<String[]> pairs = new ArrayList<>(lemmas.size());
+        for (String lemma : new TreeSet<>(lemmas)) {
+            String key = encode(lemma);
+            if (!key.isEmpty()) {
+                pairs.add(new String[]{key, lemma});
+            }
+        }
+        // stable, lemmas remain sorted within a key
+        pairs.sort(Comparator.comparing(pair -> pair[0]));
+
+        List<String> keyList = new ArrayList<>();
+        String[] lemmaArray = new String[pairs.size()];
+        int[] bounds = new int[pairs.size() + 1];
+        for (int i = 0; i < pairs.size(); i++) {
+            String[] pair = pairs.get(i);
+            if (keyList.isEmpty() || !keyList.get(keyList.size() - 1).equals(pair[0])) {
+                bounds[keyList.size()] = i;
+                keyList.add(pair[0]);
+            }
+            lemmaArray[i] = pair[1];
+        }
+        bounds[keyList.size()] = pairs.size();
+
+        keys = new FrontCodedStrings(keyList.toArray(new String[0]));
+        starts = Arrays.copyOf(bounds, keyList.size() + 1);
+        this.lemmas = new FrontCodedStrings(lemmaArray);
+    }
+
+    /**
+     * Returns the number of indexed lemmas.
+     *
+     * @return the number of indexed lemmas
+     */
+    public int size() {
+        return lemmas.size();
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     *
+     * @return the number of distinct keys
+     */
+    public int getKeyCount() {
+        return keys.size();
+    }
+
+    /**
+     * Returns the lemmas which have the same key as <var>term</var>, in sorted order.
+     *
+     * @param term term to look for
+     * @return the lemmas sounding like <var>term</var>
+     */
+    public List<String> getLemmasLike(String term) {
+        return getLemmas(encode(term));
+    }
+
+    /**
+     * Returns the lemmas with the <var>key</var>, in sorted order.
+     *
+     * @param key phonetic key, as returned by {@link #encode(String)}
+     * @return the lemmas with the <var>key</var>
+     */
+    public List<String> getLemmas(String key) {
+        int index = keys.lowerBound(key);
+        if (index == keys.size() || !keys.get(index).equals(key)) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>(starts[index + 1] - starts[index]);
+        FrontCodedStrings.Reader reader = lemmas.new Reader();
+        for (int id = starts[index]; id < starts[index + 1]; id++) {
+            reader.seek(id);
+            result.add(reader.toString());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the phonetic key of <var>term</var>: Soundex codes of its words, separated by a space.
+     * Letters with diacritics are encoded as the base letters, apostrophes are ignored, other characters separate words.
+     *
+     * @param term term to encode
+     * @return the phonetic key of <var>term</var>, empty if <var>term</var> has no letters
+     */
+    public static String encode(String term) {
+        String folded = Normalizer.normalize(term, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder result = new StringBuilder();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= folded.length(); i++) {
+            char c = i < folded.length() ? folded.charAt(i) : ' ';
+            if ('a' <= c && c <= 'z') {
+                word.append(c);
+            } else if ('\'' != c && Character.getType(c) != Character.NON_SPACING_MARK && 0 < word.length()) {
+                if (0 < result.length()) {
+                    result.append(' ');
+                }
+                encodeWord(word, result);
+                word.setLength(0);
+            }
+        }
+        return result.toString();
+    }
+
+    private static void encodeWord(StringBuilder word, StringBuilder result) {
+        normalizeStart(word);
+        char first = word.charAt(0);
+        result.append(Character.toUpperCase(first));
+        int previous = CODES[first - 'a'];
+        int count = 1;
+        for (int i = 1; i < word.length() && count < CODE_LENGTH; i++) {
+            int code = CODES[word.charAt(i) - 'a'];
+            if (0 < code && code != previous) {
+                result.append((char) ('0' + code));
+                count++;
+            }
+            if (-1 != code) {
+                previous = code;
+            }
+        }
+        for (; count < CODE_LENGTH; count++) {
+            result.append('0');
+        }
+    }
+
+    /**
+     * Replaces initial letters which are written differently from how they sound.
+     */
+    private static void normalizeStart(StringBuilder word) {
+        char first = word.charAt(0);
+        char second = 1 < word.length() ? word.charAt(1) : ' ';
+        if (('k' == first || 'g' == first || 'p' == first) && 'n' == second
+                || 'w' == first && 'r' == second
+                || 'p' == first && 's' == second) {
+            // silent first letter: knee, gnome, pneumonia, wrist, psalm
+            word.deleteCharAt(0);
+        } else if ('p' == first && 'h' == second) {
+            word.replace(0, 2, "f");
+        } else if ('w' == first && 'h' == second) {
+            word.replace(0, 2, "w");
+        } else if ('x' == first) {
+            word.setCharAt(0, 'z');
+        } else if ('q' == first) {
+            word.setCharAt(0, 'k');
+        } else if ('c' == first) {
+            word.setCharAt(0, 'e' == second || 'i' == second || 'y' == second ? 's' : 'k');
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.data.POS;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Dense ordinals of synsets, from 0 to the number of synsets minus one.
+ * <p>
+ * Synsets are numbered by part of speech, in the order of {@link POS#values()}, then by offset.
+ * Offsets of all synsets are kept sorted in this order in a long array: the ordinal of a synset is
+ * its position in the array, found by binary search within the range of its part of speech.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class SynsetOrdinals {
+
+    private static final int MAGIC = 0x45574E4F;
+    private static final int VERSION = 1;
+
+    private static final POS[] POSES = POS.values();
+
+    // offsets of synsets of POSES[p] are offsets[starts[p]..starts[p + 1])
+    private final int[] starts;
+    private final long[] offsets;
+
+    private SynsetOrdinals(int[] starts, long[] offsets) {
+        this.starts = starts;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Collects synset offsets and numbers them.
+     */
+    public static class Builder {
+
+        private final long[][] offsets = new long[POSES.length][1024];
+        private final int[] sizes = new int[POSES.length];
+
+        /**
+         * Adds the synset of <var>pos</var> at <var>offset</var>.
+         *
+         * @param pos    part of speech
+         * @param offset synset offset
+         * @return this builder
+         */
+        public Builder add(POS pos, long offset) {
+            int p = pos.ordinal();
+            if (sizes[p] == offsets[p].length) {
+                offsets[p] = Arrays.copyOf(offsets[p], sizes[p] * 2);
+            }
+            offsets[p][sizes[p]++] = offset;
+            return this;
+        }
+
+        /**
+         * Numbers the synsets added so far.
+         *
+         * @return synset ordinals
+         */
+        public SynsetOrdinals build() {
+            int[] starts = new int[POSES.length + 1];
+            for (int p = 0; p < POSES.length; p++) {
+                starts[p + 1] = starts[p] + sizes[p];
+            }
+            long[] result = new long[starts[POSES.length]];
+            for (int p = 0; p < POSES.length; p++) {
+                System.arraycopy(offsets[p], 0, result, starts[p], sizes[p]);
+                Arrays.sort(result, starts[p], starts[p + 1]);
+            }
+            return new SynsetOrdinals(starts, result);
+        }
+    }
+
+    /**
+     * Returns the number of synsets.
+     *
+     * @return the number of synsets
+     */
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Returns the ordinal of the synset of <var>pos</var> at <var>offset</var>, or -1, if there is no such synset.
+     *
+     * @param pos    part of speech
+     * @param offset synset offset
+     * @return the ordinal of the synset, or -1
+     */
+    public int getOrdinal(POS pos, long offset) {
+        int p = pos.ordinal();
+        int result = Arrays.binarySearch(offsets, starts[p], starts[p + 1], offset);
+        return result < 0 ? -1 : result;
+    }
+
+    /**
+     * Returns the part of speech of the synset with <var>ordinal</var>.
+     *
+     * @param ordinal synset ordinal
+     * @return the part of speech of the synset
+     * @throws IndexOutOfBoundsException if the ordinal is out of range
+     */
+    public POS getPOS(int ordinal) {
+        checkOrdinal(ordinal);
+        int p = 0;
+        while (starts[p + 1] <= ordinal) {
+            p++;
+        }
+        return POSES[p];
+    }
+
+    /**
+     * Returns the offset of the synset with <var>ordinal</var>.
+     *
+     * @param ordinal synset ordinal
+     * @return the offset of the synset
+     * @throws IndexOutOfBoundsException if the ordinal is out of range
+     */
+    public long getOffset(int ordinal) {
+        checkOrdinal(ordinal);
+        return offsets[ordinal];
+    }
+
+    /**
+     * Writes the ordinals to <var>out</var>.
+     *
+     * @param out output
+     * @throws IOException IOException
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(starts.length);
+        for (int start : starts) {
+            out.writeInt(start);
+        }
+        for (long offset : offsets) {
+            out.writeLong(offset);
+        }
+    }
+
+    /**
+     * Reads the ordinals written by {@link #write(DataOutputStream)}.
+     *
+     * @param in input
+     * @return synset ordinals
+     * @throws IOException IOException
+     */
+    public static SynsetOrdinals read(DataInputStream in) throws IOException {
+        if (MAGIC != in.readInt() || VERSION != in.readInt() || POSES.length + 1 != in.readInt()) {
+            throw new IOException("Unsupported synset ordinals format");
+        }
+        int[] starts = new int[POSES.length + 1];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = in.readInt();
+        }
+        long[] offsets = new long[starts[POSES.length]];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = in.readLong();
+        }
+        return new SynsetOrdinals(starts, offsets);
+    }
+
+    private void checkOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= offsets.length) {
+            throw new IndexOutOfBoundsException("Ordinal: " + ordinal + ", Size: " + offsets.length);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * In-memory secondary indexes: lemma, gloss and incoming pointer lookups beyond what the dictionary files provide.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+package net.sf.extjwnl.dictionary.search;
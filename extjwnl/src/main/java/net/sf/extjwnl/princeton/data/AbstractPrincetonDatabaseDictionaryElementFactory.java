@@ -8,6 +8,7 @@ import net.sf.extjwnl.util.factory.Param;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
@@ -44,63 +45,117 @@ public abstract class AbstractPrincetonDatabaseDictionaryElementFactory extends
     public Synset createSynset(POS pos, long offset, ResultSet synsets, ResultSet words, ResultSet pointers, ResultSet verbFrames)
             throws SQLException, JWNLException {
         if (synsets.next()) {
-            Synset synset;
-            if (POS.VERB == pos) {
-                synset = new VerbSynset(dictionary, offset);
-            } else if (POS.ADJECTIVE == pos) {
-                synset = new AdjectiveSynset(dictionary, offset);
-            } else {
-                synset = new Synset(dictionary, pos, offset);
-            }
-
-            if (POS.ADJECTIVE == pos) {
-                synset.setIsAdjectiveCluster(synsets.getBoolean(1));
-            }
-
-            String gloss = synsets.getString(2);
-            synset.setGloss(gloss);
-
-            long lexFileNum = synsets.getLong(3);
-            synset.setLexFileNum(lexFileNum);
-
+            Synset synset = createSynset(pos, offset, synsets);
             while (words.next()) {
-                String lemma = stringCache.replace(words.getString(1));
-                Word word = createWord(synset, lemma);
-                word.setUseCount(words.getInt(3));
-                word.setLexId(words.getInt(4));
-                synset.getWords().add(word);
-            }
-            if (synset.getWords() instanceof ArrayList) {
-                ((ArrayList) synset.getWords()).trimToSize();
+                addWord(synset, words);
             }
-
             while (pointers.next()) {
-                PointerType type = PointerType.getPointerTypeForKey(pointers.getString(1));
-                long targetOffset = pointers.getLong(2);
-                POS targetPOS = POS.getPOSForKey(pointers.getString(3));
-                //int sourceIndex = pointers.getInt(4);
-                int targetIndex = pointers.getInt(5);
-                synset.getPointers().add(new Pointer(synset, type, targetPOS, targetOffset, targetIndex));
-            }
-            if (synset.getPointers() instanceof ArrayList) {
-                ((ArrayList) synset.getPointers()).trimToSize();
+                addPointer(synset, pointers);
             }
-
+            BitSet vFrames = new BitSet();
             if (POS.VERB == pos) {
-                BitSet vFrames = new BitSet();
                 while (verbFrames.next()) {
-                    int frameNumber = verbFrames.getInt(1);
-                    int wordIndex = verbFrames.getInt(2);
-                    initVerbFrameFlags(synset, vFrames, frameNumber, wordIndex);
+                    initVerbFrameFlags(synset, vFrames, verbFrames.getInt(1), verbFrames.getInt(2));
                 }
-                synset.setVerbFrameFlags(vFrames);
             }
-            return synset;
+            return completeSynset(synset, vFrames);
         } else {
             return null;
         }
     }
 
+    public Synset[] createSynsets(POS pos, long[] offsets, ResultSet synsets, ResultSet words, ResultSet pointers, ResultSet verbFrames)
+            throws SQLException, JWNLException {
+        Synset[] result = new Synset[offsets.length];
+        // all result sets are ordered by offset, which comes in the last column
+        boolean hasWord = words.next();
+        boolean hasPointer = pointers.next();
+        boolean hasVerbFrame = POS.VERB == pos && verbFrames.next();
+        while (synsets.next()) {
+            long offset = synsets.getLong(4);
+            Synset synset = createSynset(pos, offset, synsets);
+            while (hasWord && words.getLong(5) < offset) {
+                hasWord = words.next();
+            }
+            while (hasWord && words.getLong(5) == offset) {
+                addWord(synset, words);
+                hasWord = words.next();
+            }
+            while (hasPointer && pointers.getLong(6) < offset) {
+                hasPointer = pointers.next();
+            }
+            while (hasPointer && pointers.getLong(6) == offset) {
+                addPointer(synset, pointers);
+                hasPointer = pointers.next();
+            }
+            BitSet vFrames = new BitSet();
+            while (hasVerbFrame && verbFrames.getLong(3) < offset) {
+                hasVerbFrame = verbFrames.next();
+            }
+            while (hasVerbFrame && verbFrames.getLong(3) == offset) {
+                initVerbFrameFlags(synset, vFrames, verbFrames.getInt(1), verbFrames.getInt(2));
+                hasVerbFrame = verbFrames.next();
+            }
+            int index = Arrays.binarySearch(offsets, offset);
+            if (0 <= index) {
+                result[index] = completeSynset(synset, vFrames);
+            }
+        }
+        return result;
+    }
+
+    private Synset createSynset(POS pos, long offset, ResultSet synsets) throws SQLException, JWNLException {
+        Synset synset;
+        if (POS.VERB == pos) {
+            synset = new VerbSynset(dictionary, offset);
+        } else if (POS.ADJECTIVE == pos) {
+            synset = new AdjectiveSynset(dictionary, offset);
+        } else {
+            synset = new Synset(dictionary, pos, offset);
+        }
+
+        if (POS.ADJECTIVE == pos) {
+            synset.setIsAdjectiveCluster(synsets.getBoolean(1));
+        }
+
+        String gloss = synsets.getString(2);
+        synset.setGloss(gloss);
+
+        long lexFileNum = synsets.getLong(3);
+        synset.setLexFileNum(lexFileNum);
+        return synset;
+    }
+
+    private void addWord(Synset synset, ResultSet words) throws SQLException, JWNLException {
+        String lemma = stringCache.replace(words.getString(1));
+        Word word = createWord(synset, lemma);
+        word.setUseCount(words.getInt(3));
+        word.setLexId(words.getInt(4));
+        synset.getWords().add(word);
+    }
+
+    private void addPointer(Synset synset, ResultSet pointers) throws SQLException, JWNLException {
+        PointerType type = PointerType.getPointerTypeForKey(pointers.getString(1));
+        long targetOffset = pointers.getLong(2);
+        POS targetPOS = POS.getPOSForKey(pointers.getString(3));
+        //int sourceIndex = pointers.getInt(4);
+        int targetIndex = pointers.getInt(5);
+        synset.getPointers().add(new Pointer(synset, type, targetPOS, targetOffset, targetIndex));
+    }
+
+    private Synset completeSynset(Synset synset, BitSet vFrames) {
+        if (synset.getWords() instanceof ArrayList) {
+            ((ArrayList) synset.getWords()).trimToSize();
+        }
+        if (synset.getPointers() instanceof ArrayList) {
+            ((ArrayList) synset.getPointers()).trimToSize();
+        }
+        if (POS.VERB == synset.getPOS()) {
+            synset.setVerbFrameFlags(vFrames);
+        }
+        return synset;
+    }
+
     public Exc createExc(POS pos, String derivation, ResultSet rs) throws SQLException, JWNLException {
         ArrayList<String> exceptions = new ArrayList<>();
         while (rs.next()) {
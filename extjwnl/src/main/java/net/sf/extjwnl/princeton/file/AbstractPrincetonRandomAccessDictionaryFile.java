@@ -53,4 +53,4 @@ public abstract class AbstractPrincetonRandomAccessDictionaryFile extends Abstra
             encoding = null;
         }
     }
-}
\ No newline at end of file
+}
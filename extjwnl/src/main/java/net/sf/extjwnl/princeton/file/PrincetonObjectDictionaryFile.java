@@ -7,6 +7,7 @@ import net.sf.extjwnl.dictionary.Dictionary;
 import net.sf.extjwnl.dictionary.file.DictionaryDiskFile;
 import net.sf.extjwnl.dictionary.file.DictionaryFileFactory;
 import net.sf.extjwnl.dictionary.file.DictionaryFileType;
+import net.sf.extjwnl.dictionary.file.DictionaryObjectInputStream;
 import net.sf.extjwnl.util.factory.Param;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -94,7 +95,7 @@ public class PrincetonObjectDictionaryFile extends AbstractPrincetonObjectDictio
     protected void openInputStream() throws JWNLException {
         try {
             fin = new FileInputStream(getFile());
-            in = new ObjectInputStream(new BufferedInputStream(fin));
+            in = new DictionaryObjectInputStream(new BufferedInputStream(fin), dictionary);
         } catch (IOException e) {
             throw new JWNLIOException(e);
         }
@@ -6,6 +6,7 @@ import net.sf.extjwnl.data.POS;
 import net.sf.extjwnl.dictionary.Dictionary;
 import net.sf.extjwnl.dictionary.file.DictionaryFileFactory;
 import net.sf.extjwnl.dictionary.file.DictionaryFileType;
+import net.sf.extjwnl.dictionary.file.DictionaryObjectInputStream;
 import net.sf.extjwnl.util.factory.Param;
 
 import java.io.*;
@@ -63,7 +64,7 @@ public class PrincetonResourceObjectDictionaryFile extends AbstractPrincetonObje
         try {
             final InputStream resourceStream =
                     PrincetonResourceObjectDictionaryFile.class.getResourceAsStream(path + "/" + getFilename());
-            in = new ObjectInputStream(resourceStream);
+            in = new DictionaryObjectInputStream(resourceStream, dictionary);
         } catch (IOException e) {
             throw new JWNLIOException(e);
         }
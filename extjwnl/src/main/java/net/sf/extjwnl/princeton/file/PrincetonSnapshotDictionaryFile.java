@@ -0,0 +1,543 @@
+package net.sf.extjwnl.princeton.file;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.JWNLIOException;
+import net.sf.extjwnl.JWNLRuntimeException;
+import net.sf.extjwnl.data.*;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.MapBackedDictionary;
+import net.sf.extjwnl.dictionary.file.DictionaryDiskFile;
+import net.sf.extjwnl.dictionary.file.DictionaryFileFactory;
+import net.sf.extjwnl.dictionary.file.DictionaryFileType;
+import net.sf.extjwnl.dictionary.file.ObjectDictionaryFile;
+import net.sf.extjwnl.util.factory.Param;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+/**
+ * <code>ObjectDictionaryFile</code> that stores dictionary elements in a versioned binary snapshot,
+ * an alternative to Java serialization used by {@link PrincetonObjectDictionaryFile}.
+ * <p>
+ * A snapshot consists of a header (magic, version, POS, file type, element count, index position),
+ * element records and an index of record positions sorted by the element key. Each record starts with
+ * the key of its element, so the index has fixed width and is searched in the mapped file directly.
+ * The file is memory mapped. Elements are either decoded all at once in parallel, or, with
+ * <var>lazy_load</var> set, one by one on the first access, in which case opening decodes nothing.
+ * </p>
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class PrincetonSnapshotDictionaryFile extends AbstractPrincetonDictionaryFile
+        implements ObjectDictionaryFile, DictionaryDiskFile, DictionaryFileFactory<PrincetonSnapshotDictionaryFile> {
+
+    private static final Logger log = LoggerFactory.getLogger(PrincetonSnapshotDictionaryFile.class);
+
+    /**
+     * Whether to decode elements on the first access instead of loading all of them, default: false.
+     */
+    public static final String LAZY_LOAD_KEY = "lazy_load";
+    private boolean lazyLoad = false;
+
+    /**
+     * Snapshot file signature, "EWNS".
+     */
+    public static final int MAGIC = 0x45574E53;
+
+    /**
+     * Snapshot format version.
+     */
+    public static final int VERSION = 2;
+
+    // magic, version, pos, file type, count, index position
+    private static final int HEADER_SIZE = 4 + 4 + 1 + 1 + 4 + 8;
+
+    private static final PointerType[] POINTER_TYPES = PointerType.values();
+    private static final AdjectivePosition[] ADJECTIVE_POSITIONS = AdjectivePosition.values();
+
+    protected final File file;
+
+    private ByteBuffer buffer;
+    private boolean writable;
+
+    /**
+     * Factory constructor.
+     *
+     * @param dictionary dictionary
+     * @param params     params
+     */
+    public PrincetonSnapshotDictionaryFile(final Dictionary dictionary, final Map<String, Param> params) {
+        super(dictionary, params);
+        file = null;
+    }
+
+    /**
+     * Instance constructor.
+     *
+     * @param dictionary dictionary
+     * @param path       file path
+     * @param pos        part of speech
+     * @param fileType   file type
+     * @param params     params
+     */
+    private PrincetonSnapshotDictionaryFile(final Dictionary dictionary,
+                                            final String path,
+                                            final POS pos,
+                                            final DictionaryFileType fileType,
+                                            final Map<String, Param> params) {
+        super(dictionary, path, pos, fileType, params);
+        file = new File(path, getFilename());
+        if (params.containsKey(LAZY_LOAD_KEY)) {
+            lazyLoad = Boolean.parseBoolean(params.get(LAZY_LOAD_KEY).getValue());
+        }
+    }
+
+    @Override
+    public PrincetonSnapshotDictionaryFile newInstance(final Dictionary dictionary,
+                                                       final String path,
+                                                       final POS pos,
+                                                       final DictionaryFileType fileType) {
+        return new PrincetonSnapshotDictionaryFile(dictionary, path, pos, fileType, params);
+    }
+
+    /**
+     * Maps the file if it exists, otherwise creates it and opens it for writing.
+     */
+    @Override
+    public void open() throws JWNLException {
+        synchronized (file) {
+            if (!isOpen()) {
+                try {
+                    if (file.createNewFile() || 0 == file.length()) {
+                        writable = true;
+                    } else {
+                        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                        }
+                        checkHeader(buffer);
+                    }
+                } catch (IOException e) {
+                    throw new JWNLIOException(e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return null != buffer || writable;
+    }
+
+    @Override
+    public void close() {
+        buffer = null;
+        writable = false;
+    }
+
+    @Override
+    public void edit() throws JWNLException {
+        writable = true;
+    }
+
+    @Override
+    public void save() throws JWNLException {
+        if (dictionary instanceof MapBackedDictionary) {
+            final MapBackedDictionary dic = (MapBackedDictionary) dictionary;
+            if (log.isDebugEnabled()) {
+                log.debug(dictionary.getMessages().resolveMessage("PRINCETON_INFO_004", getFilename()));
+            }
+            writeObject(dic.getTable(getPOS(), getFileType()));
+            if (log.isDebugEnabled()) {
+                log.debug(dictionary.getMessages().resolveMessage("PRINCETON_INFO_012", getFilename()));
+            }
+        }
+    }
+
+    @Override
+    public boolean delete() throws JWNLException {
+        close();
+        return file.delete();
+    }
+
+    @Override
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the map of the elements of this file.
+     *
+     * @return the map of the elements, read-only if <var>lazy_load</var> is set
+     * @throws JWNLException JWNLException
+     */
+    @Override
+    public Object readObject() throws JWNLException {
+        if (isOpen()) {
+            if (null != buffer) {
+                final Index index = new Index(buffer);
+                if (lazyLoad) {
+                    return new LazyElementMap(buffer, index);
+                } else {
+                    final Map<Object, DictionaryElement> result = new ConcurrentHashMap<>(index.size() * 4 / 3 + 1);
+                    final ByteBuffer source = buffer;
+                    IntStream.range(0, index.size()).parallel().forEach(i -> {
+                        DictionaryElement element = readElement(source, index.getPosition(i));
+                        result.put(element.getKey(), element);
+                    });
+                    return result;
+                }
+            } else {
+                return new HashMap<Object, DictionaryElement>();
+            }
+        } else {
+            throw new JWNLRuntimeException(dictionary.getMessages().resolveMessage("PRINCETON_EXCEPTION_001"));
+        }
+    }
+
+    /**
+     * Writes the values of <var>obj</var>, which should be a map of dictionary elements, into the snapshot.
+     * The snapshot is written into a temporary file, which then replaces the file,
+     * so that mappings of the previous version stay valid.
+     *
+     * @param obj map with dictionary elements
+     * @throws JWNLException JWNLException
+     */
+    @Override
+    public void writeObject(Object obj) throws JWNLException {
+        if (isOpen() && writable) {
+            @SuppressWarnings("unchecked")
+            final List<DictionaryElement> elements = new ArrayList<>(((Map<Object, DictionaryElement>) obj).values());
+            elements.sort(keyComparator);
+
+            File temp = new File(file.getPath() + ".tmp");
+            try {
+                long indexPosition;
+                int[] positions = new int[elements.size()];
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    out.writeByte(getPOS().getId());
+                    out.writeByte(getFileType().ordinal());
+                    out.writeInt(elements.size());
+                    out.writeLong(0);
+                    for (int i = 0; i < elements.size(); i++) {
+                        positions[i] = out.size();
+                        writeElement(out, elements.get(i));
+                    }
+                    indexPosition = out.size();
+                    for (int position : positions) {
+                        out.writeInt(position);
+                    }
+                }
+                try (RandomAccessFile raf = new RandomAccessFile(temp, "rw")) {
+                    raf.seek(HEADER_SIZE - 8);
+                    raf.writeLong(indexPosition);
+                }
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new JWNLIOException(e);
+            }
+        } else {
+            throw new JWNLRuntimeException(dictionary.getMessages().resolveMessage("PRINCETON_EXCEPTION_002"));
+        }
+    }
+
+    private static final Comparator<DictionaryElement> keyComparator = (o1, o2) -> {
+        @SuppressWarnings("unchecked")
+        Comparable<Object> key = (Comparable<Object>) o1.getKey();
+        return key.compareTo(o2.getKey());
+    };
+
+    private void checkHeader(ByteBuffer buffer) throws JWNLException {
+        if (buffer.capacity() < HEADER_SIZE
+                || MAGIC != buffer.getInt(0)
+                || VERSION != buffer.getInt(4)
+                || getPOS().getId() != buffer.get(8)
+                || getFileType().ordinal() != buffer.get(9)) {
+            throw new JWNLException(dictionary.getMessages().resolveMessage("PRINCETON_EXCEPTION_004", file.getPath()));
+        }
+    }
+
+    /**
+     * Positions of the element records, sorted by the element key, read from the mapped file on each access.
+     * The key of an element is the first field of its record.
+     */
+    private final class Index {
+
+        private final ByteBuffer buffer;
+        private final int count;
+        private final int start;
+
+        private Index(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.count = buffer.getInt(10);
+            this.start = (int) buffer.getLong(14);
+        }
+
+        int size() {
+            return count;
+        }
+
+        int getPosition(int i) {
+            return buffer.getInt(start + 4 * i);
+        }
+
+        int indexOf(Object key) {
+            if (DictionaryFileType.DATA == getFileType() ? !(key instanceof Long) : !(key instanceof String)) {
+                return -1;
+            }
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp;
+                if (DictionaryFileType.DATA == getFileType()) {
+                    cmp = Long.compare(buffer.getLong(getPosition(mid)), (Long) key);
+                } else {
+                    cmp = readString(buffer, getPosition(mid)).compareTo((String) key);
+                }
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Read-only map which decodes elements from the snapshot on the first access.
+     */
+    private final class LazyElementMap extends AbstractMap<Object, DictionaryElement> {
+
+        private final ByteBuffer buffer;
+        private final Index index;
+        private final AtomicReferenceArray<DictionaryElement> elements;
+
+        private LazyElementMap(ByteBuffer buffer, Index index) {
+            this.buffer = buffer;
+            this.index = index;
+            this.elements = new AtomicReferenceArray<>(index.size());
+        }
+
+        @Override
+        public DictionaryElement get(Object key) {
+            int i = index.indexOf(key);
+            return 0 > i ? null : get(i);
+        }
+
+        private DictionaryElement get(int i) {
+            DictionaryElement result = elements.get(i);
+            if (null == result) {
+                result = readElement(buffer, index.getPosition(i));
+                if (!elements.compareAndSet(i, null, result)) {
+                    result = elements.get(i);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return 0 <= index.indexOf(key);
+        }
+
+        @Override
+        public int size() {
+            return index.size();
+        }
+
+        @Override
+        public Set<Entry<Object, DictionaryElement>> entrySet() {
+            return new AbstractSet<Entry<Object, DictionaryElement>>() {
+                @Override
+                public Iterator<Entry<Object, DictionaryElement>> iterator() {
+                    return new Iterator<Entry<Object, DictionaryElement>>() {
+                        private int next = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < index.size();
+                        }
+
+                        @Override
+                        public Entry<Object, DictionaryElement> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            DictionaryElement element = get(next++);
+                            return new SimpleImmutableEntry<>(element.getKey(), element);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return index.size();
+                }
+            };
+        }
+    }
+
+    private void writeElement(DataOutputStream out, DictionaryElement element) throws IOException, JWNLException {
+        if (element instanceof Synset) {
+            Synset synset = (Synset) element;
+            out.writeLong(synset.getOffset());
+            out.writeByte((int) synset.getLexFileNum());
+            writeString(out, synset.getGloss());
+            if (POS.VERB == synset.getPOS()) {
+                out.writeLong(toLong(synset.getVerbFrameFlags()));
+            } else if (POS.ADJECTIVE == synset.getPOS()) {
+                out.writeBoolean(synset.isAdjectiveCluster());
+            }
+            out.writeShort(synset.getWords().size());
+            for (Word word : synset.getWords()) {
+                writeString(out, word.getLemma());
+                out.writeByte(word.getLexId());
+                out.writeInt(word.getUseCount());
+                // the payload follows the part of speech, as readSynset does, plain words get defaults
+                if (POS.VERB == synset.getPOS()) {
+                    out.writeLong(word instanceof Verb ? toLong(((Verb) word).getVerbFrameFlags()) : 0);
+                } else if (POS.ADJECTIVE == synset.getPOS()) {
+                    out.writeByte(word instanceof Adjective ? ((Adjective) word).getAdjectivePosition().ordinal() : AdjectivePosition.NONE.ordinal());
+                }
+            }
+            out.writeShort(synset.getPointers().size());
+            for (Pointer pointer : synset.getPointers()) {
+                out.writeByte(pointer.getType().ordinal());
+                out.writeShort(pointer.getSourceIndex());
+                out.writeByte(pointer.getTargetPOS().getId());
+                out.writeLong(pointer.getTargetOffset());
+                out.writeShort(pointer.getTargetIndex());
+            }
+        } else if (element instanceof IndexWord) {
+            IndexWord indexWord = (IndexWord) element;
+            writeString(out, indexWord.getLemma());
+            long[] offsets = indexWord.getSynsetOffsets();
+            out.writeInt(offsets.length);
+            for (long offset : offsets) {
+                out.writeLong(offset);
+            }
+        } else if (element instanceof Exc) {
+            Exc exc = (Exc) element;
+            writeString(out, exc.getLemma());
+            out.writeShort(exc.getExceptions().size());
+            for (String form : exc.getExceptions()) {
+                writeString(out, form);
+            }
+        }
+    }
+
+    private DictionaryElement readElement(ByteBuffer buffer, int position) {
+        ByteBuffer in = buffer.duplicate();
+        in.position(position);
+        try {
+            if (DictionaryFileType.DATA == getFileType()) {
+                return readSynset(in);
+            } else if (DictionaryFileType.INDEX == getFileType()) {
+                String lemma = readString(in);
+                long[] offsets = new long[in.getInt()];
+                for (int i = 0; i < offsets.length; i++) {
+                    offsets[i] = in.getLong();
+                }
+                return new IndexWord(dictionary, lemma, getPOS(), offsets);
+            } else {
+                String lemma = readString(in);
+                int count = in.getShort();
+                List<String> forms = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    forms.add(readString(in));
+                }
+                return new Exc(dictionary, getPOS(), lemma, forms);
+            }
+        } catch (JWNLException | RuntimeException e) {
+            throw new JWNLRuntimeException(dictionary.getMessages().resolveMessage("PRINCETON_EXCEPTION_003", new Object[]{getFilename(), position}), e);
+        }
+    }
+
+    private Synset readSynset(ByteBuffer in) throws JWNLException {
+        long offset = in.getLong();
+        Synset synset;
+        if (POS.VERB == getPOS()) {
+            synset = new VerbSynset(dictionary, offset);
+        } else if (POS.ADJECTIVE == getPOS()) {
+            synset = new AdjectiveSynset(dictionary, offset);
+        } else {
+            synset = new Synset(dictionary, getPOS(), offset);
+        }
+        synset.setLexFileNum(in.get());
+        synset.setGloss(readString(in));
+        if (POS.VERB == getPOS()) {
+            synset.setVerbFrameFlags(BitSet.valueOf(new long[]{in.getLong()}));
+        } else if (POS.ADJECTIVE == getPOS()) {
+            synset.setIsAdjectiveCluster(0 != in.get());
+        }
+
+        int wordCount = in.getShort();
+        for (int i = 0; i < wordCount; i++) {
+            String lemma = readString(in);
+            int lexId = in.get();
+            int useCount = in.getInt();
+            Word word;
+            if (POS.VERB == getPOS()) {
+                word = new Verb(dictionary, synset, lemma, BitSet.valueOf(new long[]{in.getLong()}));
+            } else if (POS.ADJECTIVE == getPOS()) {
+                word = new Adjective(dictionary, synset, lemma, ADJECTIVE_POSITIONS[in.get()]);
+            } else {
+                word = new Word(dictionary, synset, lemma);
+            }
+            word.setLexId(lexId);
+            word.setUseCount(useCount);
+            synset.getWords().add(word);
+        }
+
+        int pointerCount = in.getShort();
+        for (int i = 0; i < pointerCount; i++) {
+            PointerType type = POINTER_TYPES[in.get()];
+            int sourceIndex = in.getShort();
+            POS targetPOS = POS.getPOSForId(in.get());
+            long targetOffset = in.getLong();
+            int targetIndex = in.getShort();
+            PointerTarget source = 0 == sourceIndex ? synset : synset.getWords().get(sourceIndex - 1);
+            synset.getPointers().add(new Pointer(source, type, targetPOS, targetOffset, targetIndex));
+        }
+        return synset;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readString(ByteBuffer buffer, int position) {
+        ByteBuffer in = buffer.duplicate();
+        in.position(position);
+        return readString(in);
+    }
+
+    private static long toLong(BitSet bits) {
+        long[] words = bits.toLongArray();
+        return 0 == words.length ? 0 : words[0];
+    }
+}
@@ -105,6 +105,28 @@ public class TestIndexWord extends BaseData {
         Assert.assertEquals(DictionaryElementType.INDEX_WORD, iw.getType());
     }
 
+    @Test
+    public void testLazySenses() throws JWNLException {
+        dictionary.edit();
+        Synset s = new Synset(dictionary, POS.NOUN, 1);
+        Synset t = new Synset(dictionary, POS.NOUN, 2);
+        long[] offsets = {2, 1, 3};
+        IndexWord iw = new IndexWord(dictionary, "lazy", POS.NOUN, offsets);
+        Assert.assertEquals(3, iw.getSenses().size());
+        Assert.assertEquals(t, iw.getSenses().get(0));
+        Iterator<Synset> i = iw.getSenses().iterator();
+        Assert.assertEquals(t, i.next());
+        Assert.assertEquals(s, i.next());
+        // senses are loaded one by one so far
+        Assert.assertSame(offsets, iw.getSynsetOffsets());
+        Assert.assertEquals(3, iw.getSenses().size());
+
+        // there is no synset at 3, loading all senses drops it
+        Assert.assertFalse(i.hasNext());
+        Assert.assertEquals(Arrays.asList(t, s), iw.getSenses());
+        Assert.assertEquals(2, iw.getSenses().size());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testSynsetSetNull() throws JWNLException {
         Synset s = new Synset(dictionary, POS.NOUN);
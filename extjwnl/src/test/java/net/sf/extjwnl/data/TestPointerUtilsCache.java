@@ -0,0 +1,117 @@
+package net.sf.extjwnl.data;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.list.PointerTargetNodeList;
+import net.sf.extjwnl.data.list.PointerTargetTree;
+import net.sf.extjwnl.data.list.PointerTargetTreeNode;
+import net.sf.extjwnl.data.list.PointerTargetTreeNodeList;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.FileDictionaryFixture;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests PointerUtilsCache.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestPointerUtilsCache {
+
+    private static void assertSameTree(PointerTargetTreeNode expected, PointerTargetTreeNode actual) {
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(expected.hasParent(), actual.hasParent());
+        assertSameList(expected.getChildTreeList(), actual.getChildTreeList());
+        assertSameList(expected.getPointerTreeList(), actual.getPointerTreeList());
+    }
+
+    private static void assertSameList(PointerTargetTreeNodeList expected, PointerTargetTreeNodeList actual) {
+        if (null == expected) {
+            Assert.assertNull(actual);
+            return;
+        }
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSameTree(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testDisabled() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(TestPointerUtilsCache.class.getResourceAsStream("/test_file_properties.xml"));
+        try {
+            Assert.assertNull(d.getPointerUtilsCache());
+        } finally {
+            d.close();
+        }
+    }
+
+    @Test
+    public void testKeyCopiesArrays() throws JWNLException {
+        Synset synset = new Synset(null, POS.NOUN, 10);
+        PointerType[] types = {PointerType.HYPERNYM};
+        int[][] depths = {{1, 2}};
+        PointerUtilsCache.Key key = new PointerUtilsCache.Key("operation", synset, types, depths, 3);
+        PointerUtilsCache.Key same = new PointerUtilsCache.Key("operation", synset, new PointerType[]{PointerType.HYPERNYM}, new int[][]{{1, 2}}, 3);
+        Assert.assertEquals(same, key);
+
+        // reusing the arguments does not change the key
+        types[0] = PointerType.HYPONYM;
+        depths[0][1] = 5;
+        Assert.assertEquals(same, key);
+        Assert.assertEquals(same.hashCode(), key.hashCode());
+        Assert.assertNotEquals(key, new PointerUtilsCache.Key("operation", synset, types, depths, 3));
+    }
+
+    @Test
+    public void testCache() throws JWNLException {
+        Dictionary d = FileDictionaryFixture.getInstance(Dictionary.POINTER_UTILS_CACHE_SIZE_KEY, "100");
+        try {
+            PointerUtilsCache cache = d.getPointerUtilsCache();
+            Assert.assertNotNull(cache);
+            Assert.assertEquals(100, cache.getCapacity());
+            Synset dog = d.getIndexWord(POS.NOUN, "dog").getSenses().get(0);
+
+            PointerTargetTree tree = PointerUtils.getHypernymTree(dog);
+            Assert.assertEquals(0, cache.getHitCount());
+            Assert.assertEquals(1, cache.getMissCount());
+            PointerTargetTree cached = PointerUtils.getHypernymTree(dog);
+            Assert.assertEquals(1, cache.getHitCount());
+            Assert.assertNotSame(tree.getRootNode(), cached.getRootNode());
+            assertSameTree(tree.getRootNode(), cached.getRootNode());
+            Assert.assertEquals(tree.toList().size(), cached.toList().size());
+
+            // a returned copy can be changed without changing the cached result
+            cached.getRootNode().getChildTreeList().clear();
+            assertSameTree(tree.getRootNode(), PointerUtils.getHypernymTree(dog).getRootNode());
+            Assert.assertEquals(2, cache.getHitCount());
+
+            // inherited trees also cache the lists they are built from
+            PointerTargetTree holonyms = PointerUtils.getInheritedHolonyms(dog);
+            long hits = cache.getHitCount();
+            long misses = cache.getMissCount();
+            assertSameTree(holonyms.getRootNode(), PointerUtils.getInheritedHolonyms(dog).getRootNode());
+            Assert.assertEquals(hits + 1, cache.getHitCount());
+
+            PointerTargetNodeList coordinates = PointerUtils.getCoordinateTerms(dog);
+            Assert.assertEquals(coordinates, PointerUtils.getCoordinateTerms(dog));
+            Assert.assertEquals(hits + 2, cache.getHitCount());
+            Assert.assertEquals(misses + 1, cache.getMissCount());
+            Assert.assertEquals((double) (hits + 2) / (hits + misses + 3), cache.getHitRate(), 1e-9);
+
+            // different arguments are different results
+            Assert.assertEquals(dog.getPointers(PointerType.HYPERNYM).size(),
+                    PointerUtils.getHypernymTree(dog, 1).getRootNode().getChildTreeList().size());
+            Assert.assertEquals(misses + 2, cache.getMissCount());
+
+            // edits bypass and clear the cache
+            d.edit();
+            Assert.assertNull(d.getPointerUtilsCache());
+            Assert.assertEquals(0, cache.size());
+            Assert.assertEquals(0, cache.getHitCount());
+            assertSameTree(tree.getRootNode(), PointerUtils.getHypernymTree(dog).getRootNode());
+            Assert.assertEquals(0, cache.getMissCount());
+        } finally {
+            d.close();
+        }
+    }
+}
@@ -119,6 +119,47 @@ public class TestSynset extends BaseData {
         Assert.assertEquals(hyponym, testObj.getTargets().get(0));
     }
 
+    @Test
+    public void testGetPointersByType() throws JWNLException {
+        testObj = new Synset(null, POS.NOUN, offset);
+        Synset hypernym = new Synset(null, POS.NOUN, 100);
+        Synset instanceHypernym = new Synset(null, POS.NOUN, 200);
+        Synset hyponym = new Synset(null, POS.NOUN, 300);
+        Word a = new Word(null, testObj, "a");
+        Word b = new Word(null, testObj, "b");
+        testObj.getWords().add(a);
+        testObj.getWords().add(b);
+        Pointer p1 = new Pointer(PointerType.INSTANCE_HYPERNYM, testObj, instanceHypernym);
+        Pointer p2 = new Pointer(PointerType.HYPONYM, testObj, hyponym);
+        Pointer p3 = new Pointer(PointerType.HYPERNYM, testObj, hypernym);
+        Pointer p4 = new Pointer(PointerType.ANTONYM, b, new Word(null, hyponym, "c"));
+        testObj.getPointers().addAll(Arrays.asList(p1, p2, p3, p4));
+
+        Assert.assertEquals(Arrays.asList(p1, p3), testObj.getPointers(PointerType.HYPERNYM));
+        Assert.assertEquals(Collections.singletonList(p1), testObj.getPointers(PointerType.INSTANCE_HYPERNYM));
+        Assert.assertEquals(Collections.singletonList(p2), testObj.getPointers(PointerType.HYPONYM));
+        Assert.assertTrue(testObj.getPointers(PointerType.MEMBER_HOLONYM).isEmpty());
+        Assert.assertSame(testObj.getPointers(PointerType.HYPERNYM), testObj.getPointers(PointerType.HYPERNYM));
+        Assert.assertEquals(Arrays.asList(instanceHypernym, hypernym), testObj.getTargets(PointerType.HYPERNYM));
+
+        Assert.assertTrue(a.getPointers().isEmpty());
+        Assert.assertEquals(Collections.singletonList(p4), b.getPointers());
+
+        // views follow changes of pointers and words
+        testObj.getPointers().remove(p1);
+        Assert.assertEquals(Collections.singletonList(p3), testObj.getPointers(PointerType.HYPERNYM));
+        testObj.getWords().remove(a);
+        Assert.assertEquals(Collections.singletonList(p4), b.getPointers());
+        Assert.assertEquals(Collections.singletonList(p4), testObj.getPointers(b));
+        Assert.assertEquals(Collections.singletonList(p4), testObj.getPointers(PointerType.ANTONYM));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetPointersByTypeReadOnly() throws JWNLException {
+        testObj.getPointers().add(new Pointer(PointerType.HYPONYM, testObj, new Synset(dictionary, POS.NOUN, 100)));
+        testObj.getPointers(PointerType.HYPONYM).clear();
+    }
+
     @Test
     public void testPointersLastIndexOf() throws JWNLException {
         dictionary.edit();
@@ -147,6 +188,31 @@ public class TestSynset extends BaseData {
         Assert.assertEquals(hyponym, testObj.getTargets().get(0));
     }
 
+    @Test
+    public void testSetPointerByType() throws JWNLException {
+        dictionary.edit();
+        Synset hypernym = new Synset(dictionary, POS.NOUN, 1);
+        Synset hyponym = new Synset(dictionary, POS.NOUN, 2);
+        Word a = new Word(dictionary, testObj, "a");
+        Word b = new Word(dictionary, testObj, "b");
+        testObj.getWords().add(a);
+        Pointer antonym = new Pointer(PointerType.ANTONYM, a, new Word(dictionary, hyponym, "c"));
+        testObj.getPointers().add(new Pointer(PointerType.HYPERNYM, testObj, hypernym));
+        testObj.getPointers().add(antonym);
+        Assert.assertEquals(1, testObj.getPointers(PointerType.HYPERNYM).size());
+        Assert.assertEquals(Collections.singletonList(antonym), a.getPointers());
+
+        // replacing does not change the list size, the groups still follow
+        Pointer pointer = new Pointer(PointerType.HYPONYM, testObj, hyponym);
+        testObj.getPointers().set(0, pointer);
+        Assert.assertTrue(testObj.getPointers(PointerType.HYPERNYM).isEmpty());
+        Assert.assertEquals(Collections.singletonList(pointer), testObj.getPointers(PointerType.HYPONYM));
+
+        testObj.getWords().set(0, b);
+        Assert.assertTrue(b.getPointers().isEmpty());
+        Assert.assertTrue(testObj.getPointers(b).isEmpty());
+    }
+
     @Test
     public void testAddPointer2() throws JWNLException {
         Synset hyponym = new Synset(dictionary, POS.NOUN, 100);
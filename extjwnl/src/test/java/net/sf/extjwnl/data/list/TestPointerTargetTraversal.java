@@ -0,0 +1,173 @@
+package net.sf.extjwnl.data.list;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.*;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests PointerTargetTraversal.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestPointerTargetTraversal extends BaseData {
+
+    private Synset[] createSynsets() throws JWNLException {
+        dictionary.edit();
+        // 0 -> 1 -> 3 -> 4, 0 -> 2 -> 3
+        Synset[] s = new Synset[5];
+        for (int i = 0; i < s.length; i++) {
+            s[i] = dictionary.createSynset(POS.NOUN);
+        }
+        addHypernym(s[0], s[1]);
+        addHypernym(s[0], s[2]);
+        addHypernym(s[1], s[3]);
+        addHypernym(s[2], s[3]);
+        addHypernym(s[3], s[4]);
+        return s;
+    }
+
+    private static void addHypernym(Synset source, Synset target) {
+        source.getPointers().add(new Pointer(PointerType.HYPERNYM, source, target));
+    }
+
+    private static List<Synset> toSynsets(Iterable<? extends PointerTargetNode> nodes) {
+        List<Synset> result = new ArrayList<>();
+        for (PointerTargetNode node : nodes) {
+            result.add(node.getSynset());
+        }
+        return result;
+    }
+
+    private static void flatten(PointerTargetTreeNodeList list, List<PointerTargetTreeNode> result) {
+        for (PointerTargetTreeNode node : list) {
+            result.add(node);
+            if (node.hasChildTreeList()) {
+                flatten(node.getChildTreeList(), result);
+            }
+        }
+    }
+
+    @Test
+    public void testDepthFirst() throws JWNLException {
+        Synset[] s = createSynsets();
+        List<PointerTargetTreeNode> nodes = new ArrayList<>();
+        flatten(PointerUtils.getHypernymTree(s[0]).getRootNode().getChildTreeList(), nodes);
+        PointerTargetTraversal traversal = PointerUtils.getHypernymTraversal(s[0]);
+        Assert.assertEquals(nodes, traversal.stream().collect(Collectors.toList()));
+        Assert.assertEquals(toSynsets(nodes), toSynsets(traversal));
+        Assert.assertEquals(6, traversal.stream().count());
+    }
+
+    @Test
+    public void testBreadthFirst() throws JWNLException {
+        Synset[] s = createSynsets();
+        PointerTargetTraversal traversal = new PointerTargetTraversal(s[0], PointerType.HYPERNYM).setBreadthFirst(true);
+        List<Synset> expected = new ArrayList<>();
+        for (int i : new int[]{1, 2, 3, 3, 4, 4}) {
+            expected.add(s[i]);
+        }
+        Assert.assertEquals(expected, toSynsets(traversal));
+        Assert.assertEquals(expected.subList(0, 4), toSynsets(traversal.setDepth(2)));
+    }
+
+    @Test
+    public void testDepth() throws JWNLException {
+        Synset[] s = createSynsets();
+        for (int depth = 0; depth < 5; depth++) {
+            List<PointerTargetTreeNode> nodes = new ArrayList<>();
+            if (0 < depth) {
+                flatten(PointerUtils.makePointerTargetTreeList(s[0], PointerType.HYPERNYM, depth), nodes);
+            }
+            Assert.assertEquals(toSynsets(nodes), toSynsets(new PointerTargetTraversal(s[0], PointerType.HYPERNYM).setDepth(depth)));
+        }
+    }
+
+    @Test
+    public void testPath() throws JWNLException {
+        Synset[] s = createSynsets();
+        PointerTargetTreeNode node = PointerUtils.getHypernymTraversal(s[0]).stream()
+                .filter(n -> s[4].equals(n.getSynset())).findFirst().orElse(null);
+        Assert.assertNotNull(node);
+        PointerTargetNodeList path = node.getPath();
+        Assert.assertEquals(3, path.size());
+        Assert.assertEquals(s[1], path.get(0).getSynset());
+        Assert.assertEquals(s[3], path.get(1).getSynset());
+        Assert.assertEquals(s[4], path.get(2).getSynset());
+        Assert.assertEquals(PointerType.HYPERNYM, path.get(2).getType());
+    }
+
+    @Test
+    public void testVisitOnce() throws JWNLException {
+        Synset[] s = createSynsets();
+        // 3 is reached through 1 and 2, but followed once
+        List<Synset> expected = new ArrayList<>();
+        for (int i : new int[]{1, 3, 4, 2, 3}) {
+            expected.add(s[i]);
+        }
+        Assert.assertEquals(expected, toSynsets(PointerUtils.getHypernymTraversal(s[0]).setVisitOnce(true)));
+        List<PointerTargetTreeNode> nodes = new ArrayList<>();
+        flatten(PointerUtils.makePointerTargetTreeList(s[0], new PointerType[]{PointerType.HYPERNYM}, null,
+                PointerUtils.INFINITY, true, true), nodes);
+        Assert.assertEquals(expected, toSynsets(nodes));
+        Assert.assertFalse(nodes.get(4).hasChildTreeList());
+        Assert.assertEquals(s[2], nodes.get(4).getParent().getSynset());
+
+        expected.clear();
+        for (int i : new int[]{1, 2, 3, 3, 4}) {
+            expected.add(s[i]);
+        }
+        Assert.assertEquals(expected, toSynsets(PointerUtils.getHypernymTraversal(s[0]).setVisitOnce(true).setBreadthFirst(true)));
+
+        // a cycle is followed once
+        addHypernym(s[4], s[0]);
+        Assert.assertEquals(6, PointerUtils.getHypernymTraversal(s[0]).setVisitOnce(true).stream().count());
+    }
+
+    @Test
+    public void testInheritedVisitOnce() throws JWNLException {
+        Synset[] s = createSynsets();
+        Synset part = dictionary.createSynset(POS.NOUN);
+        s[3].getPointers().add(new Pointer(PointerType.PART_MERONYM, s[3], part));
+
+        PointerTargetTree tree = PointerUtils.getInheritedPartMeronyms(s[0], PointerUtils.INFINITY, PointerUtils.INFINITY);
+        Assert.assertEquals(2, countPointers(tree.getRootNode(), part));
+        tree = PointerUtils.getInheritedPartMeronyms(s[0], PointerUtils.INFINITY, PointerUtils.INFINITY, true);
+        Assert.assertEquals(1, countPointers(tree.getRootNode(), part));
+        // both links to 3 are kept
+        Assert.assertEquals(2, tree.findAll(s[3]).size());
+    }
+
+    private static int countPointers(PointerTargetTreeNode node, Synset target) {
+        int result = 0;
+        if (node.hasPointerTreeList()) {
+            List<PointerTargetTreeNode> pointers = new ArrayList<>();
+            flatten(node.getPointerTreeList(), pointers);
+            result = Collections.frequency(toSynsets(pointers), target);
+        }
+        if (node.hasChildTreeList()) {
+            for (PointerTargetTreeNode child : node.getChildTreeList()) {
+                result = result + countPointers(child, target);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testCycle() throws JWNLException {
+        Synset[] s = createSynsets();
+        addHypernym(s[4], s[1]);
+        // 1 -> 3 -> 4 -> 1 stops at 1
+        List<Synset> synsets = toSynsets(new PointerTargetTraversal(s[1], PointerType.HYPERNYM));
+        Assert.assertEquals(3, synsets.size());
+        Assert.assertEquals(s[1], synsets.get(2));
+        Iterator<PointerTargetTreeNode> i = PointerUtils.getHypernymTraversal(s[0]).setLabelType(PointerType.HYPONYM).iterator();
+        Assert.assertEquals(PointerType.HYPONYM, i.next().getType());
+    }
+}
@@ -2,6 +2,7 @@ package net.sf.extjwnl.data.relationship;
 
 import net.sf.extjwnl.JWNLException;
 import net.sf.extjwnl.data.*;
+import net.sf.extjwnl.dictionary.Dictionary;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -52,6 +53,67 @@ public class TestRelationshipFinder extends BaseData {
         Assert.assertEquals(s2, r.getNodeList().get(0).getSynset());
     }
 
+    @Test
+    public void testFindShortestSymmetricRelationships() throws JWNLException, CloneNotSupportedException {
+        dictionary.edit();
+
+        Synset[] s = new Synset[8];
+        for (int i = 0; i < s.length; i++) {
+            s[i] = dictionary.createSynset(POS.ADJECTIVE);
+        }
+        // two shortest paths 0-1-3 and 0-2-3, a longer one 0-4-5-3, and a chain 3-6-7
+        int[][] links = {{0, 1}, {1, 3}, {0, 2}, {2, 3}, {0, 4}, {4, 5}, {5, 3}, {3, 6}, {6, 7}};
+        for (int[] link : links) {
+            s[link[0]].getPointers().add(new Pointer(PointerType.SIMILAR_TO, s[link[0]], s[link[1]]));
+            s[link[1]].getPointers().add(new Pointer(PointerType.SIMILAR_TO, s[link[1]], s[link[0]]));
+        }
+
+        RelationshipList l = RelationshipFinder.findRelationships(s[0], s[3], PointerType.SIMILAR_TO, 6);
+        Assert.assertEquals(2, l.size());
+        for (Relationship r : l) {
+            Assert.assertEquals(2, r.getSize());
+            Assert.assertEquals(s[3], r.getNodeList().get(1).getSynset());
+            Assert.assertEquals(PointerType.SIMILAR_TO, r.getNodeList().get(0).getType());
+        }
+        Assert.assertNotEquals(l.get(0).getNodeList().get(0).getSynset(), l.get(1).getNodeList().get(0).getSynset());
+
+        RelationshipList chain = RelationshipFinder.findRelationships(s[4], s[7], PointerType.SIMILAR_TO, 6);
+        Assert.assertEquals(1, chain.size());
+        Assert.assertEquals(4, chain.get(0).getSize());
+        Assert.assertEquals(s[5], chain.get(0).getNodeList().get(0).getSynset());
+        Assert.assertEquals(s[7], chain.get(0).getNodeList().get(3).getSynset());
+
+        Assert.assertEquals(0, RelationshipFinder.findRelationships(s[4], s[7], PointerType.SIMILAR_TO, 3).size());
+        Assert.assertEquals(0, RelationshipFinder.findRelationships(s[0], s[3], PointerType.SIMILAR_TO, 1).size());
+        Assert.assertEquals(0, RelationshipFinder.findRelationships(s[0], s[3], PointerType.ANTONYM, 6).size());
+    }
+
+    @Test
+    public void testFindSymmetricRelationshipsToItself() throws JWNLException, CloneNotSupportedException {
+        dictionary.edit();
+
+        Synset s1 = dictionary.createSynset(POS.NOUN);
+        RelationshipList l = RelationshipFinder.findRelationships(s1, s1, PointerType.ANTONYM);
+        Assert.assertEquals(1, l.size());
+        Assert.assertEquals(0, l.get(0).getDepth());
+        Assert.assertEquals(s1, l.get(0).getNodeList().get(0).getSynset());
+        Assert.assertEquals(PointerType.ANTONYM, l.get(0).getNodeList().get(0).getType());
+    }
+
+    @Test
+    public void testFindSymmetricRelationshipsInFileDictionary() throws JWNLException, CloneNotSupportedException {
+        Dictionary d = Dictionary.getInstance(TestRelationshipFinder.class.getResourceAsStream("/test_file_properties.xml"));
+        try {
+            Synset hot = d.getIndexWord(POS.ADJECTIVE, "hot").getSenses().get(0);
+            Synset cold = d.getIndexWord(POS.ADJECTIVE, "cold").getSenses().get(0);
+            RelationshipList l = RelationshipFinder.findRelationships(hot, cold, PointerType.ANTONYM);
+            Assert.assertEquals(1, l.size());
+            Assert.assertEquals(cold, l.get(0).getNodeList().get(0).getSynset());
+        } finally {
+            d.close();
+        }
+    }
+
     @Test
     public void testFindAsymmetricRelationships() throws JWNLException, CloneNotSupportedException {
         dictionary.edit();
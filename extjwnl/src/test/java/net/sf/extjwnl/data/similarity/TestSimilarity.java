@@ -0,0 +1,146 @@
+package net.sf.extjwnl.data.similarity;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Pointer;
+import net.sf.extjwnl.data.PointerType;
+import net.sf.extjwnl.data.Synset;
+import net.sf.extjwnl.data.Word;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.search.HypernymClosure;
+import net.sf.extjwnl.dictionary.search.TestHypernymClosure;
+import net.sf.extjwnl.dictionary.search.InformationContent;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests Similarity.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestSimilarity {
+
+    private static final double DELTA = 1e-9;
+
+    private static Dictionary dictionary;
+    private static Similarity similarity;
+    private static Synset dog;
+    private static Synset cat;
+    private static Synset carnivore;
+    private static Synset tree;
+    private static Synset run;
+
+    @BeforeClass
+    public static void runOnceBeforeAllTests() throws JWNLException {
+        dictionary = TestHypernymClosure.getDictionary();
+        similarity = new Similarity(dictionary);
+        dog = dictionary.getIndexWord(POS.NOUN, "dog").getSenses().get(0);
+        cat = dictionary.getIndexWord(POS.NOUN, "cat").getSenses().get(0);
+        carnivore = dictionary.getIndexWord(POS.NOUN, "carnivore").getSenses().get(0);
+        tree = dictionary.getIndexWord(POS.NOUN, "tree").getSenses().get(0);
+        run = dictionary.getIndexWord(POS.VERB, "run").getSenses().get(0);
+    }
+
+    @AfterClass
+    public static void runOnceAfterAllTests() throws JWNLException {
+        dictionary.close();
+    }
+
+    @Test
+    public void testPath() throws JWNLException {
+        Assert.assertEquals(1.0, similarity.getSimilarity(SimilarityMeasure.PATH, dog, dog), DELTA);
+        // dog - canine - carnivore - feline - cat
+        Assert.assertEquals(0.2, similarity.getSimilarity(SimilarityMeasure.PATH, dog, cat), DELTA);
+        Assert.assertTrue(similarity.getSimilarity(SimilarityMeasure.PATH, dog, tree) < 0.2);
+        Assert.assertEquals(0.0, similarity.getSimilarity(SimilarityMeasure.PATH, dog, run), DELTA);
+    }
+
+    @Test
+    public void testDepths() throws JWNLException {
+        HypernymClosure closure = dictionary.getHypernymClosure();
+        int dogDepth = closure.getDepth(dog.getOrdinal());
+        int catDepth = closure.getDepth(cat.getOrdinal());
+        int carnivoreDepth = closure.getDepth(carnivore.getOrdinal());
+        Assert.assertEquals(2.0 * (carnivoreDepth + 1) / (dogDepth + catDepth + 2),
+                similarity.getSimilarity(SimilarityMeasure.WU_PALMER, dog, cat), DELTA);
+        Assert.assertEquals(1.0, similarity.getSimilarity(SimilarityMeasure.WU_PALMER, cat, cat), DELTA);
+
+        int maxDepth = similarity.getMaxDepth(POS.NOUN);
+        Assert.assertTrue(maxDepth > dogDepth);
+        Assert.assertEquals(-Math.log(5 / (2.0 * (maxDepth + 1))),
+                similarity.getSimilarity(SimilarityMeasure.LEACOCK_CHODOROW, dog, cat), DELTA);
+        Assert.assertEquals(0, similarity.getMaxDepth(POS.ADJECTIVE));
+    }
+
+    @Test
+    public void testInformationContent() throws JWNLException {
+        InformationContent ic = dictionary.getInformationContent();
+        double dogIC = ic.get(dog.getOrdinal());
+        double catIC = ic.get(cat.getOrdinal());
+        double carnivoreIC = ic.get(carnivore.getOrdinal());
+        Synset entity = dictionary.getIndexWord(POS.NOUN, "entity").getSenses().get(0);
+        Assert.assertEquals(0.0, ic.get(entity.getOrdinal()), DELTA);
+        Assert.assertTrue(0 < carnivoreIC && carnivoreIC < dogIC && carnivoreIC < catIC);
+
+        Assert.assertEquals(carnivoreIC, similarity.getSimilarity(SimilarityMeasure.RESNIK, dog, cat), DELTA);
+        Assert.assertEquals(2 * carnivoreIC / (dogIC + catIC), similarity.getSimilarity(SimilarityMeasure.LIN, dog, cat), DELTA);
+        Assert.assertEquals(1 / (dogIC + catIC - 2 * carnivoreIC), similarity.getSimilarity(SimilarityMeasure.JIANG_CONRATH, dog, cat), DELTA);
+        Assert.assertEquals(1.0, similarity.getSimilarity(SimilarityMeasure.LIN, dog, dog), DELTA);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, similarity.getSimilarity(SimilarityMeasure.JIANG_CONRATH, dog, dog), DELTA);
+        Assert.assertEquals(0.0, similarity.getSimilarity(SimilarityMeasure.RESNIK, dog, run), DELTA);
+    }
+
+    @Test
+    public void testEdit() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(Dictionary.class.getResourceAsStream("/net/sf/extjwnl/dictionary/mem_properties.xml"));
+        try {
+            d.edit();
+            Synset animal = new Synset(d, POS.NOUN, 10);
+            Synset dog = new Synset(d, POS.NOUN, 20);
+            Synset cat = new Synset(d, POS.NOUN, 30);
+            Synset plant = new Synset(d, POS.NOUN, 40);
+            dog.getPointers().add(new Pointer(PointerType.HYPERNYM, dog, animal));
+            cat.getPointers().add(new Pointer(PointerType.HYPERNYM, cat, animal));
+            Word dogWord = new Word(d, dog, "dog");
+            dog.getWords().add(dogWord);
+            Word plantWord = new Word(d, plant, "plant");
+            plant.getWords().add(plantWord);
+            plantWord.setUseCount(1);
+
+            Similarity s = new Similarity(d);
+            // animal and its hyponyms have no occurrences
+            Assert.assertEquals(0.0, s.getSimilarity(SimilarityMeasure.RESNIK, dog, cat), DELTA);
+            dogWord.setUseCount(1);
+            Assert.assertEquals(-Math.log(1 / 2.0), s.getSimilarity(SimilarityMeasure.RESNIK, dog, cat), DELTA);
+
+            // synsets added after the similarity was created
+            Synset puppy = new Synset(d, POS.NOUN, 50);
+            puppy.getPointers().add(new Pointer(PointerType.HYPERNYM, puppy, dog));
+            Assert.assertEquals(0.25, s.getSimilarity(SimilarityMeasure.PATH, puppy, cat), DELTA);
+            Assert.assertEquals(2, s.getMaxDepth(POS.NOUN));
+        } finally {
+            d.close();
+        }
+    }
+
+    @Test
+    public void testBatch() throws JWNLException {
+        List<Synset> rows = Arrays.asList(dog, cat, tree, run);
+        List<Synset> columns = Arrays.asList(carnivore, dog, run);
+        for (SimilarityMeasure measure : SimilarityMeasure.values()) {
+            double[][] matrix = similarity.getSimilarities(measure, rows, columns);
+            Assert.assertEquals(rows.size(), matrix.length);
+            for (int i = 0; i < rows.size(); i++) {
+                Assert.assertEquals(columns.size(), matrix[i].length);
+                for (int j = 0; j < columns.size(); j++) {
+                    Assert.assertEquals(measure.name(), similarity.getSimilarity(measure, rows.get(i), columns.get(j)), matrix[i][j], DELTA);
+                }
+            }
+        }
+    }
+}
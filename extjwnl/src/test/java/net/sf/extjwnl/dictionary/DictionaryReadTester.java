@@ -159,6 +159,34 @@ public class DictionaryReadTester {
         Assert.assertEquals("Use count testing", 7, synset.getWords().get(0).getUseCount());
     }
 
+    @Test
+    public void testGetSynsetsAt() throws JWNLException {
+        IndexWord iw = dictionary.getIndexWord(POS.VERB, "run");
+        Assert.assertNotNull("IndexWord loaded", iw);
+        long[] senseOffsets = iw.getSynsetOffsets();
+        // reversed, with a duplicate
+        long[] offsets = new long[senseOffsets.length + 1];
+        for (int i = 0; i < senseOffsets.length; i++) {
+            offsets[i] = senseOffsets[senseOffsets.length - 1 - i];
+        }
+        offsets[senseOffsets.length] = senseOffsets[0];
+        List<Synset> synsets = dictionary.getSynsetsAt(POS.VERB, offsets);
+        Assert.assertEquals(offsets.length, synsets.size());
+        for (int i = 0; i < offsets.length; i++) {
+            Assert.assertEquals(offsets[i], synsets.get(i).getOffset());
+            Assert.assertEquals(dictionary.getSynsetAt(POS.VERB, offsets[i]), synsets.get(i));
+        }
+        Assert.assertEquals(0, dictionary.getSynsetsAt(POS.VERB, new long[0]).size());
+
+        Synset synset = iw.getSenses().get(0);
+        List<PointerTarget> targets = synset.getTargets();
+        Assert.assertEquals(synset.getPointers().size(), targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            Assert.assertNotNull(targets.get(i));
+            Assert.assertEquals(synset.getPointers().get(i).getTarget(), targets.get(i));
+        }
+    }
+
     @Test
     public void testBrightAdj() throws JWNLException {
         IndexWord iw = dictionary.getIndexWord(POS.ADJECTIVE, "bright");
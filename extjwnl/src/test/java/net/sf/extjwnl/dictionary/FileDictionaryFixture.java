@@ -0,0 +1,90 @@
+package net.sf.extjwnl.dictionary;
+
+import net.sf.extjwnl.JWNLException;
+import org.junit.Assert;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Creates test file dictionaries from test_file_properties.xml with additional params,
+ * and checks search index files kept in the build directory.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class FileDictionaryFixture {
+
+    private static final String PROPERTIES = "/test_file_properties.xml";
+
+    // modification time of stamped files, a file written again gets the current time
+    private static final long STAMP = 1000000000000L;
+
+    private FileDictionaryFixture() {
+    }
+
+    /**
+     * Creates a file dictionary from test_file_properties.xml with <var>params</var> added.
+     *
+     * @param params param names and values, one after another
+     * @return dictionary
+     * @throws JWNLException JWNLException
+     */
+    public static Dictionary getInstance(String... params) throws JWNLException {
+        StringBuilder added = new StringBuilder();
+        for (int i = 0; i < params.length; i += 2) {
+            added.append("        <param name=\"").append(params[i]).append("\" value=\"").append(params[i + 1]).append("\"/>\n");
+        }
+        String properties = getProperties().replace("    </dictionary>", added + "    </dictionary>");
+        return Dictionary.getInstance(new ByteArrayInputStream(properties.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the path of the <var>name</var> directory under data in the build directory.
+     *
+     * @param name directory name
+     * @return directory path
+     */
+    public static String getDataPath(String name) {
+        try {
+            return new File(new File(FileDictionaryFixture.class.getResource("/").toURI()).getParentFile(), "data/" + name).getPath();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sets an old modification time to the existing search index <var>file</var>,
+     * see {@link #assertNotWritten(File)}.
+     *
+     * @param file search index file
+     */
+    public static void stamp(File file) {
+        Assert.assertTrue(file.getPath(), file.exists());
+        Assert.assertTrue(file.getPath(), file.setLastModified(STAMP));
+    }
+
+    /**
+     * Checks that <var>file</var> was not written since {@link #stamp(File)}, that is, a dictionary read it
+     * instead of building the index again.
+     *
+     * @param file search index file
+     */
+    public static void assertNotWritten(File file) {
+        Assert.assertEquals(file.getPath(), STAMP, file.lastModified());
+    }
+
+    private static String getProperties() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                FileDictionaryFixture.class.getResourceAsStream(PROPERTIES), StandardCharsets.UTF_8))) {
+            StringBuilder result = new StringBuilder();
+            String line;
+            while (null != (line = reader.readLine())) {
+                result.append(line).append("\n");
+            }
+            return result.toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
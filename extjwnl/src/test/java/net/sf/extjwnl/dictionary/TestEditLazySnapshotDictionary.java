@@ -0,0 +1,16 @@
+package net.sf.extjwnl.dictionary;
+
+import java.io.InputStream;
+
+/**
+ * Tests editing of MapBackedDictionary stored in lazily loaded binary snapshots.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestEditLazySnapshotDictionary extends DictionaryEditTester {
+
+    @Override
+    protected InputStream getProperties() {
+        return TestEditLazySnapshotDictionary.class.getResourceAsStream("/test_clean_snapshot_lazy.xml");
+    }
+}
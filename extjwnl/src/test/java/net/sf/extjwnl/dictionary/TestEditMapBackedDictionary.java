@@ -1,6 +1,16 @@
 package net.sf.extjwnl.dictionary;
 
+import net.sf.extjwnl.data.IndexWord;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Synset;
+import net.sf.extjwnl.data.Word;
+import org.junit.Assert;
+import org.junit.Test;
+
 import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Tests MapBackedDictionary editing.
@@ -13,4 +23,35 @@ public class TestEditMapBackedDictionary extends DictionaryEditTester {
     protected InputStream getProperties() {
         return TestEditMapBackedDictionary.class.getResourceAsStream("/test_clean_map.xml");
     }
+
+    @Test
+    public void testConcurrentLoad() throws Exception {
+        dictionary.edit();
+        Synset synset = dictionary.createSynset(POS.NOUN);
+        synset.setGloss(entityGloss);
+        synset.getWords().add(new Word(dictionary, synset, entityLemma));
+        dictionary.save();
+        dictionary.close();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Dictionary> f1 = executor.submit(() -> Dictionary.getInstance(getProperties()));
+            Future<Dictionary> f2 = executor.submit(() -> Dictionary.getInstance(getProperties()));
+            Dictionary d1 = f1.get();
+            Dictionary d2 = f2.get();
+            Assert.assertNotSame(d1, d2);
+            for (Dictionary d : new Dictionary[]{d1, d2}) {
+                IndexWord iw = d.getIndexWord(POS.NOUN, entityLemma);
+                Assert.assertNotNull(iw);
+                Assert.assertSame(d, iw.getDictionary());
+                Synset s = iw.getSenses().get(0);
+                Assert.assertSame(d, s.getDictionary());
+                Assert.assertSame(d, s.getWords().get(0).getDictionary());
+            }
+            d2.close();
+            dictionary = d1;
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
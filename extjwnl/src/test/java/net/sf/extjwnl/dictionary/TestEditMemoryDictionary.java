@@ -1,6 +1,16 @@
 package net.sf.extjwnl.dictionary;
 
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.IndexWord;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Synset;
+import org.junit.Assert;
+import org.junit.Test;
+
 import java.io.InputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
@@ -11,4 +21,37 @@ public class TestEditMemoryDictionary extends DictionaryEditTester {
     protected InputStream getProperties() {
         return Dictionary.class.getResourceAsStream("/net/sf/extjwnl/dictionary/mem_properties.xml");
     }
+
+    @Test
+    public void testRandomIndexWordEdit() throws JWNLException {
+        dictionary.edit();
+        MapDictionary d = (MapDictionary) dictionary;
+        Assert.assertNull(d.getRandomIndexWord(POS.NOUN));
+        Assert.assertTrue(d.sample(POS.NOUN, 3).isEmpty());
+
+        Set<IndexWord> words = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            words.add(new IndexWord(dictionary, "test" + i, POS.NOUN, new Synset(dictionary, POS.NOUN)));
+        }
+        Assert.assertTrue(words.contains(d.getRandomIndexWord(POS.NOUN)));
+
+        // index is maintained after it has been built
+        IndexWord removed = dictionary.getIndexWord(POS.NOUN, "test3");
+        dictionary.removeIndexWord(removed);
+        words.remove(removed);
+        IndexWord added = new IndexWord(dictionary, "test10", POS.NOUN, new Synset(dictionary, POS.NOUN));
+        words.add(added);
+
+        List<IndexWord> all = d.sample(POS.NOUN, 20);
+        Assert.assertEquals(10, all.size());
+        Assert.assertEquals(words, new HashSet<>(all));
+
+        for (int i = 0; i < 100; i++) {
+            List<IndexWord> sample = d.sample(POS.NOUN, 3);
+            Assert.assertEquals(3, sample.size());
+            Assert.assertEquals(3, new HashSet<>(sample).size());
+            Assert.assertTrue(words.containsAll(sample));
+            Assert.assertNotEquals(removed, d.getRandomIndexWord(POS.NOUN));
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package net.sf.extjwnl.dictionary;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Synset;
+import net.sf.extjwnl.data.Verb;
+import net.sf.extjwnl.data.Word;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.InputStream;
+
+/**
+ * Tests editing of MapBackedDictionary stored in binary snapshots.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestEditSnapshotDictionary extends DictionaryEditTester {
+
+    @Override
+    protected InputStream getProperties() {
+        return TestEditSnapshotDictionary.class.getResourceAsStream("/test_clean_snapshot.xml");
+    }
+
+    @Test
+    public void testSavePlainWordInVerbSynset() throws JWNLException {
+        dictionary.edit();
+        Synset synset = dictionary.createSynset(POS.VERB);
+        synset.setGloss("move fast");
+        synset.getWords().add(new Word(dictionary, synset, "run"));
+        synset.getWords().add(new Word(dictionary, synset, "race"));
+        long offset = synset.getOffset();
+        dictionary.save();
+        dictionary.close();
+
+        dictionary = Dictionary.getInstance(getProperties());
+        Synset read = dictionary.getSynsetAt(POS.VERB, offset);
+        Assert.assertNotNull(read);
+        Assert.assertEquals("move fast", read.getGloss());
+        Assert.assertEquals(2, read.getWords().size());
+        for (Word word : read.getWords()) {
+            Assert.assertTrue(word instanceof Verb);
+            Assert.assertTrue(((Verb) word).getVerbFrameFlags().isEmpty());
+        }
+        Assert.assertEquals("race", read.getWords().get(1).getLemma());
+    }
+}
@@ -0,0 +1,73 @@
+package net.sf.extjwnl.dictionary;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Pointer;
+import net.sf.extjwnl.data.Synset;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests PointerResolver.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestPointerResolver {
+
+    @Test
+    public void testResolve() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(TestPointerResolver.class.getResourceAsStream("/test_file_properties.xml"));
+        ((AbstractCachingDictionary) d).setCacheCapacity(10000);
+        try {
+            long expected = 0;
+            Iterator<Synset> si = d.getSynsetIterator(POS.ADVERB);
+            while (si.hasNext()) {
+                expected = expected + si.next().getPointers().size();
+            }
+            Iterator<?> ii = d.getIndexWordIterator(POS.ADVERB);
+            while (ii.hasNext()) {
+                ii.next();
+                expected++;
+            }
+
+            final AtomicLong max = new AtomicLong();
+            final AtomicLong total = new AtomicLong();
+            PointerResolver resolver = new PointerResolver(d);
+            resolver.setProgressListener((pos, resolved, all) -> {
+                Assert.assertEquals(POS.ADVERB, pos);
+                max.accumulateAndGet(resolved, Math::max);
+                total.set(all);
+            });
+            resolver.resolve(POS.ADVERB);
+
+            Assert.assertEquals(expected, total.get());
+            Assert.assertEquals(expected, max.get());
+
+            // resolved targets are kept by the pointers, so they do not need the files,
+            // the cache holds all adverb synsets, so this is the instance the resolver iterated over
+            Synset synset = d.getSynsetAt(POS.ADVERB, d.getSynsetIterator(POS.ADVERB).next().getOffset());
+            Assert.assertFalse(synset.getPointers().isEmpty());
+            d.close();
+            for (Pointer p : synset.getPointers()) {
+                Assert.assertNotNull(p.getTarget());
+            }
+        } finally {
+            d.close();
+        }
+    }
+
+    @Test(expected = JWNLException.class)
+    public void testUnresolved() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(TestPointerResolver.class.getResourceAsStream("/test_file_properties.xml"));
+        try {
+            Synset synset = d.getSynsetIterator(POS.ADVERB).next();
+            d.close();
+            synset.getPointers().get(0).getTarget();
+        } finally {
+            d.close();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package net.sf.extjwnl.dictionary;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.IndexWord;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Synset;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+
+/**
+ * Creates a CompactDictionary and runs all the read test cases against it.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestReadCompactDictionary extends DictionaryReadTester {
+
+    @BeforeClass
+    public static void initDictionary() throws IOException, JWNLException {
+        s_dictionary = Dictionary.getInstance(
+                TestReadCompactDictionary.class.getResourceAsStream("/test_compact_properties.xml"));
+    }
+
+    @AfterClass
+    public static void closeDictionary() throws IOException, JWNLException {
+        if (null != s_dictionary) {
+            s_dictionary.close();
+        }
+    }
+
+    @Test
+    public void testSynsetCount() {
+        Assert.assertTrue(dictionary instanceof CompactDictionary);
+        CompactDictionary compact = (CompactDictionary) dictionary;
+        Assert.assertEquals(82192, compact.getSynsetCount(POS.NOUN));
+        Assert.assertTrue(0 < compact.getDataSize());
+    }
+
+    @Test
+    public void testViewsEqual() throws JWNLException {
+        IndexWord iw = dictionary.getIndexWord(POS.NOUN, "tank");
+        Synset s = iw.getSenses().get(0);
+        Assert.assertEquals(s, dictionary.getSynsetAt(POS.NOUN, s.getOffset()));
+        Assert.assertEquals(iw, dictionary.getIndexWord(POS.NOUN, "Tank "));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEdit() throws JWNLException {
+        dictionary.edit();
+    }
+}
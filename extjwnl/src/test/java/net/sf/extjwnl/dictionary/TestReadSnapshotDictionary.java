@@ -0,0 +1,72 @@
+package net.sf.extjwnl.dictionary;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.DictionaryElement;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.dictionary.file.DictionaryCatalog;
+import net.sf.extjwnl.dictionary.file.DictionaryCatalogSet;
+import net.sf.extjwnl.dictionary.file.DictionaryFileType;
+import net.sf.extjwnl.dictionary.file.ObjectDictionaryFile;
+import net.sf.extjwnl.princeton.file.PrincetonSnapshotDictionaryFile;
+import net.sf.extjwnl.util.factory.NameValueParam;
+import net.sf.extjwnl.util.factory.Param;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Converts the file dictionary into binary snapshots and runs all the read test cases
+ * against a lazily loaded MapBackedDictionary.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestReadSnapshotDictionary extends DictionaryReadTester {
+
+    @BeforeClass
+    public static void initDictionary() throws IOException, JWNLException {
+        Dictionary source = Dictionary.getInstance(
+                TestReadSnapshotDictionary.class.getResourceAsStream("/test_file_properties.xml"));
+        Map<String, Param> params = new HashMap<>();
+        params.put(DictionaryCatalog.DICTIONARY_PATH_KEY, new NameValueParam(source, DictionaryCatalog.DICTIONARY_PATH_KEY,
+                System.getProperty("extjwnl.testDataFolder", "./target/data") + "/snapshot"));
+        params.put(DictionaryCatalog.DICTIONARY_FILE_TYPE_KEY, new NameValueParam(source, DictionaryCatalog.DICTIONARY_FILE_TYPE_KEY,
+                PrincetonSnapshotDictionaryFile.class.getCanonicalName()));
+        DictionaryCatalogSet<ObjectDictionaryFile> files = new DictionaryCatalogSet<>(source, params, ObjectDictionaryFile.class);
+        files.delete();
+        files.open();
+        for (DictionaryFileType fileType : DictionaryFileType.getAllDictionaryFileTypes()) {
+            for (POS pos : POS.getAllPOS()) {
+                Map<Object, DictionaryElement> map = new HashMap<>();
+                Iterator<? extends DictionaryElement> i;
+                if (DictionaryFileType.DATA == fileType) {
+                    i = source.getSynsetIterator(pos);
+                } else if (DictionaryFileType.INDEX == fileType) {
+                    i = source.getIndexWordIterator(pos);
+                } else {
+                    i = source.getExceptionIterator(pos);
+                }
+                while (i.hasNext()) {
+                    DictionaryElement element = i.next();
+                    map.put(element.getKey(), element);
+                }
+                files.getDictionaryFile(pos, fileType).writeObject(map);
+            }
+        }
+        files.close();
+        source.close();
+
+        s_dictionary = Dictionary.getInstance(
+                TestReadSnapshotDictionary.class.getResourceAsStream("/test_snapshot_properties.xml"));
+    }
+
+    @AfterClass
+    public static void closeDictionary() throws IOException, JWNLException {
+        if (null != s_dictionary) {
+            s_dictionary.close();
+        }
+    }
+}
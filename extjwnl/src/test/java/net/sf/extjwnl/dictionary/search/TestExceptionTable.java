@@ -0,0 +1,72 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.Exc;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.FileDictionaryFixture;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Tests ExceptionTable and exception lookups.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestExceptionTable {
+
+    @Test
+    public void testBuild() throws JWNLException {
+        ExceptionTable.Builder builder = new ExceptionTable.Builder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(new Exc(null, POS.NOUN, "derivation" + i, Collections.singletonList("base" + i)));
+        }
+        builder.add(new Exc(null, POS.NOUN, "derivation7", Arrays.asList("base7", "other")));
+        ExceptionTable table = builder.build();
+
+        Assert.assertEquals(100, table.size());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals("derivation" + i, table.get("derivation" + i).getLemma());
+        }
+        Assert.assertEquals(Arrays.asList("base7", "other"), table.get("derivation7").getExceptions());
+        Assert.assertEquals(Collections.singletonList("base8"), table.get("derivation8").getExceptions());
+        Assert.assertNull(table.get("derivation100"));
+        Assert.assertNull(table.get(""));
+
+        Assert.assertNull(new ExceptionTable.Builder().build().get("derivation"));
+    }
+
+    @Test
+    public void testGetException() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(TestExceptionTable.class.getResourceAsStream("/test_file_properties.xml"));
+        Dictionary files = FileDictionaryFixture.getInstance(Dictionary.EXCEPTION_TABLE_KEY, "false");
+        try {
+            for (POS pos : POS.getAllPOS()) {
+                Iterator<Exc> ei = files.getExceptionIterator(pos);
+                while (ei.hasNext()) {
+                    Exc expected = ei.next();
+                    Exc actual = d.getException(pos, expected.getLemma());
+                    Assert.assertNotNull(expected.getLemma(), actual);
+                    Assert.assertEquals(expected.getLemma(), actual.getLemma());
+                    Assert.assertTrue(expected.getLemma(), actual.getExceptions().containsAll(expected.getExceptions()));
+                }
+            }
+
+            Assert.assertEquals("mouse", d.getException(POS.NOUN, "Mice").getExceptions().get(0));
+            // duplicate lines are merged
+            Assert.assertEquals(Arrays.asList("eyir", "eyrir"), d.getException(POS.NOUN, "aurar").getExceptions());
+            Assert.assertNull(d.getException(POS.NOUN, "mouse"));
+            Assert.assertNull(d.getException(POS.NOUN, ""));
+            Assert.assertNull(d.getException(POS.NOUN, null));
+            Assert.assertEquals(files.getMorphologicalProcessor().lookupAllBaseForms(POS.VERB, "went"),
+                    d.getMorphologicalProcessor().lookupAllBaseForms(POS.VERB, "went"));
+        } finally {
+            files.close();
+            d.close();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Synset;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.FileDictionaryFixture;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Tests GlossIndex and gloss searches.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestGlossIndex {
+
+    private static GlossIndex getIndex() {
+        return new GlossIndex.Builder()
+                .add(300, "a small domestic dog; \"the dog barked\"")
+                .add(100, "a member of the genus Canis (probably descended from the common wolf)")
+                .add(200, "a hot dog, a frankfurter served on a bun")
+                .add(400, "small; not large")
+                .build();
+    }
+
+    @Test
+    public void testTokenize() {
+        Assert.assertEquals(Arrays.asList("the", "dog", "s", "bark", "2nd", "café"), GlossIndex.tokenize("The dog's (bark), 2nd; Café"));
+        Assert.assertTrue(GlossIndex.tokenize(" ; ").isEmpty());
+    }
+
+    @Test
+    public void testOffsets() {
+        GlossIndex index = getIndex();
+        Assert.assertArrayEquals(new long[]{200, 300}, index.getOffsets("dog"));
+        Assert.assertArrayEquals(new long[]{200, 300}, index.getOffsets("DOG, a"));
+        Assert.assertArrayEquals(new long[]{300, 400}, index.getOffsets("small"));
+        Assert.assertArrayEquals(new long[]{300}, index.getOffsets("small dog"));
+        Assert.assertArrayEquals(new long[0], index.getOffsets("small cat"));
+        Assert.assertArrayEquals(new long[0], index.getOffsets(""));
+        Assert.assertEquals(3, index.getCount("a"));
+        Assert.assertEquals(0, index.getCount("cat"));
+    }
+
+    @Test
+    public void testPhrase() {
+        GlossIndex index = getIndex();
+        Assert.assertArrayEquals(new long[]{200}, index.getPhraseOffsets("hot dog"));
+        Assert.assertArrayEquals(new long[]{300}, index.getPhraseOffsets("domestic dog"));
+        Assert.assertArrayEquals(new long[0], index.getPhraseOffsets("dog domestic"));
+        Assert.assertArrayEquals(new long[]{100}, index.getPhraseOffsets("from the common"));
+        Assert.assertArrayEquals(new long[]{200, 300}, index.getPhraseOffsets("dog"));
+        Assert.assertArrayEquals(new long[]{200}, index.getPhraseOffsets("dog a frankfurter"));
+    }
+
+    @Test
+    public void testWriteRead() throws IOException {
+        GlossIndex index = getIndex();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            index.write(out);
+        }
+        GlossIndex copy = GlossIndex.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertEquals(index.getTermCount(), copy.getTermCount());
+        Assert.assertArrayEquals(index.getOffsets("a"), copy.getOffsets("a"));
+        Assert.assertArrayEquals(index.getPhraseOffsets("hot dog"), copy.getPhraseOffsets("hot dog"));
+    }
+
+    @Test
+    public void testSearchGlosses() throws JWNLException {
+        Dictionary d = getDictionary();
+        try {
+            for (String query : new String[]{"manner", "in a", "the way", "not", "zzqq"}) {
+                List<String> tokens = GlossIndex.tokenize(query);
+                Set<Long> all = new TreeSet<>();
+                Set<Long> phrase = new TreeSet<>();
+                Iterator<Synset> si = d.getSynsetIterator(POS.ADVERB);
+                while (si.hasNext()) {
+                    Synset synset = si.next();
+                    List<String> gloss = GlossIndex.tokenize(synset.getGloss());
+                    if (gloss.containsAll(tokens)) {
+                        all.add(synset.getOffset());
+                    }
+                    if (-1 < Collections.indexOfSubList(gloss, tokens)) {
+                        phrase.add(synset.getOffset());
+                    }
+                }
+                Assert.assertEquals(query, all, getOffsets(d.searchGlosses(POS.ADVERB, query)));
+                Assert.assertEquals(query, phrase, getOffsets(d.searchGlossPhrase(POS.ADVERB, query)));
+            }
+
+            // reopen reads the index written by the first instance
+            File file = new File(FileDictionaryFixture.getDataPath("gloss-index"), "gloss_index." + POS.ADVERB.getLabel());
+            FileDictionaryFixture.stamp(file);
+            Dictionary reopened = getDictionary();
+            try {
+                Assert.assertEquals(d.getGlossIndex(POS.ADVERB).getTermCount(), reopened.getGlossIndex(POS.ADVERB).getTermCount());
+                Assert.assertEquals(getOffsets(d.searchGlosses(POS.ADVERB, "the way")), getOffsets(reopened.searchGlosses(POS.ADVERB, "the way")));
+            } finally {
+                reopened.close();
+            }
+            FileDictionaryFixture.assertNotWritten(file);
+        } finally {
+            d.close();
+        }
+    }
+
+    @Test
+    public void testEdit() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(Dictionary.class.getResourceAsStream("/net/sf/extjwnl/dictionary/mem_properties.xml"));
+        try {
+            d.edit();
+            Synset synset = new Synset(d, POS.NOUN, 10);
+            synset.setGloss("a domesticated carnivore");
+            Assert.assertEquals(Collections.singletonList(synset), d.searchGlosses(POS.NOUN, "carnivore"));
+            GlossIndex index = d.getGlossIndex(POS.NOUN);
+            Assert.assertSame(index, d.getGlossIndex(POS.NOUN));
+
+            synset.setGloss("a member of the genus Canis");
+            Assert.assertTrue(d.searchGlosses(POS.NOUN, "carnivore").isEmpty());
+            Assert.assertEquals(Collections.singletonList(synset), d.searchGlosses(POS.NOUN, "canis"));
+        } finally {
+            d.close();
+        }
+    }
+
+    private static Set<Long> getOffsets(List<Synset> synsets) {
+        Set<Long> result = new TreeSet<>();
+        for (Synset synset : synsets) {
+            result.add(synset.getOffset());
+        }
+        return result;
+    }
+
+    private static Dictionary getDictionary() throws JWNLException {
+        return FileDictionaryFixture.getInstance(Dictionary.GLOSS_INDEX_PATH_KEY, FileDictionaryFixture.getDataPath("gloss-index"));
+    }
+}
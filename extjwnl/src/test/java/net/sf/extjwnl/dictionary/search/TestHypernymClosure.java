@@ -0,0 +1,255 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.*;
+import net.sf.extjwnl.data.relationship.AsymmetricRelationship;
+import net.sf.extjwnl.data.relationship.RelationshipFinder;
+import net.sf.extjwnl.data.relationship.RelationshipList;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.FileDictionaryFixture;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Tests HypernymClosure and subsumption queries.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestHypernymClosure {
+
+    @Test
+    public void testBuild() throws IOException {
+        // 0 <- 1 <- 3, 0 <- 2 <- 3, 3 <- 4, 5 isolated
+        HypernymClosure closure = new HypernymClosure.Builder(6).add(1, 0).add(2, 0).add(3, 1).add(3, 2).add(4, 3).build();
+        Assert.assertEquals(6, closure.size());
+        Assert.assertTrue(closure.isAncestor(4, 0));
+        Assert.assertTrue(closure.isAncestor(4, 1));
+        Assert.assertTrue(closure.isAncestor(4, 2));
+        Assert.assertTrue(closure.isAncestor(4, 3));
+        Assert.assertFalse(closure.isAncestor(4, 4));
+        Assert.assertFalse(closure.isAncestor(1, 2));
+        Assert.assertFalse(closure.isAncestor(0, 4));
+        Assert.assertFalse(closure.isAncestor(5, 0));
+        Assert.assertArrayEquals(new int[]{0, 1, 2, 3}, closure.getAncestors(4));
+        Assert.assertArrayEquals(new int[0], closure.getAncestors(0));
+        Assert.assertEquals(3, closure.getDepth(4));
+        Assert.assertEquals(0, closure.getDepth(5));
+        Assert.assertEquals(3, closure.getDistance(4, 0));
+        Assert.assertEquals(-1, closure.getDistance(0, 4));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            closure.write(out);
+        }
+        HypernymClosure copy = HypernymClosure.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertArrayEquals(closure.getAncestors(4), copy.getAncestors(4));
+        Assert.assertTrue(copy.isAncestor(4, 2));
+        Assert.assertEquals(3, copy.getDepth(4));
+        Assert.assertArrayEquals(new int[]{0}, copy.getLowestCommonSubsumers(1, 2));
+    }
+
+    @Test
+    public void testLowestCommonSubsumers() {
+        // 0 <- 1 <- 3, 0 <- 2 <- 3, 1 <- 4, 2 <- 5, 3 <- 6, 5 <- 6, 7 isolated
+        HypernymClosure closure = new HypernymClosure.Builder(8)
+                .add(1, 0).add(2, 0).add(3, 1).add(3, 2).add(4, 1).add(5, 2).add(6, 3).add(6, 5).build();
+        Assert.assertArrayEquals(new int[]{1}, closure.getLowestCommonSubsumers(4, 6));
+        Assert.assertArrayEquals(new int[]{5}, closure.getLowestCommonSubsumers(5, 6));
+        Assert.assertArrayEquals(new int[]{3}, closure.getLowestCommonSubsumers(3, 6));
+        Assert.assertArrayEquals(new int[]{0}, closure.getLowestCommonSubsumers(4, 5));
+        Assert.assertArrayEquals(new int[]{4}, closure.getLowestCommonSubsumers(4, 4));
+        Assert.assertArrayEquals(new int[0], closure.getLowestCommonSubsumers(4, 7));
+        // both parents of 3 subsume 3 and 4, only 1 is within one link of 4
+        Assert.assertArrayEquals(new int[]{1}, closure.getLowestCommonSubsumers(3, 4, 1));
+        Assert.assertArrayEquals(new int[0], closure.getLowestCommonSubsumers(6, 4, 1));
+
+        Assert.assertArrayEquals(new int[]{4, 1, 3, 6}, closure.getPath(4, 6, 1));
+        Assert.assertArrayEquals(new int[]{6, 3, 1, 0, 2, 5}, closure.getPath(6, 5, 0));
+        Assert.assertArrayEquals(new int[]{6, 3}, closure.getPath(6, 3, 3));
+        Assert.assertArrayEquals(new int[]{7}, closure.getPath(7, 7, 7));
+        Assert.assertNull(closure.getPath(4, 7, 0));
+    }
+
+    @Test
+    public void testBuildCycle() {
+        HypernymClosure closure = new HypernymClosure.Builder(3).add(0, 1).add(1, 0).add(2, 1).build();
+        Assert.assertTrue(closure.isAncestor(2, 1));
+        Assert.assertTrue(closure.isAncestor(2, 0));
+        Assert.assertTrue(closure.isAncestor(0, 1));
+        Assert.assertTrue(closure.isAncestor(1, 0));
+    }
+
+    @Test
+    public void testRandomDAG() {
+        Random random = new Random(1);
+        for (int round = 0; round < 20; round++) {
+            int size = 200;
+            HypernymClosure.Builder builder = new HypernymClosure.Builder(size);
+            List<BitSet> ancestors = new ArrayList<>();
+            for (int n = 0; n < size; n++) {
+                BitSet set = new BitSet();
+                // parents have smaller ordinals, some nodes have several
+                int parents = 0 == n ? 0 : random.nextInt(10) < 2 ? 2 + random.nextInt(2) : random.nextInt(10) < 9 ? 1 : 0;
+                for (int i = 0; i < parents; i++) {
+                    int parent = random.nextInt(n);
+                    builder.add(n, parent);
+                    set.set(parent);
+                    set.or(ancestors.get(parent));
+                }
+                ancestors.add(set);
+            }
+            HypernymClosure closure = builder.build();
+            double[] descendants = new double[size];
+            double[] sums = new double[size];
+            int[] marks = new int[size];
+            for (int n = 0; n < size; n++) {
+                Assert.assertArrayEquals(ancestors.get(n).stream().toArray(), closure.getAncestors(n));
+                for (int a = 0; a < size; a++) {
+                    Assert.assertEquals(ancestors.get(n).get(a), closure.isAncestor(n, a));
+                }
+                ancestors.get(n).stream().forEach(a -> descendants[a]++);
+                closure.addToAncestors(n, 1, sums, marks);
+            }
+            // each synset counts once in each ancestor
+            Assert.assertArrayEquals(descendants, sums, 0);
+            for (int i = 0; i < 100; i++) {
+                int first = random.nextInt(size);
+                int second = random.nextInt(size);
+                BitSet common = (BitSet) ancestors.get(first).clone();
+                common.set(first);
+                BitSet other = (BitSet) ancestors.get(second).clone();
+                other.set(second);
+                common.and(other);
+                BitSet expected = (BitSet) common.clone();
+                for (int c = common.nextSetBit(0); c >= 0; c = common.nextSetBit(c + 1)) {
+                    expected.andNot(ancestors.get(c));
+                }
+                int[] actual = closure.getLowestCommonSubsumers(first, second);
+                Arrays.sort(actual);
+                Assert.assertArrayEquals(expected.stream().toArray(), actual);
+                for (int subsumer : actual) {
+                    int[] path = closure.getPath(first, second, subsumer);
+                    Assert.assertEquals(first, path[0]);
+                    Assert.assertEquals(second, path[path.length - 1]);
+                    Assert.assertEquals(closure.getDistance(first, subsumer) + closure.getDistance(second, subsumer) + 1, path.length);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIsHyponymOf() throws JWNLException {
+        Dictionary d = getDictionary();
+        try {
+            for (POS pos : new POS[]{POS.NOUN, POS.VERB}) {
+                Iterator<Synset> si = d.getSynsetIterator(pos);
+                for (int i = 0; i < 300 && si.hasNext(); i++) {
+                    Synset synset = si.next();
+                    Set<Synset> expected = new HashSet<>();
+                    Deque<Synset> queue = new ArrayDeque<>(Collections.singletonList(synset));
+                    while (!queue.isEmpty()) {
+                        for (PointerTarget target : queue.poll().getTargets(PointerType.HYPERNYM)) {
+                            if (expected.add(target.getSynset())) {
+                                queue.add(target.getSynset());
+                            }
+                        }
+                    }
+                    Set<Synset> actual = new HashSet<>();
+                    for (int ordinal : d.getAncestors(synset)) {
+                        actual.add(d.getSynsetByOrdinal(ordinal));
+                    }
+                    Assert.assertEquals(expected, actual);
+                    for (Synset ancestor : expected) {
+                        Assert.assertTrue(d.isHyponymOf(synset, ancestor));
+                        Assert.assertFalse(d.isHyponymOf(ancestor, synset));
+                    }
+                }
+            }
+
+            Synset dog = d.getIndexWord(POS.NOUN, "dog").getSenses().get(0);
+            Synset animal = d.getIndexWord(POS.NOUN, "animal").getSenses().get(0);
+            Synset plant = d.getIndexWord(POS.NOUN, "plant").getSenses().get(1);
+            Assert.assertTrue(d.isHyponymOf(dog, animal));
+            Assert.assertFalse(d.isHyponymOf(dog, plant));
+            Assert.assertFalse(d.isHyponymOf(dog, dog));
+
+            // instance hypernyms
+            Synset einstein = d.getIndexWord(POS.NOUN, "einstein").getSenses().get(0);
+            Synset person = d.getIndexWord(POS.NOUN, "person").getSenses().get(0);
+            Assert.assertTrue(d.isHyponymOf(einstein, person));
+
+            // hypernym relationships go through the lowest common subsumers
+            Synset cat = d.getIndexWord(POS.NOUN, "cat").getSenses().get(0);
+            Synset carnivore = d.getIndexWord(POS.NOUN, "carnivore").getSenses().get(0);
+            Assert.assertEquals(Collections.singletonList(carnivore), RelationshipFinder.findLowestCommonSubsumers(dog, cat));
+            RelationshipList relationships = RelationshipFinder.findHypernymRelationships(dog, cat);
+            Assert.assertEquals(1, relationships.size());
+            AsymmetricRelationship relationship = (AsymmetricRelationship) relationships.get(0);
+            Assert.assertEquals(4, relationship.getDepth());
+            Assert.assertEquals(2, relationship.getCommonParentIndex());
+            Assert.assertEquals(dog, relationship.getNodeList().get(0).getSynset());
+            Assert.assertEquals(carnivore, relationship.getNodeList().get(2).getSynset());
+            Assert.assertEquals(PointerType.HYPERNYM, relationship.getNodeList().get(1).getType());
+            Assert.assertEquals(PointerType.HYPONYM, relationship.getNodeList().get(2).getType());
+            Assert.assertEquals(cat, relationship.getNodeList().get(4).getSynset());
+            Assert.assertTrue(RelationshipFinder.findHypernymRelationships(dog, cat, 1).isEmpty());
+            Assert.assertEquals(Collections.singletonList(dog), RelationshipFinder.findLowestCommonSubsumers(dog, dog));
+            Assert.assertTrue(RelationshipFinder.findLowestCommonSubsumers(dog, d.getIndexWord(POS.VERB, "run").getSenses().get(0)).isEmpty());
+
+            // reopen reads the closure written by the first instance
+            File file = new File(FileDictionaryFixture.getDataPath("hypernym-closure"), "hypernym_closure");
+            FileDictionaryFixture.stamp(file);
+            Dictionary reopened = getDictionary();
+            try {
+                Assert.assertArrayEquals(d.getAncestors(dog), reopened.getAncestors(dog));
+            } finally {
+                reopened.close();
+            }
+            FileDictionaryFixture.assertNotWritten(file);
+        } finally {
+            d.close();
+        }
+    }
+
+    @Test
+    public void testEdit() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(Dictionary.class.getResourceAsStream("/net/sf/extjwnl/dictionary/mem_properties.xml"));
+        try {
+            d.edit();
+            Synset animal = new Synset(d, POS.NOUN, 10);
+            Synset dog = new Synset(d, POS.NOUN, 20);
+            Synset puppy = new Synset(d, POS.NOUN, 30);
+            Pointer hypernym = new Pointer(PointerType.HYPERNYM, dog, animal);
+            dog.getPointers().add(hypernym);
+            HypernymClosure closure = d.getHypernymClosure();
+            IncomingPointerIndex index = d.getIncomingPointerIndex();
+            Assert.assertTrue(d.isHyponymOf(dog, animal));
+            Assert.assertFalse(d.isHyponymOf(puppy, animal));
+            Assert.assertSame(closure, d.getHypernymClosure());
+            Assert.assertSame(index, d.getIncomingPointerIndex());
+
+            // pointer edits drop the closure and the incoming pointer index
+            puppy.getPointers().add(new Pointer(PointerType.HYPERNYM, puppy, dog));
+            Assert.assertNotSame(closure, d.getHypernymClosure());
+            Assert.assertTrue(d.isHyponymOf(puppy, animal));
+            Assert.assertEquals(1, d.getIncomingPointers(dog, PointerType.HYPERNYM).size());
+
+            dog.getPointers().remove(hypernym);
+            Assert.assertFalse(d.isHyponymOf(puppy, animal));
+            Assert.assertTrue(d.getIncomingPointers(animal, PointerType.HYPERNYM).isEmpty());
+        } finally {
+            d.close();
+        }
+    }
+
+    /**
+     * Returns a file dictionary keeping ordinals and the closure in the hypernym-closure data directory.
+     */
+    public static Dictionary getDictionary() throws JWNLException {
+        String path = FileDictionaryFixture.getDataPath("hypernym-closure");
+        return FileDictionaryFixture.getInstance(Dictionary.ORDINALS_PATH_KEY, path, Dictionary.HYPERNYM_CLOSURE_PATH_KEY, path);
+    }
+}
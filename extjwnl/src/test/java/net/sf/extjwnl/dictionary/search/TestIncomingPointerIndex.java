@@ -0,0 +1,103 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.*;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.FileDictionaryFixture;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Tests IncomingPointerIndex and incoming pointer lookups.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestIncomingPointerIndex {
+
+    @Test
+    public void testBuild() throws JWNLException, IOException {
+        Synset a = new Synset(null, POS.NOUN, 100);
+        Synset b = new Synset(null, POS.ADJECTIVE, 200);
+        a.getPointers().add(new Pointer(a, PointerType.HYPERNYM, POS.NOUN, 300, 0));
+        a.getPointers().add(new Pointer(a, PointerType.DERIVATION, POS.ADJECTIVE, 200, 1));
+        b.getPointers().add(new Pointer(b, PointerType.HYPERNYM, POS.NOUN, 300, 0));
+        b.getPointers().add(new Pointer(b, PointerType.DERIVATION, POS.NOUN, 100, 1));
+        b.getPointers().add(new Pointer(b, PointerType.DERIVATION, POS.NOUN, 100, 2));
+
+        IncomingPointerIndex index = new IncomingPointerIndex.Builder().add(b).add(a).build();
+        Assert.assertEquals(3, index.size());
+
+        long[] sources = index.getSources(POS.NOUN, 300, PointerType.HYPERNYM);
+        Assert.assertEquals(2, sources.length);
+        Assert.assertEquals(POS.NOUN, IncomingPointerIndex.getPOS(sources[0]));
+        Assert.assertEquals(100, IncomingPointerIndex.getOffset(sources[0]));
+        Assert.assertEquals(POS.ADJECTIVE, IncomingPointerIndex.getPOS(sources[1]));
+        Assert.assertEquals(200, IncomingPointerIndex.getOffset(sources[1]));
+
+        // two word pointers from one synset give one source
+        sources = index.getSources(POS.NOUN, 100, PointerType.DERIVATION);
+        Assert.assertEquals(1, sources.length);
+        Assert.assertEquals(200, IncomingPointerIndex.getOffset(sources[0]));
+
+        Assert.assertEquals(0, index.getSources(POS.NOUN, 300, PointerType.HYPONYM).length);
+        Assert.assertEquals(0, index.getSources(POS.VERB, 300, PointerType.HYPERNYM).length);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            index.write(out);
+        }
+        IncomingPointerIndex copy = IncomingPointerIndex.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertEquals(index.size(), copy.size());
+        Assert.assertArrayEquals(index.getSources(POS.NOUN, 300, PointerType.HYPERNYM), copy.getSources(POS.NOUN, 300, PointerType.HYPERNYM));
+    }
+
+    @Test
+    public void testIncomingPointers() throws JWNLException {
+        Dictionary d = getDictionary();
+        try {
+            Iterator<Synset> si = d.getSynsetIterator(POS.ADVERB);
+            for (int i = 0; i < 200 && si.hasNext(); i++) {
+                Synset synset = si.next();
+                for (Pointer pointer : synset.getPointers()) {
+                    Synset target = pointer.getTargetSynset();
+                    List<Pointer> incoming = target.getIncomingPointers(pointer.getType());
+                    Assert.assertTrue(pointer.toString(), incoming.contains(pointer));
+                    for (Pointer p : incoming) {
+                        Assert.assertEquals(target, p.getTargetSynset());
+                    }
+                }
+            }
+
+            // pertainyms of adjectives are not mirrored in nouns
+            IndexWord iw = d.getIndexWord(POS.NOUN, "music");
+            boolean found = false;
+            for (Synset synset : iw.getSenses()) {
+                for (Pointer p : synset.getIncomingPointers(PointerType.PERTAINYM)) {
+                    found = found || "musical".equals(((Word) p.getSource()).getLemma());
+                }
+            }
+            Assert.assertTrue(found);
+
+            // reopen reads the index written by the first instance
+            File file = new File(FileDictionaryFixture.getDataPath("pointer-index"), "incoming_pointers");
+            FileDictionaryFixture.stamp(file);
+            Dictionary reopened = getDictionary();
+            try {
+                Assert.assertEquals(d.getIncomingPointerIndex().size(), reopened.getIncomingPointerIndex().size());
+            } finally {
+                reopened.close();
+            }
+            FileDictionaryFixture.assertNotWritten(file);
+        } finally {
+            d.close();
+        }
+    }
+
+    private static Dictionary getDictionary() throws JWNLException {
+        return FileDictionaryFixture.getInstance(Dictionary.POINTER_INDEX_PATH_KEY, FileDictionaryFixture.getDataPath("pointer-index"));
+    }
+}
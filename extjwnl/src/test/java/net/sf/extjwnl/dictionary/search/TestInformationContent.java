@@ -0,0 +1,137 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Pointer;
+import net.sf.extjwnl.data.PointerType;
+import net.sf.extjwnl.data.Synset;
+import net.sf.extjwnl.data.Word;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.FileDictionaryFixture;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.*;
+
+/**
+ * Tests InformationContent.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestInformationContent {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void testBuild() throws IOException {
+        // nouns: 0 <- 1 <- 3, 0 <- 2 <- 3, verb 4 isolated
+        SynsetOrdinals ordinals = new SynsetOrdinals.Builder()
+                .add(POS.NOUN, 10).add(POS.NOUN, 20).add(POS.NOUN, 30).add(POS.NOUN, 40).add(POS.VERB, 10).build();
+        HypernymClosure closure = new HypernymClosure.Builder(5).add(1, 0).add(2, 0).add(3, 1).add(3, 2).build();
+
+        InformationContent ic = new InformationContent.Builder(ordinals, closure).add(1, 1).add(3, 2).add(4, 5).build();
+        Assert.assertEquals(5, ic.size());
+        Assert.assertFalse(ic.isSmoothed());
+        // 3 counts once in each of its hypernyms, and once in the root, although two paths lead to it
+        Assert.assertEquals(-Math.log(2 / 3.0), ic.get(3), DELTA);
+        Assert.assertEquals(-Math.log(3 / 3.0), ic.get(1), DELTA);
+        Assert.assertEquals(-Math.log(2 / 3.0), ic.get(2), DELTA);
+        Assert.assertEquals(0.0, ic.get(0), DELTA);
+        Assert.assertEquals(0.0, ic.get(4), DELTA);
+
+        InformationContent smoothed = new InformationContent.Builder(ordinals, closure).setSmoothing(true).add(4, 5).build();
+        Assert.assertTrue(smoothed.isSmoothed());
+        Assert.assertEquals(-Math.log(1 / 4.0), smoothed.get(3), DELTA);
+        Assert.assertEquals(-Math.log(2 / 4.0), smoothed.get(1), DELTA);
+        Assert.assertEquals(0.0, smoothed.get(0), DELTA);
+
+        Assert.assertEquals(Double.POSITIVE_INFINITY,
+                new InformationContent.Builder(ordinals, closure).add(1, 1).build().get(2), DELTA);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            smoothed.write(out);
+        }
+        // header, a length per part of speech and a double per synset
+        Assert.assertEquals(13 + 4 * POS.values().length + 8 * 5, bytes.size());
+        InformationContent copy = InformationContent.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertTrue(copy.isSmoothed());
+        Assert.assertEquals(smoothed.size(), copy.size());
+        for (int n = 0; n < smoothed.size(); n++) {
+            Assert.assertEquals(smoothed.get(n), copy.get(n), DELTA);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadUnsupported() throws IOException {
+        InformationContent.read(new DataInputStream(new ByteArrayInputStream(new byte[8])));
+    }
+
+    @Test
+    public void testInformationContent() throws JWNLException {
+        Dictionary d = getDictionary();
+        try {
+            InformationContent ic = d.getInformationContent();
+            Assert.assertTrue(ic.isSmoothed());
+            Assert.assertEquals(d.getSynsetCount(), ic.size());
+            for (int n = 0; n < ic.size(); n++) {
+                Assert.assertFalse(Double.isInfinite(ic.get(n)));
+            }
+            Synset dog = d.getIndexWord(POS.NOUN, "dog").getSenses().get(0);
+            Synset carnivore = d.getIndexWord(POS.NOUN, "carnivore").getSenses().get(0);
+            Synset entity = d.getIndexWord(POS.NOUN, "entity").getSenses().get(0);
+            Assert.assertEquals(ic.get(dog.getOrdinal()), dog.getInformationContent(), DELTA);
+            Assert.assertEquals(0.0, entity.getInformationContent(), DELTA);
+            Assert.assertTrue(carnivore.getInformationContent() < dog.getInformationContent());
+        } finally {
+            d.close();
+        }
+
+        // reads the file written above
+        File file = new File(FileDictionaryFixture.getDataPath("information-content"), "information_content");
+        FileDictionaryFixture.stamp(file);
+        d = getDictionary();
+        try {
+            Synset dog = d.getIndexWord(POS.NOUN, "dog").getSenses().get(0);
+            Assert.assertTrue(0 < dog.getInformationContent());
+            Assert.assertTrue(d.getInformationContent().isSmoothed());
+        } finally {
+            d.close();
+        }
+        FileDictionaryFixture.assertNotWritten(file);
+    }
+
+    @Test
+    public void testEdit() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(Dictionary.class.getResourceAsStream("/net/sf/extjwnl/dictionary/mem_properties.xml"));
+        try {
+            d.edit();
+            Synset animal = new Synset(d, POS.NOUN, 10);
+            Synset dog = new Synset(d, POS.NOUN, 20);
+            dog.getPointers().add(new Pointer(PointerType.HYPERNYM, dog, animal));
+            Word word = new Word(d, dog, "dog");
+            dog.getWords().add(word);
+            word.setUseCount(1);
+            InformationContent ic = d.getInformationContent();
+            Assert.assertSame(ic, d.getInformationContent());
+            Assert.assertEquals(0.0, dog.getInformationContent(), DELTA);
+
+            // word and use count edits drop information content
+            Word other = new Word(d, animal, "animal");
+            animal.getWords().add(other);
+            other.setUseCount(3);
+            Assert.assertNotSame(ic, d.getInformationContent());
+            Assert.assertEquals(-Math.log(1 / 4.0), dog.getInformationContent(), DELTA);
+            word.setUseCount(4);
+            Assert.assertEquals(-Math.log(4 / 7.0), dog.getInformationContent(), DELTA);
+        } finally {
+            d.close();
+        }
+    }
+
+    private static Dictionary getDictionary() throws JWNLException {
+        String path = FileDictionaryFixture.getDataPath("information-content");
+        return FileDictionaryFixture.getInstance(Dictionary.ORDINALS_PATH_KEY, path, Dictionary.HYPERNYM_CLOSURE_PATH_KEY, path,
+                Dictionary.INFORMATION_CONTENT_PATH_KEY, path, Dictionary.INFORMATION_CONTENT_SMOOTHING_KEY, "true");
+    }
+}
@@ -0,0 +1,233 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.IndexWord;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.FileDictionaryFixture;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Tests LemmaIndex and lemma index backed lookups.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestLemmaIndex {
+
+    private static final String[] substrings = {"dog", "ent", "physical ent", "physical_ent", "ab", "a", "zzqq", "tree"};
+
+    private static Dictionary scanDictionary;
+    private static Dictionary indexDictionary;
+
+    @BeforeClass
+    public static void initDictionary() throws JWNLException {
+        scanDictionary = Dictionary.getInstance(TestLemmaIndex.class.getResourceAsStream("/test_file_properties.xml"));
+        indexDictionary = getIndexDictionary();
+    }
+
+    @AfterClass
+    public static void closeDictionary() throws JWNLException {
+        if (null != scanDictionary) {
+            scanDictionary.close();
+        }
+        if (null != indexDictionary) {
+            indexDictionary.close();
+        }
+    }
+
+    @Test
+    public void testContaining() {
+        LemmaIndex index = new LemmaIndex(Arrays.asList("abc", "bcd", "abcd", "xabcx", "ab", "abc"));
+        Assert.assertEquals(5, index.size());
+        Assert.assertEquals(Arrays.asList("abc", "abcd", "xabcx"), index.getLemmasContaining("abc"));
+        Assert.assertEquals(Arrays.asList("abcd", "bcd"), index.getLemmasContaining("bcd"));
+        Assert.assertEquals(Arrays.asList("ab", "abc", "abcd", "xabcx"), index.getLemmasContaining("ab"));
+        Assert.assertEquals(Collections.singletonList("abcd"), index.getLemmasContaining("abcd"));
+        Assert.assertTrue(index.getLemmasContaining("abcdx").isEmpty());
+        Assert.assertTrue(index.getLemmasContaining("cab").isEmpty());
+        Assert.assertEquals(1, index.getId("abc"));
+        Assert.assertTrue(index.getId("b") < 0);
+    }
+
+    @Test
+    public void testRepeatedGrams() {
+        LemmaIndex index = new LemmaIndex(Arrays.asList("aaaa", "aaa", "aa"));
+        Assert.assertEquals(Arrays.asList("aaa", "aaaa"), index.getLemmasContaining("aaa"));
+        Assert.assertEquals(Collections.singletonList("aaaa"), index.getLemmasContaining("aaaa"));
+    }
+
+    @Test
+    public void testFrontCoding() {
+        String[] strings = new String[100];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = "prefix " + (char) ('a' + i / 26) + (char) ('a' + i % 26);
+        }
+        strings[98] = "t\uD83D\uDE00a";
+        strings[99] = "t\uD83D\uDE01b";
+        Arrays.sort(strings);
+        FrontCodedStrings coded = new FrontCodedStrings(strings);
+        Assert.assertEquals(strings.length, coded.size());
+        for (int i = 0; i < strings.length; i++) {
+            Assert.assertEquals(strings[i], coded.get(i));
+            Assert.assertEquals(i, coded.lowerBound(strings[i]));
+        }
+        Assert.assertEquals(0, coded.lowerBound(""));
+        Assert.assertEquals(strings.length, coded.lowerBound("z"));
+        Assert.assertEquals(26, coded.prefixUpperBound("prefix a"));
+        Assert.assertEquals(98, coded.prefixUpperBound("prefix"));
+    }
+
+    @Test
+    public void testPrefix() {
+        LemmaIndex index = new LemmaIndex(Arrays.asList("dog", "dogma", "dogwood", "do", "cat", "dogs"));
+        Assert.assertEquals(Arrays.asList("dog", "dogma", "dogs", "dogwood"), index.getLemmasByPrefix("dog", 10, false));
+        Assert.assertEquals(Arrays.asList("dog", "dogma"), index.getLemmasByPrefix("dog", 2, false));
+        Assert.assertTrue(index.getLemmasByPrefix("dox", 10, false).isEmpty());
+        Assert.assertTrue(index.getLemmasByPrefix("dog", 0, false).isEmpty());
+
+        // cat, do, dog, dogma, dogs, dogwood
+        index = index.withWeights(new int[]{5, 1, 10, 2, 0, 2});
+        Assert.assertEquals(Arrays.asList("dog", "dogma", "dogwood"), index.getLemmasByPrefix("dog", 3, true));
+        Assert.assertEquals(Arrays.asList("dog", "dogma", "dogwood", "do"), index.getLemmasByPrefix("d", 4, true));
+    }
+
+    @Test
+    public void testWithin() {
+        LemmaIndex index = new LemmaIndex(Arrays.asList("dog", "dogs", "fog", "frog", "log", "dig", "do", "cat", "doge"));
+        Assert.assertEquals(Collections.singletonList("dog"), index.getLemmasWithin("dog", 0, 10));
+        Assert.assertEquals(Arrays.asList("dog", "dig", "do", "doge", "dogs", "fog", "log"), index.getLemmasWithin("dog", 1, 10));
+        Assert.assertEquals(Arrays.asList("dog", "dig", "do"), index.getLemmasWithin("dog", 1, 3));
+        Assert.assertEquals(Arrays.asList("do", "dog", "dig", "doge"), index.getLemmasWithin("dof", 2, 4));
+        Assert.assertTrue(index.getLemmasWithin("xyzzy", 2, 10).isEmpty());
+    }
+
+    @Test
+    public void testWithinBruteForce() throws JWNLException {
+        List<String> lemmas = new ArrayList<>();
+        Iterator<IndexWord> i = scanDictionary.getIndexWordIterator(POS.ADVERB);
+        while (i.hasNext()) {
+            lemmas.add(i.next().getLemma());
+        }
+        LemmaIndex index = new LemmaIndex(lemmas);
+        for (String term : new String[]{"quikly", "abot", "a", "never", "zz", "well"}) {
+            for (int maxEdits = 0; maxEdits <= 2; maxEdits++) {
+                Set<String> expected = new HashSet<>();
+                for (String lemma : lemmas) {
+                    if (distance(term, lemma) <= maxEdits) {
+                        expected.add(lemma);
+                    }
+                }
+                Assert.assertEquals(term + " " + maxEdits, expected, new HashSet<>(index.getLemmasWithin(term, maxEdits, Integer.MAX_VALUE)));
+            }
+        }
+    }
+
+    @Test
+    public void testLookupFuzzy() throws JWNLException {
+        List<IndexWord> result = indexDictionary.lookupFuzzy(POS.ADVERB, "quikly", 1, 5);
+        Assert.assertFalse(result.isEmpty());
+        Assert.assertEquals("quickly", result.get(0).getLemma());
+    }
+
+    private static int distance(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                if (0 == i || 0 == j) {
+                    d[i][j] = i + j;
+                } else {
+                    d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1));
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    @Test
+    public void testWriteRead() throws IOException {
+        LemmaIndex index = new LemmaIndex(Arrays.asList("physical entity", "entity", "abstract entity", "ìdentity"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            index.write(out);
+        }
+        LemmaIndex copy = LemmaIndex.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertEquals(index.size(), copy.size());
+        for (int i = 0; i < index.size(); i++) {
+            Assert.assertEquals(index.getLemma(i), copy.getLemma(i));
+        }
+        Assert.assertEquals(index.getLemmasContaining("entity"), copy.getLemmasContaining("entity"));
+        Assert.assertEquals(Collections.singletonList("ìdentity"), copy.getLemmasContaining("ìde"));
+    }
+
+    @Test
+    public void testSubstringIterator() throws JWNLException {
+        for (POS pos : POS.getAllPOS()) {
+            for (String substring : substrings) {
+                Assert.assertEquals(pos.getLabel() + " " + substring,
+                        getLemmas(scanDictionary.getIndexWordIterator(pos, substring)),
+                        getLemmas(indexDictionary.getIndexWordIterator(pos, substring)));
+            }
+        }
+    }
+
+    @Test
+    public void testPrefixLookup() throws JWNLException {
+        List<String> expected = new ArrayList<>();
+        Iterator<IndexWord> i = scanDictionary.getIndexWordIterator(POS.NOUN, "dog");
+        while (i.hasNext()) {
+            String lemma = i.next().getLemma();
+            if (lemma.startsWith("dog")) {
+                expected.add(lemma);
+            }
+        }
+        Collections.sort(expected);
+        List<String> actual = new ArrayList<>();
+        for (IndexWord iw : indexDictionary.getIndexWordsByPrefix(POS.NOUN, "Dog", 1000)) {
+            actual.add(iw.getLemma());
+        }
+        Assert.assertEquals(expected, actual);
+
+        List<IndexWord> ranked = indexDictionary.getIndexWordsByPrefix(POS.VERB, "run", 5, true);
+        Assert.assertEquals(5, ranked.size());
+        Assert.assertEquals("run", ranked.get(0).getLemma());
+        LemmaIndex index = indexDictionary.getLemmaIndex(POS.VERB);
+        for (int j = 1; j < ranked.size(); j++) {
+            Assert.assertTrue(index.getWeight(index.getId(ranked.get(j - 1).getLemma())) >= index.getWeight(index.getId(ranked.get(j).getLemma())));
+        }
+    }
+
+    @Test
+    public void testReopen() throws JWNLException {
+        indexDictionary.getLemmaIndex(POS.ADVERB);
+        File file = new File(FileDictionaryFixture.getDataPath("lemma-index"), "lemma_index." + POS.ADVERB.getLabel());
+        FileDictionaryFixture.stamp(file);
+        Dictionary d = getIndexDictionary();
+        try {
+            Assert.assertEquals(indexDictionary.getLemmaIndex(POS.ADVERB).size(), d.getLemmaIndex(POS.ADVERB).size());
+            Assert.assertEquals(getLemmas(indexDictionary.getIndexWordIterator(POS.ADVERB, "ly")),
+                    getLemmas(d.getIndexWordIterator(POS.ADVERB, "ly")));
+        } finally {
+            d.close();
+        }
+        FileDictionaryFixture.assertNotWritten(file);
+    }
+
+    private static Set<String> getLemmas(Iterator<IndexWord> i) {
+        Set<String> result = new HashSet<>();
+        while (i.hasNext()) {
+            result.add(i.next().getLemma());
+        }
+        return result;
+    }
+
+    private static Dictionary getIndexDictionary() throws JWNLException {
+        return FileDictionaryFixture.getInstance(Dictionary.LEMMA_INDEX_KEY, "true",
+                Dictionary.LEMMA_INDEX_PATH_KEY, FileDictionaryFixture.getDataPath("lemma-index"));
+    }
+}
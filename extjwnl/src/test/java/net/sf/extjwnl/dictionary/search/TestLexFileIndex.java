@@ -0,0 +1,140 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.*;
+import net.sf.extjwnl.data.list.PointerTargetNode;
+import net.sf.extjwnl.data.list.PointerTargetNodeList;
+import net.sf.extjwnl.data.list.PointerTargetTree;
+import net.sf.extjwnl.data.list.PointerTargetTreeNode;
+import net.sf.extjwnl.data.list.PointerTargetTreeNodeList;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.FileDictionaryFixture;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Tests LexFileIndex and lexicographer file lookups.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestLexFileIndex {
+
+    @Test
+    public void testBuild() throws IOException {
+        LexFileIndex index = new LexFileIndex.Builder().add(3, 300).add(1, 200).add(3, 100).add(1, 50).add(5, 10).build();
+        Assert.assertEquals(5, index.size());
+        Assert.assertArrayEquals(new long[]{50, 200}, index.getOffsets(1));
+        Assert.assertArrayEquals(new long[]{100, 300}, index.getOffsets(3));
+        Assert.assertArrayEquals(new long[]{10}, index.getOffsets(5));
+        Assert.assertEquals(0, index.getOffsets(0).length);
+        Assert.assertEquals(0, index.getOffsets(4).length);
+        Assert.assertEquals(0, index.getOffsets(6).length);
+        Assert.assertEquals(0, index.getOffsets(-1).length);
+        Assert.assertEquals(2, index.getCount(3));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            index.write(out);
+        }
+        LexFileIndex copy = LexFileIndex.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertEquals(index.size(), copy.size());
+        Assert.assertArrayEquals(index.getOffsets(3), copy.getOffsets(3));
+
+        Assert.assertEquals(0, new LexFileIndex.Builder().build().getOffsets(0).length);
+    }
+
+    @Test
+    public void testSynsetIterator() throws JWNLException {
+        Dictionary d = getDictionary();
+        try {
+            Map<Long, List<Long>> expected = new HashMap<>();
+            Iterator<Synset> si = d.getSynsetIterator(POS.ADJECTIVE);
+            while (si.hasNext()) {
+                Synset synset = si.next();
+                expected.computeIfAbsent(synset.getLexFileNum(), k -> new ArrayList<>()).add(synset.getOffset());
+            }
+            Assert.assertTrue(expected.keySet().containsAll(Arrays.asList(0L, 1L)));
+            for (long lexFileNum = 0; lexFileNum < 45; lexFileNum++) {
+                List<Long> actual = new ArrayList<>();
+                si = d.getSynsetIterator(POS.ADJECTIVE, lexFileNum);
+                while (si.hasNext()) {
+                    Synset synset = si.next();
+                    Assert.assertEquals(lexFileNum, synset.getLexFileNum());
+                    actual.add(synset.getOffset());
+                }
+                Assert.assertEquals(expected.getOrDefault(lexFileNum, Collections.emptyList()), actual);
+            }
+
+            // reopen reads the index written by the first instance
+            File file = new File(FileDictionaryFixture.getDataPath("lex-file-index"), "lex_file_index." + POS.ADJECTIVE.getLabel());
+            FileDictionaryFixture.stamp(file);
+            Dictionary reopened = getDictionary();
+            try {
+                Assert.assertArrayEquals(d.getLexFileIndex(POS.ADJECTIVE).getOffsets(1), reopened.getLexFileIndex(POS.ADJECTIVE).getOffsets(1));
+            } finally {
+                reopened.close();
+            }
+            FileDictionaryFixture.assertNotWritten(file);
+        } finally {
+            d.close();
+        }
+    }
+
+    @Test
+    public void testTraversalFilters() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(TestLexFileIndex.class.getResourceAsStream("/test_file_properties.xml"));
+        try {
+            Synset food = d.getIndexWord(POS.NOUN, "food").getSenses().get(0);
+            PointerTargetNodeList hyponyms = PointerUtils.getDirectHyponyms(food);
+            long lexFileNum = hyponyms.get(0).getSynset().getLexFileNum();
+
+            PointerTargetNodeList filtered = hyponyms.getNodesInLexFile(lexFileNum);
+            Assert.assertFalse(filtered.isEmpty());
+            int expected = 0;
+            for (PointerTargetNode node : hyponyms) {
+                if (lexFileNum == node.getSynset().getLexFileNum()) {
+                    expected++;
+                }
+            }
+            Assert.assertEquals(expected, filtered.size());
+
+            PointerTargetTree tree = PointerUtils.getHyponymTree(food, 2);
+            List<PointerTargetTreeNode> matches = tree.getAllMatches(new PointerTargetTreeNodeList.FindLexFileOperation(lexFileNum));
+            Assert.assertFalse(matches.isEmpty());
+            for (PointerTargetTreeNode node : matches) {
+                Assert.assertEquals(lexFileNum, node.getSynset().getLexFileNum());
+            }
+        } finally {
+            d.close();
+        }
+    }
+
+    @Test
+    public void testEdit() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(Dictionary.class.getResourceAsStream("/net/sf/extjwnl/dictionary/mem_properties.xml"));
+        try {
+            d.edit();
+            Synset first = new Synset(d, POS.NOUN, 10);
+            Synset second = new Synset(d, POS.NOUN, 20);
+            first.setLexFileNum(5);
+            second.setLexFileNum(5);
+            LexFileIndex index = d.getLexFileIndex(POS.NOUN);
+            Assert.assertSame(index, d.getLexFileIndex(POS.NOUN));
+            Assert.assertArrayEquals(new long[]{10, 20}, index.getOffsets(5));
+
+            second.setLexFileNum(6);
+            Iterator<Synset> si = d.getSynsetIterator(POS.NOUN, 5);
+            Assert.assertEquals(first, si.next());
+            Assert.assertFalse(si.hasNext());
+        } finally {
+            d.close();
+        }
+    }
+
+    private static Dictionary getDictionary() throws JWNLException {
+        return FileDictionaryFixture.getInstance(Dictionary.LEX_FILE_INDEX_PATH_KEY, FileDictionaryFixture.getDataPath("lex-file-index"));
+    }
+}
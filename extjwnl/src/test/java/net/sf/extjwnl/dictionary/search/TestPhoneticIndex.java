@@ -0,0 +1,69 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.IndexWord;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.dictionary.Dictionary;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+/**
+ * Tests PhoneticIndex and phonetic lookups.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestPhoneticIndex {
+
+    @Test
+    public void testSoundex() {
+        Assert.assertEquals("R163", PhoneticIndex.encode("Robert"));
+        Assert.assertEquals("R163", PhoneticIndex.encode("Rupert"));
+        Assert.assertEquals("R150", PhoneticIndex.encode("Rubin"));
+        Assert.assertEquals("A261", PhoneticIndex.encode("Ashcraft"));
+        Assert.assertEquals("T522", PhoneticIndex.encode("Tymczak"));
+        Assert.assertEquals("P236", PhoneticIndex.encode("Pfister"));
+        Assert.assertEquals("H555", PhoneticIndex.encode("Honeyman"));
+    }
+
+    @Test
+    public void testEncode() {
+        Assert.assertEquals(PhoneticIndex.encode("cat"), PhoneticIndex.encode("kat"));
+        Assert.assertEquals(PhoneticIndex.encode("phone"), PhoneticIndex.encode("fone"));
+        Assert.assertEquals(PhoneticIndex.encode("knight"), PhoneticIndex.encode("night"));
+        Assert.assertEquals(PhoneticIndex.encode("cent"), PhoneticIndex.encode("sent"));
+        Assert.assertEquals(PhoneticIndex.encode("café"), PhoneticIndex.encode("cafe"));
+        Assert.assertEquals("D200 H200", PhoneticIndex.encode("dog's-house"));
+        Assert.assertEquals(PhoneticIndex.encode("hot dog"), PhoneticIndex.encode("hot_dog"));
+        Assert.assertEquals("", PhoneticIndex.encode("1-2"));
+    }
+
+    @Test
+    public void testIndex() {
+        PhoneticIndex index = new PhoneticIndex(Arrays.asList("cat", "kat", "dog", "cot", "phone", "42", "fawn", "cat"));
+        Assert.assertEquals(6, index.size());
+        Assert.assertEquals(3, index.getKeyCount());
+        Assert.assertEquals(Arrays.asList("cat", "cot", "kat"), index.getLemmasLike("kit"));
+        Assert.assertEquals(Arrays.asList("fawn", "phone"), index.getLemmasLike("fone"));
+        Assert.assertEquals(Collections.singletonList("dog"), index.getLemmas(PhoneticIndex.encode("dog")));
+        Assert.assertTrue(index.getLemmasLike("zebra").isEmpty());
+        Assert.assertTrue(index.getLemmasLike("").isEmpty());
+    }
+
+    @Test
+    public void testLookupPhonetic() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(TestPhoneticIndex.class.getResourceAsStream("/test_file_properties.xml"));
+        try {
+            List<IndexWord> result = d.lookupPhonetic(POS.ADVERB, "kwikly");
+            Set<String> lemmas = new HashSet<>();
+            for (IndexWord iw : result) {
+                lemmas.add(iw.getLemma());
+                Assert.assertEquals(PhoneticIndex.encode("kwikly"), PhoneticIndex.encode(iw.getLemma()));
+            }
+            Assert.assertTrue(lemmas.contains("quickly"));
+        } finally {
+            d.close();
+        }
+    }
+}
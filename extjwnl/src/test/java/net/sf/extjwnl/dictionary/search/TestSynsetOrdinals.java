@@ -0,0 +1,158 @@
+package net.sf.extjwnl.dictionary.search;
+
+import net.sf.extjwnl.JWNLException;
+import net.sf.extjwnl.data.POS;
+import net.sf.extjwnl.data.Synset;
+import net.sf.extjwnl.dictionary.Dictionary;
+import net.sf.extjwnl.dictionary.FileDictionaryFixture;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.BitSet;
+import java.util.Iterator;
+
+/**
+ * Tests SynsetOrdinals and ordinal lookups.
+ *
+ * @author <a href="http://autayeu.com/">Aliaksandr Autayeu</a>
+ */
+public class TestSynsetOrdinals {
+
+    @Test
+    public void testBuild() throws IOException {
+        SynsetOrdinals ordinals = new SynsetOrdinals.Builder()
+                .add(POS.ADVERB, 10).add(POS.NOUN, 300).add(POS.VERB, 20).add(POS.NOUN, 100).build();
+        Assert.assertEquals(4, ordinals.size());
+        Assert.assertEquals(0, ordinals.getOrdinal(POS.NOUN, 100));
+        Assert.assertEquals(1, ordinals.getOrdinal(POS.NOUN, 300));
+        Assert.assertEquals(2, ordinals.getOrdinal(POS.VERB, 20));
+        Assert.assertEquals(3, ordinals.getOrdinal(POS.ADVERB, 10));
+        Assert.assertEquals(-1, ordinals.getOrdinal(POS.NOUN, 200));
+        Assert.assertEquals(-1, ordinals.getOrdinal(POS.ADJECTIVE, 100));
+        Assert.assertEquals(POS.VERB, ordinals.getPOS(2));
+        Assert.assertEquals(POS.ADVERB, ordinals.getPOS(3));
+        Assert.assertEquals(300, ordinals.getOffset(1));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ordinals.write(out);
+        }
+        SynsetOrdinals copy = SynsetOrdinals.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertEquals(ordinals.size(), copy.size());
+        Assert.assertEquals(ordinals.getOrdinal(POS.ADVERB, 10), copy.getOrdinal(POS.ADVERB, 10));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfRange() {
+        new SynsetOrdinals.Builder().add(POS.NOUN, 100).build().getOffset(1);
+    }
+
+    @Test
+    public void testOrdinals() throws JWNLException {
+        Dictionary d = getDictionary();
+        try {
+            int count = d.getSynsetCount();
+            BitSet seen = new BitSet(count);
+            for (POS pos : POS.getAllPOS()) {
+                Iterator<Synset> si = d.getSynsetIterator(pos);
+                for (int i = 0; i < 500 && si.hasNext(); i++) {
+                    Synset synset = si.next();
+                    int ordinal = synset.getOrdinal();
+                    Assert.assertTrue(0 <= ordinal && ordinal < count);
+                    Assert.assertFalse(seen.get(ordinal));
+                    seen.set(ordinal);
+                    Assert.assertEquals(synset, d.getSynsetByOrdinal(ordinal));
+                }
+            }
+            Assert.assertEquals(POS.NOUN, d.getSynsetByOrdinal(0).getPOS());
+            Assert.assertEquals(POS.ADVERB, d.getSynsetByOrdinal(count - 1).getPOS());
+
+            // reopen reads the ordinals written by the first instance
+            File file = getFile();
+            FileDictionaryFixture.stamp(file);
+            Dictionary reopened = getDictionary();
+            try {
+                Assert.assertEquals(count, reopened.getSynsetCount());
+                Assert.assertEquals(d.getSynsetByOrdinal(count / 2), reopened.getSynsetByOrdinal(count / 2));
+            } finally {
+                reopened.close();
+            }
+            FileDictionaryFixture.assertNotWritten(file);
+        } finally {
+            d.close();
+        }
+    }
+
+    @Test
+    public void testStaleFile() throws Exception {
+        Dictionary d = getDictionary();
+        int count;
+        try {
+            count = d.getSynsetCount();
+        } finally {
+            d.close();
+        }
+        File file = getFile();
+        Assert.assertTrue(file.exists());
+        long fingerprint;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            fingerprint = in.readLong();
+        }
+
+        // ordinals of one synset, written for other dictionary files
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeLong(fingerprint + 1);
+            new SynsetOrdinals.Builder().add(POS.NOUN, 100).build().write(out);
+        }
+        d = getDictionary();
+        try {
+            Assert.assertEquals(count, d.getSynsetCount());
+        } finally {
+            d.close();
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            Assert.assertEquals(fingerprint, in.readLong());
+            Assert.assertEquals(count, SynsetOrdinals.read(in).size());
+        }
+    }
+
+    @Test
+    public void testEdit() throws JWNLException {
+        Dictionary d = Dictionary.getInstance(Dictionary.class.getResourceAsStream("/net/sf/extjwnl/dictionary/mem_properties.xml"));
+        try {
+            d.edit();
+            Synset first = new Synset(d, POS.NOUN, 10);
+            Synset second = new Synset(d, POS.NOUN, 20);
+            SynsetOrdinals ordinals = d.getSynsetOrdinals();
+            Assert.assertSame(ordinals, d.getSynsetOrdinals());
+            Assert.assertEquals(2, d.getSynsetCount());
+            Assert.assertEquals(1, second.getOrdinal());
+
+            // ordinals are built again after synsets change
+            Synset added = new Synset(d, POS.NOUN, 5);
+            Assert.assertNotSame(ordinals, d.getSynsetOrdinals());
+            Assert.assertEquals(3, d.getSynsetCount());
+            Assert.assertEquals(0, added.getOrdinal());
+            Assert.assertEquals(2, second.getOrdinal());
+
+            added.setOffset(30);
+            Assert.assertEquals(2, added.getOrdinal());
+            Assert.assertEquals(0, first.getOrdinal());
+
+            d.removeSynset(first);
+            Assert.assertEquals(2, d.getSynsetCount());
+            Assert.assertEquals(0, second.getOrdinal());
+        } finally {
+            d.close();
+        }
+    }
+
+    private static Dictionary getDictionary() throws JWNLException {
+        return FileDictionaryFixture.getInstance(Dictionary.ORDINALS_PATH_KEY, FileDictionaryFixture.getDataPath("ordinals"));
+    }
+
+    private static File getFile() {
+        return new File(FileDictionaryFixture.getDataPath("ordinals"), "synset_ordinals");
+    }
+}
@@ -60,6 +60,8 @@ public class ewn {
                     "        -hmern                  Hierarchical Meronyms\n" +
                     "        -hholn                  Hierarchical Holonyms\n" +
                     "        -grep{n|v|a|r}          List of Compound Words\n" +
+                    "        -glos{n|v|a|r}          Synsets with Glosses Containing All Words\n" +
+                    "        -phrs{n|v|a|r}          Synsets with Glosses Containing the Phrase\n" +
                     "        -over                   Overview of Senses\n" +
                     "\n" +
                     "usage edit: ewn sensekey -command [value] [-command value] ... [sensekey -command ...]\n" +
@@ -1337,6 +1339,22 @@ public class ewn {
                             }
                         }//grep
 
+                        if ((arg.startsWith("-glos") || arg.startsWith("-phrs")) && 6 == arg.length()) {
+                            final boolean phrase = arg.startsWith("-phrs");
+                            if (needHelp) {
+                                System.out.println("Print all synsets whose glosses contain " + (phrase ? "the search string\n" +
+                                        "as a phrase." : "all words of the search string.") + " Case and punctuation are ignored.");
+                            }
+                            final POS p = POS.getPOSForKey(arg.substring(5));
+                            if (null != p) {
+                                System.out.println("\nGlosses of " + p.getLabel() + " containing " + key);
+                                final List<Synset> synsets = phrase ? d.searchGlossPhrase(p, key) : d.searchGlosses(p, key);
+                                for (final Synset synset : synsets) {
+                                    printSense("", synset, true, needLex, needOffset, needSenseNum, needSenseKeys);
+                                }
+                            }
+                        }//glos, phrs
+
                         if ("-over".equals(arg)) {
                             for (final POS pos : POS.getAllPOS()) {
                                 if (null != d.getMorphologicalProcessor()) {
@@ -1593,6 +1611,8 @@ public class ewn {
         }
 
         System.out.println("\t-grep" + iw.getPOS().getKey() + "\tList of Compound Words");
+        System.out.println("\t-glos" + iw.getPOS().getKey() + "\tSynsets with Glosses Containing All Words");
+        System.out.println("\t-phrs" + iw.getPOS().getKey() + "\tSynsets with Glosses Containing the Phrase");
         System.out.println("\t-over\tOverview of Senses");
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import net.sf.extjwnl.dictionary.file.DictionaryCatalogSet;
 import net.sf.extjwnl.dictionary.file.DictionaryFileType;
 import net.sf.extjwnl.dictionary.file.ObjectDictionaryFile;
 import net.sf.extjwnl.princeton.file.PrincetonObjectDictionaryFile;
+import net.sf.extjwnl.princeton.file.PrincetonSnapshotDictionaryFile;
 import net.sf.extjwnl.util.factory.NameValueParam;
 import net.sf.extjwnl.util.factory.Param;
 
@@ -43,10 +44,24 @@ public class DictionaryToMap {
      * @throws IOException   IOException
      */
     public DictionaryToMap(String propFile, String destinationDirectory) throws JWNLException, IOException {
+        this(propFile, destinationDirectory, false);
+    }
+
+    /**
+     * Initialize with the given map destination directory, using the properties file(usually file_properties.xml)
+     *
+     * @param propFile             properties file
+     * @param destinationDirectory destination directory for in-memory map files
+     * @param snapshot             whether to write binary snapshots instead of serialized maps
+     * @throws JWNLException JWNLException
+     * @throws IOException   IOException
+     */
+    public DictionaryToMap(String propFile, String destinationDirectory, boolean snapshot) throws JWNLException, IOException {
         dictionary = Dictionary.getInstance(new FileInputStream(propFile));
+        Class<?> fileType = snapshot ? PrincetonSnapshotDictionaryFile.class : PrincetonObjectDictionaryFile.class;
         HashMap<String, Param> params = new HashMap<>();
         params.put(DictionaryCatalog.DICTIONARY_PATH_KEY, new NameValueParam(dictionary, DictionaryCatalog.DICTIONARY_PATH_KEY, destinationDirectory));
-        params.put(DictionaryCatalog.DICTIONARY_FILE_TYPE_KEY, new NameValueParam(dictionary, DictionaryCatalog.DICTIONARY_FILE_TYPE_KEY, PrincetonObjectDictionaryFile.class.getCanonicalName()));
+        params.put(DictionaryCatalog.DICTIONARY_FILE_TYPE_KEY, new NameValueParam(dictionary, DictionaryCatalog.DICTIONARY_FILE_TYPE_KEY, fileType.getCanonicalName()));
         destinationFiles = new DictionaryCatalogSet<>(dictionary, params, ObjectDictionaryFile.class);
     }
 
@@ -115,8 +130,10 @@ public class DictionaryToMap {
     public static void main(String[] args) throws IOException, JWNLException {
         if (args.length == 2) {
             new DictionaryToMap(args[0], args[1]).convert();
+        } else if (args.length == 3 && "-snapshot".equals(args[2])) {
+            new DictionaryToMap(args[0], args[1], true).convert();
         } else {
-            System.out.println("Usage: DictionaryToMap <properties file> <destination directory>");
+            System.out.println("Usage: DictionaryToMap <properties file> <destination directory> [-snapshot]");
         }
     }
 }
\ No newline at end of file